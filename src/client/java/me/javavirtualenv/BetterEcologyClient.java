@@ -3,6 +3,7 @@ package me.javavirtualenv;
 import me.javavirtualenv.client.command.EcologyOverlayCommand;
 import me.javavirtualenv.client.hud.EcologyHudOverlay;
 import me.javavirtualenv.client.network.ClientEcologyPacketHandler;
+import me.javavirtualenv.client.network.ClientNeedsSubscription;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
@@ -16,6 +17,9 @@ public class BetterEcologyClient implements ClientModInitializer {
 		// Register client-side packet handlers
 		ClientEcologyPacketHandler.register();
 
+		// Subscribe to needs data while the overlay is enabled
+		ClientNeedsSubscription.register();
+
 		// Register HUD overlay
 		EcologyHudOverlay overlay = new EcologyHudOverlay();
 		HudRenderCallback.EVENT.register(overlay);
@@ -3,14 +3,17 @@ package me.javavirtualenv.client.command;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.context.CommandContext;
 import me.javavirtualenv.client.hud.EcologyHudOverlay;
+import me.javavirtualenv.client.network.ClientNeedsSubscription;
+import me.javavirtualenv.network.EcologyPackets;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandManager;
 import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.client.Minecraft;
 import net.minecraft.commands.CommandBuildContext;
 import net.minecraft.network.chat.Component;
 
 /**
  * Client-side command for toggling the debug overlay.
- * Usage: /ecologyoverlay
+ * Usage: /ecologyoverlay, /ecologyoverlay pin, /ecologyoverlay unpin
  */
 public class EcologyOverlayCommand {
 
@@ -18,6 +21,10 @@ public class EcologyOverlayCommand {
                                  CommandBuildContext registryAccess) {
         dispatcher.register(ClientCommandManager.literal("ecologyoverlay")
             .executes(EcologyOverlayCommand::toggleOverlay)
+            .then(ClientCommandManager.literal("pin")
+                .executes(EcologyOverlayCommand::pinTarget))
+            .then(ClientCommandManager.literal("unpin")
+                .executes(EcologyOverlayCommand::unpinAll))
         );
     }
 
@@ -25,9 +32,41 @@ public class EcologyOverlayCommand {
         EcologyHudOverlay.toggle();
         boolean enabled = EcologyHudOverlay.isEnabled();
 
+        // Subscribe or unsubscribe right away rather than waiting for the next client tick
+        ClientNeedsSubscription.update(Minecraft.getInstance());
+
         ctx.getSource().sendFeedback(Component.literal(
             enabled ? "§aEcology debug overlay enabled" : "§cEcology debug overlay disabled"
         ));
         return enabled ? 1 : 0;
     }
+
+    /**
+     * Pins the mob under the crosshair so its needs keep streaming while not looked at.
+     */
+    private static int pinTarget(CommandContext<FabricClientCommandSource> ctx) {
+        int entityId = ClientNeedsSubscription.getCrosshairMobId(Minecraft.getInstance());
+        if (entityId == EcologyPackets.NO_ENTITY) {
+            ctx.getSource().sendError(Component.literal("Look at a mob to pin it"));
+            return 0;
+        }
+
+        if (!ClientNeedsSubscription.pin(entityId)) {
+            ctx.getSource().sendError(Component.literal(
+                "Cannot pin more than " + EcologyPackets.MAX_PINNED_ENTITIES + " mobs"));
+            return 0;
+        }
+
+        ctx.getSource().sendFeedback(Component.literal("§aPinned entity " + entityId));
+        return 1;
+    }
+
+    /**
+     * Removes all pinned mobs.
+     */
+    private static int unpinAll(CommandContext<FabricClientCommandSource> ctx) {
+        ClientNeedsSubscription.clearPins();
+        ctx.getSource().sendFeedback(Component.literal("§cCleared pinned entities"));
+        return 1;
+    }
 }
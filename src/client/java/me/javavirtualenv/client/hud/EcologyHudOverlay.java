@@ -2,7 +2,9 @@ package me.javavirtualenv.client.hud;
 
 import me.javavirtualenv.behavior.core.AnimalThresholds;
 import me.javavirtualenv.client.network.ClientEcologyPacketHandler;
+import me.javavirtualenv.client.network.ClientNeedsSubscription;
 import me.javavirtualenv.mixin.MobAccessor;
+import me.javavirtualenv.network.EcologyPackets;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.Minecraft;
@@ -14,15 +16,14 @@ import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.ai.goal.GoalSelector;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.level.pathfinder.Path;
-import net.minecraft.world.phys.EntityHitResult;
-import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 
 import java.lang.reflect.Field;
 import java.util.Set;
 
 /**
- * Client-side HUD overlay that displays entity stats when looking at an animal.
+ * Client-side HUD overlay that displays entity stats when looking at an animal
+ * (or the first pinned animal when not looking at one).
  * Shows health, hunger, thirst, current AI goals, and pathfinding status.
  */
 public class EcologyHudOverlay implements HudRenderCallback {
@@ -61,12 +62,16 @@ public class EcologyHudOverlay implements HudRenderCallback {
             return;
         }
 
-        HitResult hitResult = minecraft.hitResult;
-        if (hitResult == null || hitResult.getType() != HitResult.Type.ENTITY) {
+        // Show the mob under the crosshair, falling back to the first pinned mob
+        int entityId = ClientNeedsSubscription.getCrosshairMobId(minecraft);
+        if (entityId == EcologyPackets.NO_ENTITY && !ClientNeedsSubscription.getPinnedEntityIds().isEmpty()) {
+            entityId = ClientNeedsSubscription.getPinnedEntityIds().getInt(0);
+        }
+        if (entityId == EcologyPackets.NO_ENTITY) {
             return;
         }
 
-        Entity targetEntity = ((EntityHitResult) hitResult).getEntity();
+        Entity targetEntity = minecraft.level.getEntity(entityId);
         if (!(targetEntity instanceof Mob mob)) {
             return;
         }
@@ -116,8 +121,9 @@ public class EcologyHudOverlay implements HudRenderCallback {
 
         // Hunger and Thirst (if data available)
         if (needsData != null) {
-            float hunger = needsData.hunger();
-            float thirst = needsData.thirst();
+            long gameTime = minecraft.level.getGameTime();
+            float hunger = needsData.hungerAt(gameTime);
+            float thirst = needsData.thirstAt(gameTime);
 
             String hungerColor = getNeedsColor(hunger);
             String hungerStatus = getHungerStatus(hunger);
@@ -1,5 +1,6 @@
 package me.javavirtualenv.client.network;
 
+import me.javavirtualenv.behavior.core.AnimalNeeds;
 import me.javavirtualenv.network.EcologyPackets;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 
@@ -9,6 +10,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Client-side handler for ecology network packets.
  * Stores synced animal needs data for rendering in the debug overlay.
+ * Data is extrapolated on read from the last synced value and rate.
  */
 public final class ClientEcologyPacketHandler {
 
@@ -27,11 +29,19 @@ public final class ClientEcologyPacketHandler {
         ClientPlayNetworking.registerGlobalReceiver(
             EcologyPackets.SyncAnimalNeedsPayload.TYPE,
             (payload, context) -> {
-                // Update cache with received data
-                needsCache.put(
-                    payload.entityId(),
-                    new AnimalNeedsData(payload.hunger(), payload.thirst())
-                );
+                // Update cache with every entity in the bundle
+                for (EcologyPackets.SyncAnimalNeedsPayload.Entry entry : payload.entries()) {
+                    needsCache.put(
+                        entry.entityId(),
+                        new AnimalNeedsData(
+                            EcologyPackets.dequantizeNeed(entry.hunger()),
+                            EcologyPackets.dequantizeNeed(entry.thirst()),
+                            entry.hungerRate(),
+                            entry.thirstRate(),
+                            payload.serverTick()
+                        )
+                    );
+                }
             }
         );
     }
@@ -52,8 +62,30 @@ public final class ClientEcologyPacketHandler {
     }
 
     /**
-     * Stores hunger and thirst data for an entity.
+     * Stores hunger and thirst for an entity as of a server tick, with their per-tick rates.
+     * The server only resends on discontinuities, so values are extrapolated to the
+     * current game time when read.
      */
-    public record AnimalNeedsData(float hunger, float thirst) {
+    public record AnimalNeedsData(float hunger, float thirst, float hungerRate, float thirstRate, long serverTick) {
+
+        /**
+         * Gets hunger extrapolated to the given game time.
+         */
+        public float hungerAt(long gameTime) {
+            return extrapolate(this.hunger, this.hungerRate, gameTime);
+        }
+
+        /**
+         * Gets thirst extrapolated to the given game time.
+         */
+        public float thirstAt(long gameTime) {
+            return extrapolate(this.thirst, this.thirstRate, gameTime);
+        }
+
+        private float extrapolate(float value, float rate, long gameTime) {
+            long elapsed = Math.max(0L, gameTime - this.serverTick);
+            float projected = value + rate * elapsed;
+            return Math.max(AnimalNeeds.MIN_VALUE, Math.min(AnimalNeeds.MAX_VALUE, projected));
+        }
     }
 }
@@ -0,0 +1,126 @@
+package me.javavirtualenv.client.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import me.javavirtualenv.client.hud.EcologyHudOverlay;
+import me.javavirtualenv.network.EcologyPackets;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.phys.EntityHitResult;
+import net.minecraft.world.phys.HitResult;
+
+/**
+ * Client side of the needs subscription handshake.
+ * Tells the server which entities the debug overlay needs data for: nothing while
+ * the overlay is disabled, otherwise the mob under the crosshair plus pinned mobs.
+ * A new subscription is only sent when one of those changes.
+ */
+public final class ClientNeedsSubscription {
+
+    private ClientNeedsSubscription() {
+        // Utility class
+    }
+
+    private static final IntList pinnedEntityIds = new IntArrayList();
+
+    private static boolean sentSubscribed = false;
+    private static int sentTargetEntityId = EcologyPackets.NO_ENTITY;
+    private static boolean pinsChanged = false;
+
+    /**
+     * Registers the client tick and connection listeners.
+     * Must be called during client initialization.
+     */
+    public static void register() {
+        ClientTickEvents.END_CLIENT_TICK.register(ClientNeedsSubscription::update);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> reset());
+    }
+
+    /**
+     * Pins an entity so its needs keep streaming while it is not under the crosshair.
+     *
+     * @return false if the pin limit is reached
+     */
+    public static boolean pin(int entityId) {
+        if (pinnedEntityIds.contains(entityId)) {
+            return true;
+        }
+        if (pinnedEntityIds.size() >= EcologyPackets.MAX_PINNED_ENTITIES) {
+            return false;
+        }
+        pinnedEntityIds.add(entityId);
+        pinsChanged = true;
+        return true;
+    }
+
+    /**
+     * Removes all pinned entities.
+     */
+    public static void clearPins() {
+        pinnedEntityIds.clear();
+        pinsChanged = true;
+    }
+
+    /**
+     * Gets the pinned entity ids, oldest first.
+     */
+    public static IntList getPinnedEntityIds() {
+        return pinnedEntityIds;
+    }
+
+    /**
+     * Gets the id of the mob under the crosshair, or {@link EcologyPackets#NO_ENTITY}.
+     */
+    public static int getCrosshairMobId(Minecraft minecraft) {
+        HitResult hitResult = minecraft.hitResult;
+        if (hitResult == null || hitResult.getType() != HitResult.Type.ENTITY) {
+            return EcologyPackets.NO_ENTITY;
+        }
+
+        Entity targetEntity = ((EntityHitResult) hitResult).getEntity();
+        return targetEntity instanceof Mob ? targetEntity.getId() : EcologyPackets.NO_ENTITY;
+    }
+
+    /**
+     * Sends a subscription update if the overlay state, crosshair target or pins changed.
+     * Runs every client tick; also called directly when the overlay is toggled.
+     */
+    public static void update(Minecraft minecraft) {
+        if (minecraft.player == null || !ClientPlayNetworking.canSend(EcologyPackets.NeedsSubscriptionPayload.TYPE)) {
+            return;
+        }
+
+        boolean subscribed = EcologyHudOverlay.isEnabled();
+        if (!subscribed) {
+            if (sentSubscribed) {
+                ClientPlayNetworking.send(EcologyPackets.NeedsSubscriptionPayload.unsubscribe());
+                sentSubscribed = false;
+                sentTargetEntityId = EcologyPackets.NO_ENTITY;
+            }
+            return;
+        }
+
+        int targetEntityId = getCrosshairMobId(minecraft);
+        if (sentSubscribed && targetEntityId == sentTargetEntityId && !pinsChanged) {
+            return;
+        }
+
+        ClientPlayNetworking.send(new EcologyPackets.NeedsSubscriptionPayload(
+            true, targetEntityId, new IntArrayList(pinnedEntityIds)));
+        sentSubscribed = true;
+        sentTargetEntityId = targetEntityId;
+        pinsChanged = false;
+    }
+
+    private static void reset() {
+        pinnedEntityIds.clear();
+        sentSubscribed = false;
+        sentTargetEntityId = EcologyPackets.NO_ENTITY;
+        pinsChanged = false;
+        ClientEcologyPacketHandler.clearCache();
+    }
+}
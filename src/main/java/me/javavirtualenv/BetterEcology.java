@@ -3,7 +3,17 @@ package me.javavirtualenv;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import me.javavirtualenv.behavior.core.AlarmBus;
 import me.javavirtualenv.behavior.core.AnimalNeeds;
+import me.javavirtualenv.behavior.core.HabitatBlockIndex;
+import me.javavirtualenv.behavior.core.HabitatSummaries;
+import me.javavirtualenv.behavior.core.EcologySpatialIndex;
+import me.javavirtualenv.behavior.core.EcologyTicker;
+import me.javavirtualenv.behavior.core.FoodItemIndex;
+import me.javavirtualenv.behavior.core.HerdRegistry;
+import me.javavirtualenv.behavior.core.LineOfSightCache;
+import me.javavirtualenv.behavior.core.NeedsScheduler;
+import me.javavirtualenv.behavior.core.PackRegistry;
 import me.javavirtualenv.behavior.core.WolfPackData;
 import me.javavirtualenv.debug.DebugEcoCommand;
 import me.javavirtualenv.network.EcologyPackets;
@@ -28,6 +38,9 @@ public class BetterEcology implements ModInitializer {
 		// This ensures attachments are available for deserialization
 		registerAttachments();
 
+		// Register world event listeners
+		registerEvents();
+
 		// Register network packets
 		registerNetworking();
 
@@ -41,13 +54,31 @@ public class BetterEcology implements ModInitializer {
 	 * Registers all data attachments used by the mod.
 	 * This must be called during mod initialization.
 	 */
+	@SuppressWarnings("deprecation")
 	private void registerAttachments() {
 		// Simply access the static fields to trigger class loading and attachment registration
-		LOGGER.debug("Registering hunger attachment: {}", AnimalNeeds.HUNGER_ATTACHMENT);
-		LOGGER.debug("Registering thirst attachment: {}", AnimalNeeds.THIRST_ATTACHMENT);
-		LOGGER.debug("Registering last_damage_tick attachment: {}", AnimalNeeds.LAST_DAMAGE_TICK_ATTACHMENT);
-		LOGGER.debug("Registering initialized attachment: {}", AnimalNeeds.INITIALIZED_ATTACHMENT);
-		LOGGER.debug("Registering wolf pack attachment: {}", WolfPackData.PACK_DATA_ATTACHMENT);
+		LOGGER.debug("Registering needs attachment: {}", AnimalNeeds.NEEDS_ATTACHMENT);
+		LOGGER.debug("Registering legacy needs attachments for migration: {}, {}, {}, {}",
+			AnimalNeeds.HUNGER_ATTACHMENT, AnimalNeeds.THIRST_ATTACHMENT,
+			AnimalNeeds.LAST_DAMAGE_TICK_ATTACHMENT, AnimalNeeds.INITIALIZED_ATTACHMENT);
+		LOGGER.debug("Registering wolf pack attachments: {}, {}",
+			WolfPackData.PACK_DATA_ATTACHMENT, WolfPackData.SHARE_COOLDOWN.getAttachment());
+	}
+
+	/**
+	 * Registers server event listeners used by the needs system.
+	 */
+	private void registerEvents() {
+		HabitatSummaries.register();
+		EcologyTicker.register();
+		EcologySpatialIndex.register();
+		NeedsScheduler.register();
+		HerdRegistry.register();
+		PackRegistry.register();
+		FoodItemIndex.register();
+		LineOfSightCache.register();
+		AlarmBus.register();
+		HabitatBlockIndex.register();
 	}
 
 	/**
@@ -0,0 +1,290 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-level bus for alarm and contact signals between animals.
+ *
+ * <p>A goal publishes an {@link Alarm} once, with an origin, a radius, the class of mob that
+ * can hear it and how long it stays fresh. Alarms are queued and delivered at the end of the
+ * level tick: alarms for the same receiver class whose areas overlap share one spatial index
+ * query, and each receiver keeps only the latest alarm of each kind in its inbox. Goals react
+ * by polling their own inbox with {@link #poll} or {@link #take}, which costs a map lookup
+ * instead of a scan for signalling neighbours.
+ *
+ * <p>A mob receives alarms of a kind once it has polled for that kind, so mobs without a goal
+ * that listens are never visited. Receivers can {@link #relay} an alarm a limited number of
+ * times; relays are delivered on the next tick and a mob ignores further relays of an alarm
+ * it has already heard, so chains spread outward without echoing back.
+ */
+public final class AlarmBus {
+
+    private AlarmBus() {
+        // Utility class
+    }
+
+    // ========== ALARM KINDS ==========
+
+    /** A predator was spotted; {@link Alarm#threat()} is the predator. */
+    public static final int PREDATOR = 1;
+    /** A member of a school or herd was attacked at {@link Alarm#threatPos()}. */
+    public static final int SCHOOL_THREAT = 1 << 1;
+    /** A flock contact call. */
+    public static final int CONTACT_CALL = 1 << 2;
+    /** A baby's separation distress call; {@link Alarm#source()} is the baby. */
+    public static final int DISTRESS = 1 << 3;
+
+    private static final int KIND_COUNT = 4;
+
+    // Chains of each kind a receiver remembers having heard, so relays of any of them are ignored
+    private static final int RECENT_CHAINS = 4;
+
+    private static final Map<ResourceKey<Level>, List<Alarm>> pending = new HashMap<>();
+    private static final Reference2ObjectOpenHashMap<Mob, Inbox> inboxes = new Reference2ObjectOpenHashMap<>();
+
+    private static long nextChainId;
+
+    /**
+     * One alarm signal.
+     *
+     * @param kind one of the alarm kind bits
+     * @param source the entity that emitted (or relayed) the alarm
+     * @param origin where the alarm was emitted; receivers within {@code radius} of it hear it
+     * @param radius hearing radius in blocks
+     * @param receiverType class of mob that can hear the alarm
+     * @param threat the entity the alarm is about, if any
+     * @param threatPos where the danger is; the original origin for relayed alarms
+     * @param lifetimeTicks ticks a delivered alarm stays fresh in a receiver's inbox
+     * @param relays how many more times the alarm may be relayed
+     * @param chainId shared by an alarm and all of its relays
+     */
+    public record Alarm(int kind, Entity source, Vec3 origin, double radius, Class<? extends Mob> receiverType,
+                        @Nullable LivingEntity threat, Vec3 threatPos, int lifetimeTicks, int relays, long chainId) {
+
+        /**
+         * Creates an alarm emitted at the source's position, fresh for 20 ticks and not relayed.
+         */
+        public static Alarm of(int kind, Entity source, double radius, Class<? extends Mob> receiverType) {
+            return new Alarm(kind, source, source.position(), radius, receiverType, null, source.position(), 20, 0, nextChainId++);
+        }
+
+        /**
+         * Sets the entity the alarm is about; the danger position follows it.
+         */
+        public Alarm withThreat(LivingEntity threat) {
+            return new Alarm(this.kind, this.source, this.origin, this.radius, this.receiverType,
+                threat, threat.position(), this.lifetimeTicks, this.relays, this.chainId);
+        }
+
+        public Alarm withLifetime(int lifetimeTicks) {
+            return new Alarm(this.kind, this.source, this.origin, this.radius, this.receiverType,
+                this.threat, this.threatPos, lifetimeTicks, this.relays, this.chainId);
+        }
+
+        public Alarm withRelays(int relays) {
+            return new Alarm(this.kind, this.source, this.origin, this.radius, this.receiverType,
+                this.threat, this.threatPos, this.lifetimeTicks, relays, this.chainId);
+        }
+    }
+
+    /**
+     * Registers the tick and lifecycle listeners that deliver alarms and drop inboxes.
+     */
+    public static void register() {
+        ServerTickEvents.END_WORLD_TICK.register(AlarmBus::deliver);
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+            if (entity instanceof Mob mob) {
+                inboxes.remove(mob);
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            pending.clear();
+            inboxes.clear();
+        });
+    }
+
+    // ========== PUBLISHING ==========
+
+    /**
+     * Queues an alarm for delivery at the end of the current tick. Ignored on the client.
+     */
+    public static void publish(Alarm alarm) {
+        if (alarm.source().level() instanceof ServerLevel level) {
+            pending.computeIfAbsent(level.dimension(), key -> new ArrayList<>()).add(alarm);
+        }
+    }
+
+    /**
+     * Re-emits a heard alarm from the relayer's position, if it has relays left.
+     *
+     * @return true if the alarm was relayed
+     */
+    public static boolean relay(Mob relayer, Alarm heard) {
+        if (heard.relays() <= 0) {
+            return false;
+        }
+        publish(new Alarm(heard.kind(), relayer, relayer.position(), heard.radius(), heard.receiverType(),
+            heard.threat(), heard.threatPos(), heard.lifetimeTicks(), heard.relays() - 1, heard.chainId()));
+        return true;
+    }
+
+    // ========== RECEIVING ==========
+
+    /**
+     * Gets the latest fresh alarm of a kind delivered to the mob, or null.
+     * Polling subscribes the mob to that kind.
+     */
+    @Nullable
+    public static Alarm poll(Mob mob, int kind) {
+        Inbox inbox = inboxes.get(mob);
+        if (inbox == null) {
+            if (mob.level().isClientSide()) {
+                return null;
+            }
+            inbox = new Inbox();
+            inboxes.put(mob, inbox);
+        }
+        inbox.kindMask |= kind;
+        return inbox.fresh(kind, mob.level().getGameTime());
+    }
+
+    /**
+     * Like {@link #poll}, but removes the alarm so it is only acted on once.
+     */
+    @Nullable
+    public static Alarm take(Mob mob, int kind) {
+        Alarm alarm = poll(mob, kind);
+        if (alarm != null) {
+            inboxes.get(mob).alarms[indexOf(kind)] = null;
+        }
+        return alarm;
+    }
+
+    private static void deliver(ServerLevel level) {
+        List<Alarm> alarms = pending.remove(level.dimension());
+        if (alarms == null || alarms.isEmpty()) {
+            return;
+        }
+
+        long gameTime = level.getGameTime();
+        for (Batch batch : batch(alarms)) {
+            List<? extends Mob> receivers = EcologySpatialIndex.getEntitiesOfClass(level, batch.receiverType,
+                batch.area, mob -> inboxes.containsKey(mob));
+
+            for (Mob receiver : receivers) {
+                Inbox inbox = inboxes.get(receiver);
+                for (Alarm alarm : batch.alarms) {
+                    if (receiver != alarm.source()
+                        && (inbox.kindMask & alarm.kind()) != 0
+                        && receiver.distanceToSqr(alarm.origin()) <= alarm.radius() * alarm.radius()) {
+                        inbox.deliver(alarm, gameTime);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Groups alarms by receiver class, merging alarms whose hearing areas overlap.
+     */
+    private static List<Batch> batch(List<Alarm> alarms) {
+        List<Batch> batches = new ArrayList<>();
+        for (Alarm alarm : alarms) {
+            AABB area = new AABB(alarm.origin(), alarm.origin()).inflate(alarm.radius());
+            Batch target = null;
+            for (Batch batch : batches) {
+                if (batch.receiverType == alarm.receiverType() && batch.area.intersects(area)) {
+                    target = batch;
+                    break;
+                }
+            }
+            if (target == null) {
+                batches.add(new Batch(alarm.receiverType(), area, alarm));
+            } else {
+                target.area = target.area.minmax(area);
+                target.alarms.add(alarm);
+            }
+        }
+        return batches;
+    }
+
+    private static int indexOf(int kind) {
+        return Integer.numberOfTrailingZeros(kind);
+    }
+
+    /**
+     * Alarms for one receiver class that share one query.
+     */
+    private static final class Batch {
+        private final Class<? extends Mob> receiverType;
+        private final List<Alarm> alarms = new ArrayList<>(2);
+        private AABB area;
+
+        private Batch(Class<? extends Mob> receiverType, AABB area, Alarm first) {
+            this.receiverType = receiverType;
+            this.area = area;
+            this.alarms.add(first);
+        }
+    }
+
+    /**
+     * The kinds a mob listens to, the latest alarm of each kind delivered to it, and a ring of
+     * the chains of each kind it has recently heard.
+     */
+    private static final class Inbox {
+        private final Alarm[] alarms = new Alarm[KIND_COUNT];
+        private final long[] deliveredTicks = new long[KIND_COUNT];
+        private final long[][] heardChains = new long[KIND_COUNT][RECENT_CHAINS];
+        private final int[] nextChainSlot = new int[KIND_COUNT];
+        private int kindMask;
+
+        private Inbox() {
+            for (long[] chains : this.heardChains) {
+                Arrays.fill(chains, -1L);
+            }
+        }
+
+        private void deliver(Alarm alarm, long gameTime) {
+            int index = indexOf(alarm.kind());
+            long[] chains = this.heardChains[index];
+            for (long chain : chains) {
+                if (chain == alarm.chainId()) {
+                    return;
+                }
+            }
+            chains[this.nextChainSlot[index]] = alarm.chainId();
+            this.nextChainSlot[index] = (this.nextChainSlot[index] + 1) % RECENT_CHAINS;
+            this.alarms[index] = alarm;
+            this.deliveredTicks[index] = gameTime;
+        }
+
+        @Nullable
+        private Alarm fresh(int kind, long gameTime) {
+            int index = indexOf(kind);
+            Alarm alarm = this.alarms[index];
+            if (alarm != null && gameTime - this.deliveredTicks[index] > alarm.lifetimeTicks()) {
+                this.alarms[index] = null;
+                return null;
+            }
+            return alarm;
+        }
+    }
+}
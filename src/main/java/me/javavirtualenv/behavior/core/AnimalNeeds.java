@@ -9,7 +9,10 @@ import com.mojang.serialization.Codec;
 
 /**
  * Centralized utility for reading and writing animal hunger and thirst values.
- * Uses Fabric's Attachment API for persistent data storage on entities.
+ * Uses Fabric's Attachment API for persistent data storage on entities; all values
+ * live in a single {@link NeedsState} attachment and this class is a facade over it.
+ * Hunger and thirst decay lazily: reads evaluate the decay since the last write,
+ * so there is no per-tick decay call.
  */
 public final class AnimalNeeds {
 
@@ -27,36 +30,110 @@ public final class AnimalNeeds {
 
     // ========== ATTACHMENT TYPES ==========
 
+    /**
+     * Packed needs state. One attachment per mob replaces the four legacy attachments below.
+     * No initializer: a missing value is created by {@link #getState(Mob)}, which migrates
+     * legacy data first.
+     */
+    public static final AttachmentType<NeedsState> NEEDS_ATTACHMENT = AttachmentRegistry.create(
+        ResourceLocation.fromNamespaceAndPath("better-ecology", "needs"),
+        builder -> builder
+            .persistent(NeedsState.CODEC)
+            .copyOnDeath()
+    );
+
+    // Legacy attachments. Still registered so entities saved in the old format deserialize;
+    // read once by migrateLegacyState and then removed from the entity.
+
+    @Deprecated
     public static final AttachmentType<Float> HUNGER_ATTACHMENT = AttachmentRegistry.create(
         ResourceLocation.fromNamespaceAndPath("better-ecology", "hunger"),
         builder -> builder
-            .initializer(() -> DEFAULT_HUNGER)
             .persistent(Codec.FLOAT)
-            .copyOnDeath()
     );
 
+    @Deprecated
     public static final AttachmentType<Float> THIRST_ATTACHMENT = AttachmentRegistry.create(
         ResourceLocation.fromNamespaceAndPath("better-ecology", "thirst"),
         builder -> builder
-            .initializer(() -> DEFAULT_THIRST)
             .persistent(Codec.FLOAT)
-            .copyOnDeath()
     );
 
+    @Deprecated
     public static final AttachmentType<Long> LAST_DAMAGE_TICK_ATTACHMENT = AttachmentRegistry.create(
         ResourceLocation.fromNamespaceAndPath("better-ecology", "last_damage_tick"),
         builder -> builder
-            .initializer(() -> 0L)
             .persistent(Codec.LONG)
     );
 
+    @Deprecated
     public static final AttachmentType<Boolean> INITIALIZED_ATTACHMENT = AttachmentRegistry.create(
         ResourceLocation.fromNamespaceAndPath("better-ecology", "initialized"),
         builder -> builder
-            .initializer(() -> false)
             .persistent(Codec.BOOL)
     );
 
+    // ========== STATE ACCESS ==========
+
+    /**
+     * Gets the packed needs state for a mob, creating it if absent.
+     * Callers that read or write several values in a row (such as the per-tick
+     * needs update) should fetch this once and work on it directly.
+     */
+    public static NeedsState getState(Mob mob) {
+        NeedsState state = mob.getAttached(NEEDS_ATTACHMENT);
+        if (state == null) {
+            state = migrateLegacyState(mob, mob.level().getGameTime());
+            mob.setAttached(NEEDS_ATTACHMENT, state);
+        } else if (state.isPendingLoad()) {
+            NeedsCatchUp.apply(mob, state, mob.level().getGameTime());
+        }
+        return state;
+    }
+
+    /**
+     * Gets the needs state for a mob without creating one.
+     * Returns null for mobs that do not take part in the needs system.
+     */
+    public static NeedsState getStateIfPresent(Mob mob) {
+        NeedsState state = mob.getAttached(NEEDS_ATTACHMENT);
+        if (state != null && state.isPendingLoad()) {
+            NeedsCatchUp.apply(mob, state, mob.level().getGameTime());
+        }
+        return state;
+    }
+
+    /**
+     * Folds elapsed decay into the stored values so the saved state is exact.
+     * Called just before the mob is serialized; does nothing for mobs without needs.
+     */
+    public static void settleForSave(Mob mob) {
+        NeedsState state = mob.getAttached(NEEDS_ATTACHMENT);
+        if (state != null && !state.isPendingLoad()) {
+            state.settle(mob.level().getGameTime());
+        }
+    }
+
+    /**
+     * Builds a needs state from the legacy four-attachment format, if present,
+     * and strips the legacy attachments so they are not saved again.
+     */
+    @SuppressWarnings("deprecation")
+    private static NeedsState migrateLegacyState(Mob mob, long tick) {
+        Float hunger = mob.removeAttached(HUNGER_ATTACHMENT);
+        Float thirst = mob.removeAttached(THIRST_ATTACHMENT);
+        Long lastDamageTick = mob.removeAttached(LAST_DAMAGE_TICK_ATTACHMENT);
+        Boolean initialized = mob.removeAttached(INITIALIZED_ATTACHMENT);
+
+        return new NeedsState(
+            hunger != null ? hunger : DEFAULT_HUNGER,
+            thirst != null ? thirst : DEFAULT_THIRST,
+            tick,
+            lastDamageTick != null ? lastDamageTick : 0L,
+            initialized != null && initialized
+        );
+    }
+
     // ========== HUNGER METHODS ==========
 
     /**
@@ -64,29 +141,23 @@ public final class AnimalNeeds {
      * Returns the default value if not set.
      */
     public static float getHunger(Mob mob) {
-        return mob.getAttachedOrCreate(HUNGER_ATTACHMENT);
+        return getState(mob).hungerAt(mob.level().getGameTime());
     }
 
     /**
      * Sets the hunger value for a mob, clamped to 0-100.
      */
     public static void setHunger(Mob mob, float value) {
-        float clamped = clamp(value);
-        mob.setAttached(HUNGER_ATTACHMENT, clamped);
+        getState(mob).setHunger(mob.level().getGameTime(), value);
     }
 
     /**
      * Modifies hunger by delta (positive = more full, negative = more hungry).
      */
     public static void modifyHunger(Mob mob, float delta) {
-        setHunger(mob, getHunger(mob) + delta);
-    }
-
-    /**
-     * Decreases hunger by the decay rate (call each tick).
-     */
-    public static void decayHunger(Mob mob, float decayRate) {
-        modifyHunger(mob, -decayRate);
+        NeedsState state = getState(mob);
+        long tick = mob.level().getGameTime();
+        state.setHunger(tick, state.hungerAt(tick) + delta);
     }
 
     // ========== THIRST METHODS ==========
@@ -96,29 +167,23 @@ public final class AnimalNeeds {
      * Returns the default value if not set.
      */
     public static float getThirst(Mob mob) {
-        return mob.getAttachedOrCreate(THIRST_ATTACHMENT);
+        return getState(mob).thirstAt(mob.level().getGameTime());
     }
 
     /**
      * Sets the thirst value for a mob, clamped to 0-100.
      */
     public static void setThirst(Mob mob, float value) {
-        float clamped = clamp(value);
-        mob.setAttached(THIRST_ATTACHMENT, clamped);
+        getState(mob).setThirst(mob.level().getGameTime(), value);
     }
 
     /**
      * Modifies thirst by delta (positive = more hydrated, negative = more thirsty).
      */
     public static void modifyThirst(Mob mob, float delta) {
-        setThirst(mob, getThirst(mob) + delta);
-    }
-
-    /**
-     * Decreases thirst by the decay rate (call each tick).
-     */
-    public static void decayThirst(Mob mob, float decayRate) {
-        modifyThirst(mob, -decayRate);
+        NeedsState state = getState(mob);
+        long tick = mob.level().getGameTime();
+        state.setThirst(tick, state.thirstAt(tick) + delta);
     }
 
     // ========== THRESHOLD CHECKS ==========
@@ -171,23 +236,28 @@ public final class AnimalNeeds {
      * Gets the last tick when damage was applied.
      */
     public static long getLastDamageTick(Mob mob) {
-        return mob.getAttachedOrCreate(LAST_DAMAGE_TICK_ATTACHMENT);
+        return getState(mob).getLastDamageTick();
     }
 
     /**
      * Sets the last tick when damage was applied.
      */
     public static void setLastDamageTick(Mob mob, long tick) {
-        mob.setAttached(LAST_DAMAGE_TICK_ATTACHMENT, tick);
+        getState(mob).setLastDamageTick(tick);
     }
 
     /**
      * Returns true if enough time has passed since last damage.
      */
     public static boolean canTakeDamage(Mob mob, int damageInterval) {
-        long currentTick = mob.level().getGameTime();
-        long lastDamage = getLastDamageTick(mob);
-        return (currentTick - lastDamage) >= damageInterval;
+        return canTakeDamage(getState(mob), mob.level().getGameTime(), damageInterval);
+    }
+
+    /**
+     * Returns true if enough time has passed since last damage, for an already fetched state.
+     */
+    public static boolean canTakeDamage(NeedsState state, long currentTick, int damageInterval) {
+        return (currentTick - state.getLastDamageTick()) >= damageInterval;
     }
 
     // ========== INITIALIZATION ==========
@@ -196,31 +266,23 @@ public final class AnimalNeeds {
      * Returns true if the mob has been initialized with ecology data.
      */
     public static boolean isInitialized(Mob mob) {
-        return mob.getAttachedOrCreate(INITIALIZED_ATTACHMENT);
+        return getState(mob).isInitialized();
     }
 
     /**
      * Marks the mob as initialized.
      */
     public static void markInitialized(Mob mob) {
-        mob.setAttached(INITIALIZED_ATTACHMENT, true);
+        getState(mob).markInitialized();
     }
 
     /**
      * Initializes hunger and thirst for a newly spawned mob if not already set.
      */
     public static void initializeIfNeeded(Mob mob) {
-        if (!isInitialized(mob)) {
-            // Trigger default initialization by accessing values
-            getHunger(mob);
-            getThirst(mob);
-            markInitialized(mob);
+        NeedsState state = getState(mob);
+        if (!state.isInitialized()) {
+            state.markInitialized();
         }
     }
-
-    // ========== UTILITY ==========
-
-    private static float clamp(float value) {
-        return Math.max(MIN_VALUE, Math.min(MAX_VALUE, value));
-    }
 }
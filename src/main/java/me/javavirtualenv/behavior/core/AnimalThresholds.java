@@ -47,7 +47,7 @@ public final class AnimalThresholds {
     public static final float HYDRATED = 75f;
 
     // ========== DEFAULT DECAY RATES ==========
-    // Per-tick decay (applied every tick when enabled)
+    // Per-tick decay (evaluated lazily from elapsed ticks, see NeedsState)
 
     /**
      * Default hunger decay per tick (0.01 = loses 1 hunger per 100 ticks = 5 seconds).
@@ -88,6 +88,11 @@ public final class AnimalThresholds {
      */
     public static final float DRINKING_THIRST_RESTORE = 2f;
 
+    /**
+     * Thirst restored per tick while in contact with water or rain.
+     */
+    public static final float WATER_CONTACT_THIRST_RESTORE = DRINKING_THIRST_RESTORE * 0.5f;
+
     /**
      * Duration of drinking in ticks.
      */
@@ -6,6 +6,7 @@ import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.ai.targeting.TargetingConditions;
 import net.minecraft.world.entity.ai.util.DefaultRandomPos;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -62,9 +63,11 @@ public class ArmadilloDefensiveCurlGoal extends Goal {
             Class<? extends LivingEntity>... predatorTypes) {
         this.armadillo = armadillo;
         this.predatorTypes = List.of(predatorTypes);
+        PredatorPresenceMap.registerPredatorTypes(predatorTypes);
         this.pathNav = armadillo.getNavigation();
         this.targetingConditions = TargetingConditions.forCombat()
-                .range(PREDATOR_DETECTION_RANGE);
+                .range(PREDATOR_DETECTION_RANGE)
+                .ignoreLineOfSight();  // Checked through LineOfSightCache
         this.isCurled = false;
         this.setFlags(EnumSet.of(Goal.Flag.MOVE, Goal.Flag.LOOK, Goal.Flag.JUMP));
     }
@@ -175,18 +178,21 @@ public class ArmadilloDefensiveCurlGoal extends Goal {
      */
     @Nullable
     private LivingEntity findNearestPredator(int range) {
+        AABB searchBox = this.armadillo.getBoundingBox().inflate(range, 3.0, range);
+        if (!PredatorPresenceMap.mayHavePredatorsNear(this.armadillo.level(), searchBox)) {
+            return null;
+        }
+
         LivingEntity nearest = null;
         double nearestDistSq = Double.MAX_VALUE;
 
         for (Class<? extends LivingEntity> predatorType : this.predatorTypes) {
-            List<? extends LivingEntity> nearbyPredators = this.armadillo.level()
-                    .getEntitiesOfClass(
-                            predatorType,
-                            this.armadillo.getBoundingBox().inflate(range, 3.0, range)
-                    );
+            List<? extends LivingEntity> nearbyPredators = EcologySpatialIndex
+                    .getEntitiesOfClass(this.armadillo.level(), predatorType, searchBox);
 
             for (LivingEntity predator : nearbyPredators) {
-                if (!this.targetingConditions.test(this.armadillo, predator)) {
+                if (!this.targetingConditions.test(this.armadillo, predator)
+                    || !LineOfSightCache.hasLineOfSight(this.armadillo, predator)) {
                     continue;
                 }
 
@@ -0,0 +1,247 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+/**
+ * Block searches that run on a worker thread against copies of chunk section data.
+ *
+ * <p>On the server thread, {@link #submit} picks the sections of the search box whose palette
+ * can hold a wanted state (as {@link SectionBlockSearch} does), and copies them and their
+ * neighbouring sections into a {@link Snapshot}. Copying a section is one array copy; the
+ * block-by-block scan and the evaluation of every match then run on a small worker pool. The
+ * goal keeps the returned future and polls it on later ticks instead of blocking.
+ *
+ * <p>The evaluator runs off the server thread: it must only read the snapshot and values
+ * captured before submitting, never the level or an entity. Results describe the world as it
+ * was when the search was submitted, so goals re-check the candidate they pick against the
+ * live level, which also covers anything the snapshot cannot answer (light, entities, paths).
+ */
+public final class AsyncBlockSearch {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncBlockSearch.class);
+
+    private AsyncBlockSearch() {
+        // Utility class
+    }
+
+    // Searches are CPU bound, so a small pool that leaves the server thread a core of its own
+    private static final int WORKER_THREADS = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "Better Ecology Habitat Search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Scores one matching block of a search, on a worker thread.
+     */
+    @FunctionalInterface
+    public interface Evaluator {
+        /**
+         * @param pos the block position; reused between calls
+         * @param state the block state, which passed the search filter
+         * @param snapshot the copied blocks around the search box
+         * @return the block's score (higher is better), or a negative value to reject it
+         */
+        double evaluate(BlockPos pos, BlockState state, Snapshot snapshot);
+    }
+
+    /**
+     * An accepted block and its score.
+     */
+    public record Candidate(BlockPos pos, double score) {
+    }
+
+    /**
+     * Starts a search of the box from {@code center + (minOffset)} to {@code center + (maxOffset)},
+     * inclusive. Must be called on the server thread.
+     *
+     * @param filter cheap state test, also used to skip sections by palette; must reject air
+     * @param evaluator scores each block that passes the filter
+     * @param maxResults how many of the best candidates to keep
+     * @return a future completed with the best candidates, highest score first
+     */
+    public static CompletableFuture<List<Candidate>> submit(Level level, BlockPos center,
+                                                            int minDx, int minDy, int minDz,
+                                                            int maxDx, int maxDy, int maxDz,
+                                                            Predicate<BlockState> filter, Evaluator evaluator,
+                                                            int maxResults) {
+        int minX = center.getX() + minDx;
+        int minY = Math.max(center.getY() + minDy, level.getMinBuildHeight());
+        int minZ = center.getZ() + minDz;
+        int maxX = center.getX() + maxDx;
+        int maxY = Math.min(center.getY() + maxDy, level.getMaxBuildHeight() - 1);
+        int maxZ = center.getZ() + maxDz;
+        if (minY > maxY) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        Snapshot snapshot = new Snapshot(level);
+        LongArrayList toScan = new LongArrayList();
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    if (!section.hasOnlyAir() && section.maybeHas(filter)) {
+                        toScan.add(SectionPos.asLong(chunkX, sectionY, chunkZ));
+                    }
+                }
+            }
+        }
+
+        if (toScan.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        // Scanned sections and their neighbours, so evaluators can look one block past the box
+        for (int i = 0; i < toScan.size(); i++) {
+            long key = toScan.getLong(i);
+            snapshot.copySection(level, key);
+            for (Direction direction : Direction.values()) {
+                snapshot.copySection(level, SectionPos.offset(key, direction));
+            }
+        }
+
+        return CompletableFuture
+            .supplyAsync(() -> scan(snapshot, toScan, minX, minY, minZ, maxX, maxY, maxZ, filter, evaluator, maxResults), EXECUTOR)
+            .exceptionally(throwable -> {
+                LOGGER.error("Habitat search failed", throwable);
+                return List.of();
+            });
+    }
+
+    private static List<Candidate> scan(Snapshot snapshot, LongArrayList toScan,
+                                        int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                                        Predicate<BlockState> filter, Evaluator evaluator, int maxResults) {
+        List<Candidate> candidates = new ArrayList<>();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (int i = 0; i < toScan.size(); i++) {
+            long key = toScan.getLong(i);
+            PalettedContainer<BlockState> states = snapshot.sections.get(key);
+            int originX = SectionPos.sectionToBlockCoord(SectionPos.x(key));
+            int originY = SectionPos.sectionToBlockCoord(SectionPos.y(key));
+            int originZ = SectionPos.sectionToBlockCoord(SectionPos.z(key));
+
+            for (int y = Math.max(minY, originY); y <= Math.min(maxY, originY + 15); y++) {
+                for (int z = Math.max(minZ, originZ); z <= Math.min(maxZ, originZ + 15); z++) {
+                    for (int x = Math.max(minX, originX); x <= Math.min(maxX, originX + 15); x++) {
+                        BlockState state = states.get(x & 15, y & 15, z & 15);
+                        if (!filter.test(state)) {
+                            continue;
+                        }
+                        pos.set(x, y, z);
+                        double score = evaluator.evaluate(pos, state, snapshot);
+                        if (score >= 0) {
+                            candidates.add(new Candidate(pos.immutable(), score));
+                        }
+                    }
+                }
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        return candidates.size() > maxResults ? new ArrayList<>(candidates.subList(0, maxResults)) : candidates;
+    }
+
+    /**
+     * Read-only copy of the chunk sections around a search box.
+     *
+     * <p>Reads outside the copied sections return air in loaded chunks and void air elsewhere.
+     * Block entities are not copied.
+     */
+    public static final class Snapshot implements BlockGetter {
+        private final Long2ObjectOpenHashMap<PalettedContainer<BlockState>> sections = new Long2ObjectOpenHashMap<>();
+        private final LongOpenHashSet loadedChunks = new LongOpenHashSet();
+        private final int minBuildHeight;
+        private final int height;
+
+        private Snapshot(Level level) {
+            this.minBuildHeight = level.getMinBuildHeight();
+            this.height = level.getHeight();
+        }
+
+        private void copySection(Level level, long key) {
+            int sectionY = SectionPos.y(key);
+            if (this.sections.containsKey(key) || sectionY < level.getMinSection() || sectionY >= level.getMaxSection()) {
+                return;
+            }
+            LevelChunk chunk = level.getChunkSource().getChunkNow(SectionPos.x(key), SectionPos.z(key));
+            if (chunk == null) {
+                return;
+            }
+            this.loadedChunks.add(ChunkPos.asLong(SectionPos.x(key), SectionPos.z(key)));
+            LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+            if (!section.hasOnlyAir()) {
+                this.sections.put(key, section.getStates().copy());
+            }
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            if (this.isOutsideBuildHeight(pos)) {
+                return Blocks.VOID_AIR.defaultBlockState();
+            }
+            PalettedContainer<BlockState> states = this.sections.get(SectionPos.asLong(pos));
+            if (states != null) {
+                return states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+            }
+            return this.loadedChunks.contains(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4))
+                ? Blocks.AIR.defaultBlockState()
+                : Blocks.VOID_AIR.defaultBlockState();
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return this.getBlockState(pos).getFluidState();
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return null;
+        }
+
+        @Override
+        public int getHeight() {
+            return this.height;
+        }
+
+        @Override
+        public int getMinBuildHeight() {
+            return this.minBuildHeight;
+        }
+    }
+}
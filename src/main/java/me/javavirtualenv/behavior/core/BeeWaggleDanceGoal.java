@@ -334,7 +334,7 @@ public class BeeWaggleDanceGoal extends Goal {
         }
 
         AABB recruitmentBox = this.bee.getBoundingBox().inflate(RECRUITMENT_RADIUS);
-        List<Bee> nearbyBees = this.level.getEntitiesOfClass(
+        List<Bee> nearbyBees = EcologySpatialIndex.getEntitiesOfClass(this.level,
             Bee.class,
             recruitmentBox,
             this::isRecruitableBee
@@ -210,7 +210,7 @@ public class BreedingBehaviorGoal extends Goal {
      */
     private boolean findMate() {
         AABB searchBox = this.animal.getBoundingBox().inflate(SEARCH_RANGE);
-        List<Animal> potentialMates = this.animal.level().getEntitiesOfClass(
+        List<Animal> potentialMates = EcologySpatialIndex.getEntitiesOfClass(this.animal.level(),
             Animal.class, searchBox, this::isValidMate);
 
         if (potentialMates.isEmpty()) {
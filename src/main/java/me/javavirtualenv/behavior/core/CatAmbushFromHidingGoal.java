@@ -211,17 +211,14 @@ public class CatAmbushFromHidingGoal extends Goal {
         List<BlockPos> candidates = new ArrayList<>();
 
         int searchRadius = (int) HIDE_SEARCH_RANGE;
-        for (int x = -searchRadius; x <= searchRadius; x++) {
-            for (int z = -searchRadius; z <= searchRadius; z++) {
-                for (int y = -2; y <= 2; y++) {
-                    BlockPos checkPos = catPos.offset(x, y, z);
-
-                    if (isValidHidingSpot(checkPos)) {
-                        candidates.add(checkPos);
-                    }
+        SectionBlockSearch.forEachMatch(this.cat.level(), catPos,
+            -searchRadius, -2, -searchRadius, searchRadius, 2, searchRadius,
+            state -> HIDING_BLOCKS.contains(state.getBlock()),
+            (pos, state) -> {
+                if (isValidHidingSpot(pos)) {
+                    candidates.add(pos.immutable());
                 }
-            }
-        }
+            });
 
         if (candidates.isEmpty()) {
             return null;
@@ -292,7 +289,7 @@ public class CatAmbushFromHidingGoal extends Goal {
      * Looks for prey while waiting in ambush.
      */
     private void lookForPrey() {
-        List<LivingEntity> nearbyPrey = this.cat.level().getEntitiesOfClass(
+        List<LivingEntity> nearbyPrey = EcologySpatialIndex.getEntitiesOfClass(this.cat.level(),
             LivingEntity.class,
             this.cat.getBoundingBox().inflate(POUNCE_RANGE_MAX),
             this::isValidPrey
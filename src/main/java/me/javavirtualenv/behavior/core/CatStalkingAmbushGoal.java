@@ -209,7 +209,7 @@ public class CatStalkingAmbushGoal extends Goal {
      * @return true if valid prey was found
      */
     private boolean findAndTargetPrey() {
-        List<LivingEntity> potentialPrey = this.cat.level().getEntitiesOfClass(
+        List<LivingEntity> potentialPrey = EcologySpatialIndex.getEntitiesOfClass(this.cat.level(),
             LivingEntity.class,
             this.cat.getBoundingBox().inflate(STALK_RANGE),
             this::isValidPrey
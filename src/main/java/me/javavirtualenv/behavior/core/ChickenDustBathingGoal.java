@@ -214,7 +214,7 @@ public class ChickenDustBathingGoal extends Goal {
 
     private BlockPos findSocialBathingSpot() {
         AABB searchBox = this.chicken.getBoundingBox().inflate(SOCIAL_SEARCH_RADIUS);
-        List<Chicken> nearbyChickens = this.level.getEntitiesOfClass(
+        List<Chicken> nearbyChickens = EcologySpatialIndex.getEntitiesOfClass(this.level,
             Chicken.class,
             searchBox,
             otherChicken -> otherChicken != this.chicken && !otherChicken.isBaby()
@@ -234,32 +234,15 @@ public class ChickenDustBathingGoal extends Goal {
     }
 
     private BlockPos findNearestDustBlock(BlockPos centerPos) {
-        BlockPos.MutableBlockPos searchPos = new BlockPos.MutableBlockPos();
-        BlockPos closestSpot = null;
-        double closestDistSq = Double.MAX_VALUE;
-
-        for (int x = -SEARCH_RADIUS; x <= SEARCH_RADIUS; x++) {
-            for (int y = -2; y <= 2; y++) {
-                for (int z = -SEARCH_RADIUS; z <= SEARCH_RADIUS; z++) {
-                    searchPos.set(centerPos.getX() + x, centerPos.getY() + y, centerPos.getZ() + z);
-
-                    if (isDustBathBlock(searchPos)) {
-                        BlockPos abovePos = searchPos.above();
-                        if (this.level.getBlockState(abovePos).isAir() ||
-                            this.level.getBlockState(abovePos).getCollisionShape(this.level, abovePos).isEmpty()) {
-
-                            double distSq = centerPos.distSqr(searchPos);
-                            if (distSq < closestDistSq) {
-                                closestDistSq = distSq;
-                                closestSpot = searchPos.immutable();
-                            }
-                        }
-                    }
-                }
-            }
+        if (!(this.level instanceof ServerLevel serverLevel)) {
+            return null;
         }
 
-        return closestSpot;
+        // Indexed dust-bath blocks are exposed: the block above has no collision shape.
+        // A partial result may miss a nearer spot, so none is chosen until the area is indexed
+        HabitatBlockIndex.Result result = HabitatBlockIndex.findNearest(serverLevel, centerPos,
+            HabitatBlockIndex.DUST_BATH, SEARCH_RADIUS, 2, null);
+        return result.incomplete() ? null : result.pos();
     }
 
     private boolean isNearDustBathSpot() {
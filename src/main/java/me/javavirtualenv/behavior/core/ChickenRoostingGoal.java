@@ -38,6 +38,8 @@ public class ChickenRoostingGoal extends Goal {
     private static final int SEARCH_RADIUS = 16;
     private static final int MIN_ROOST_HEIGHT = 1;   // Reduced to match test structures
     private static final int MAX_ROOST_HEIGHT = 4;   // Increased range
+    // Enough to cover the whole search box when no roost is nearby
+    private static final int ROOST_SEARCH_BUDGET = (2 * SEARCH_RADIUS + 1) * (2 * SEARCH_RADIUS + 1) * (MAX_ROOST_HEIGHT + 2);
     private static final double ACCEPTED_DISTANCE = 2.0;  // Increased for easier success
     private static final int SEARCH_COOLDOWN_TICKS = 0;   // No cooldown for immediate activation
 
@@ -179,36 +181,18 @@ public class ChickenRoostingGoal extends Goal {
 
     private boolean findNearestRoost() {
         BlockPos chickenPos = this.chicken.blockPosition();
-        BlockPos.MutableBlockPos searchPos = new BlockPos.MutableBlockPos();
-
-        BlockPos closestRoost = null;
-        double closestDistSq = Double.MAX_VALUE;
-
-        // Search in a 3D area around the chicken (use absolute Y positions, not relative offsets)
-        for (int x = -SEARCH_RADIUS; x <= SEARCH_RADIUS; x++) {
-            for (int z = -SEARCH_RADIUS; z <= SEARCH_RADIUS; z++) {
-                // Search from current level up to MAX_ROOST_HEIGHT blocks above
-                for (int yOffset = -1; yOffset <= MAX_ROOST_HEIGHT; yOffset++) {
-                    int absoluteY = chickenPos.getY() + yOffset;
-                    if (absoluteY < 0) continue;
-
-                    searchPos.set(chickenPos.getX() + x, absoluteY, chickenPos.getZ() + z);
-
-                    if (isValidRoostPosition(searchPos)) {
-                        double distSq = chickenPos.distSqr(searchPos);
-                        if (distSq < closestDistSq) {
-                            closestDistSq = distSq;
-                            closestRoost = searchPos.immutable();
-                        }
-                    }
-                }
-            }
-        }
 
+        // Search outward from the chicken, from one block below to MAX_ROOST_HEIGHT blocks above
+        RingBlockSearch.Result result = RingBlockSearch.findNearest(this.level, chickenPos,
+            SEARCH_RADIUS, -1, MAX_ROOST_HEIGHT, ROOST_SEARCH_BUDGET,
+            (pos, state) -> pos.getY() >= 0 && isRoostBlock(state) && isValidRoostPosition(pos));
+
+        BlockPos closestRoost = result.pos();
         if (closestRoost != null) {
             this.roostPos = closestRoost;
-            LOGGER.debug("{} found roost at {} (distance: {})",
-                this.chicken.getName().getString(), closestRoost, Math.sqrt(closestDistSq));
+            LOGGER.debug("{} found roost at {} (distance: {}, blocks read: {})",
+                this.chicken.getName().getString(), closestRoost, Math.sqrt(chickenPos.distSqr(closestRoost)),
+                result.visited());
             return true;
         }
 
@@ -237,7 +221,10 @@ public class ChickenRoostingGoal extends Goal {
     }
 
     private boolean isValidRoostBlock(BlockPos pos) {
-        BlockState state = this.level.getBlockState(pos);
+        return isRoostBlock(this.level.getBlockState(pos));
+    }
+
+    private static boolean isRoostBlock(BlockState state) {
         Block block = state.getBlock();
 
         if (block instanceof FenceBlock) {
@@ -0,0 +1,44 @@
+package me.javavirtualenv.behavior.core;
+
+/**
+ * Transient cooldown stored as the game tick it expires at.
+ * Checking is a single comparison and starting is a single write, so nothing has to
+ * count it down every tick. Intended for goal-local cooldowns that do not need saving;
+ * use {@link PersistentCooldown} for cooldowns that must survive a save.
+ *
+ * <p>Durations are in game ticks. Goal cooldowns used to be counted in
+ * {@code canUse} calls, which the goal selector makes every other tick; use the raw
+ * tick count here rather than {@code reducedTickDelay}.
+ */
+public final class Cooldown {
+
+    private long expiryTick;
+
+    /**
+     * Returns true once the cooldown has expired (or was never started).
+     */
+    public boolean isReady(long gameTime) {
+        return gameTime >= this.expiryTick;
+    }
+
+    /**
+     * Starts the cooldown so it expires {@code ticks} game ticks from now.
+     */
+    public void start(long gameTime, int ticks) {
+        this.expiryTick = gameTime + ticks;
+    }
+
+    /**
+     * Gets the remaining game ticks, or 0 if ready.
+     */
+    public long remaining(long gameTime) {
+        return Math.max(0L, this.expiryTick - gameTime);
+    }
+
+    /**
+     * Makes the cooldown ready immediately.
+     */
+    public void reset() {
+        this.expiryTick = 0L;
+    }
+}
@@ -0,0 +1,623 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.entity.animal.Cat;
+import net.minecraft.world.entity.animal.Dolphin;
+import net.minecraft.world.entity.animal.Fox;
+import net.minecraft.world.entity.animal.Ocelot;
+import net.minecraft.world.entity.animal.PolarBear;
+import net.minecraft.world.entity.animal.WaterAnimal;
+import net.minecraft.world.entity.animal.Wolf;
+import net.minecraft.world.entity.animal.axolotl.Axolotl;
+import net.minecraft.world.entity.animal.frog.Frog;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.monster.Enemy;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Per-level uniform grid of the entities ecology goals query for: living entities
+ * and dropped items. Replaces the entity-section walk of {@link Level#getEntitiesOfClass}
+ * with a lookup of the few grid cells a query box overlaps.
+ *
+ * <p>The grid is filled from the level's entities once, when it is created, and then kept
+ * current incrementally: entities are inserted and removed as they load and unload, and an
+ * entity changes cell the moment its position crosses a cell border (see
+ * {@link #onEntityMoved}). Cells are keyed by the horizontal position only, and a bounding
+ * box can reach past its entity's cell by half its width, so box queries widen their cell
+ * range by the widest half-width indexed and then test each candidate's bounding box exactly.
+ *
+ * <p>Query results are memoized for the rest of the tick, keyed by entity class, role mask
+ * and the query box rounded out to an 8-block grid, so a herd asking the same question
+ * scans the grid once. Memoized lists include entities up to {@link #MEMO_MOVEMENT_ALLOWANCE}
+ * outside the box, so they stay complete while entities move during the tick; only an entity
+ * moving faster than that in one tick, such as a teleporting one, can be missed until the
+ * next tick. See {@link #getCandidates}.
+ *
+ * <p>Each entry also carries role bits ({@link #ROLE_PREY}, {@link #ROLE_PREDATOR}, ...)
+ * so role-filtered queries can skip non-matching entities without class checks.
+ */
+public final class EcologySpatialIndex {
+
+    // ========== ROLES ==========
+
+    public static final int ROLE_PREY = 1;
+    public static final int ROLE_PREDATOR = 1 << 1;
+    public static final int ROLE_ITEM_FOOD = 1 << 2;
+    public static final int ROLE_PLAYER = 1 << 3;
+    public static final int ROLE_AQUATIC = 1 << 4;
+
+    // 16-block cells
+    private static final int CELL_SHIFT = 4;
+
+    private static final long NOT_INDEXED = Long.MIN_VALUE;
+
+    // Query boxes are rounded out to this 8-block grid to share candidate lists
+    private static final int QUERY_QUANTUM_SHIFT = 3;
+
+    // Distance an entity can move in one tick after a memoized list including it was filled
+    private static final double MEMO_MOVEMENT_ALLOWANCE = 4.0;
+
+    private static long memoHits;
+    private static long memoMisses;
+
+    private static final Set<Class<?>> predatorTypes = new HashSet<>();
+    private static final Reference2IntOpenHashMap<EntityType<?>> typeRoles = new Reference2IntOpenHashMap<>();
+
+    private static final Map<ResourceKey<Level>, EcologySpatialIndex> indices = new HashMap<>();
+
+    static {
+        typeRoles.defaultReturnValue(-1);
+        registerPredatorType(Wolf.class);
+        registerPredatorType(Fox.class);
+        registerPredatorType(Cat.class);
+        registerPredatorType(Ocelot.class);
+        registerPredatorType(PolarBear.class);
+        registerPredatorType(Frog.class);
+        registerPredatorType(Axolotl.class);
+        registerPredatorType(Dolphin.class);
+        registerPredatorType(Enemy.class);
+    }
+
+    private final ServerLevel level;
+    private final Long2ObjectOpenHashMap<Cell> cells = new Long2ObjectOpenHashMap<>();
+    private final PredatorPresenceMap predatorPresence = new PredatorPresenceMap();
+    private final Map<QueryKey, List<Entity>> queryMemo = new HashMap<>();
+    private final Reference2LongOpenHashMap<Entity> entityCells = new Reference2LongOpenHashMap<>();
+    // Widest bounding box half-width seen in this level; only grows
+    private double maxHalfWidth;
+
+    private EcologySpatialIndex(ServerLevel level) {
+        this.level = level;
+        this.entityCells.defaultReturnValue(NOT_INDEXED);
+        for (Entity entity : level.getAllEntities()) {
+            if (isIndexed(entity) && !entity.isRemoved()) {
+                insert(entity);
+            }
+        }
+    }
+
+    /**
+     * Registers the entity load and unload, world tick and server lifecycle listeners that keep the indices current.
+     */
+    public static void register() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+            EcologySpatialIndex index = indices.get(level.dimension());
+            if (index != null && index.level == level && isIndexed(entity)) {
+                index.insert(entity);
+            }
+        });
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+            EcologySpatialIndex index = indices.get(level.dimension());
+            if (index != null && index.level == level) {
+                index.remove(entity);
+            }
+        });
+        // Shared query results are only valid for the tick they were computed in
+        ServerTickEvents.END_WORLD_TICK.register(level -> {
+            EcologySpatialIndex index = indices.get(level.dimension());
+            if (index != null) {
+                index.queryMemo.clear();
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> indices.clear());
+    }
+
+    /**
+     * Moves an indexed entity to its new cell if its position crossed a cell border.
+     * Called by the entity position mixin after every position change on the server thread.
+     */
+    public static void onEntityMoved(ServerLevel level, Entity entity) {
+        EcologySpatialIndex index = indices.get(level.dimension());
+        if (index != null && index.level == level) {
+            index.move(entity);
+        }
+    }
+
+    /**
+     * Marks entities of the given class (or interface) as {@link #ROLE_PREDATOR}. Entities
+     * already indexed are re-tagged, so a predator loaded before its class was registered is
+     * counted from now on.
+     */
+    public static void registerPredatorType(Class<?> type) {
+        if (predatorTypes.add(type)) {
+            typeRoles.clear();
+            for (EcologySpatialIndex index : indices.values()) {
+                index.retagAll();
+            }
+        }
+    }
+
+    /**
+     * Gets the index for a level, creating it on first use.
+     */
+    public static EcologySpatialIndex get(ServerLevel level) {
+        EcologySpatialIndex index = indices.get(level.dimension());
+        if (index == null || index.level != level) {
+            index = new EcologySpatialIndex(level);
+            indices.put(level.dimension(), index);
+        }
+        return index;
+    }
+
+    // ========== DROP-IN QUERIES ==========
+
+    /**
+     * Same as {@link Level#getEntitiesOfClass(Class, AABB, Predicate)}, served from the index
+     * on the server for indexed types, and from the level otherwise.
+     */
+    public static <T extends Entity> List<T> getEntitiesOfClass(Level level, Class<T> type, AABB box, Predicate<? super T> filter) {
+        if (level instanceof ServerLevel serverLevel && isIndexedType(type)) {
+            return get(serverLevel).query(type, box, 0, filter);
+        }
+        return level.getEntitiesOfClass(type, box, filter);
+    }
+
+    /**
+     * Same as {@link Level#getEntitiesOfClass(Class, AABB)}: excludes spectators.
+     */
+    public static <T extends Entity> List<T> getEntitiesOfClass(Level level, Class<T> type, AABB box) {
+        return getEntitiesOfClass(level, type, box, EntitySelector.NO_SPECTATORS);
+    }
+
+    /**
+     * Gets entities with any of the given role bits inside the box.
+     * Only available on the server; returns an empty list on the client.
+     */
+    public static List<Entity> getEntitiesWithRole(Level level, int roleMask, AABB box, Predicate<? super Entity> filter) {
+        if (level instanceof ServerLevel serverLevel) {
+            return get(serverLevel).query(Entity.class, box, roleMask, filter);
+        }
+        return List.of();
+    }
+
+    /**
+     * Finds the entity of the given type nearest to {@code center} within {@code radius}.
+     */
+    public static <T extends Entity> T findNearest(Level level, Class<T> type, Vec3 center, double radius, Predicate<? super T> filter) {
+        AABB box = new AABB(center, center).inflate(radius);
+        if (!(level instanceof ServerLevel serverLevel) || !isIndexedType(type)) {
+            return nearestOf(level.getEntitiesOfClass(type, box, filter), center, radius);
+        }
+        return get(serverLevel).nearest(type, center, radius, 0, filter);
+    }
+
+    /**
+     * Fills {@code out} with the {@code k} entities of the given type nearest to {@code self}
+     * within {@code radius}, nearest first, not counting {@code self}, and returns it. The buffer
+     * is reset first and can be reused across queries, so this does not allocate on the server.
+     */
+    public static <T extends Entity> NeighborBuffer nearestNeighbors(Entity self, Class<T> type, int k, double radius,
+                                                                     Predicate<? super T> filter, NeighborBuffer out) {
+        Vec3 center = self.position();
+        if (self.level() instanceof ServerLevel serverLevel && isIndexedType(type)) {
+            get(serverLevel).nearestNeighbors(type, center, k, radius, 0, self, filter, out);
+            return out;
+        }
+
+        out.reset(k);
+        double radiusSqr = radius * radius;
+        for (T candidate : self.level().getEntitiesOfClass(type, new AABB(center, center).inflate(radius), filter)) {
+            double distanceSq = candidate.distanceToSqr(center);
+            if (candidate != self && distanceSq <= radiusSqr) {
+                out.offer(candidate, distanceSq);
+            }
+        }
+        return out;
+    }
+
+    // ========== INSTANCE QUERIES ==========
+
+    /**
+     * Gets entities of the given type, with any of the given role bits (0 for any role),
+     * whose bounding box intersects the box and that pass the filter.
+     */
+    public <T extends Entity> List<T> query(Class<T> type, AABB box, int roleMask, Predicate<? super T> filter) {
+        List<Entity> candidates = getCandidates(type, box, roleMask);
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Entity entity = candidates.get(i);
+            if (entity.isRemoved() || !entity.getBoundingBox().intersects(box)) {
+                continue;
+            }
+            T typed = type.cast(entity);
+            if (filter == null || filter.test(typed)) {
+                result.add(typed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the shared, read-only candidate list for a query: every entity of the type and
+     * roles whose bounding box was within {@link #MEMO_MOVEMENT_ALLOWANCE} of the query box
+     * rounded out to the {@link #QUERY_QUANTUM_SHIFT} grid, when the list was first requested
+     * this tick. Identical and nearby queries in the same tick, such as every cow in a herd
+     * asking for wolves within 20 blocks, share one list. Callers must still test the exact
+     * box against current positions.
+     */
+    public List<Entity> getCandidates(Class<?> type, AABB box, int roleMask) {
+        QueryKey key = new QueryKey(type, roleMask,
+            Mth.floor(box.minX) >> QUERY_QUANTUM_SHIFT, Mth.floor(box.minY) >> QUERY_QUANTUM_SHIFT,
+            Mth.floor(box.minZ) >> QUERY_QUANTUM_SHIFT, Mth.floor(box.maxX) >> QUERY_QUANTUM_SHIFT,
+            Mth.floor(box.maxY) >> QUERY_QUANTUM_SHIFT, Mth.floor(box.maxZ) >> QUERY_QUANTUM_SHIFT);
+        List<Entity> cached = this.queryMemo.get(key);
+        if (cached != null) {
+            memoHits++;
+            return cached;
+        }
+        memoMisses++;
+
+        // Padded so entities that move into the box later this tick are still in the shared list
+        AABB padded = key.toBox().inflate(MEMO_MOVEMENT_ALLOWANCE);
+        List<Entity> candidates = new ArrayList<>();
+
+        int minX = Mth.floor(padded.minX - this.maxHalfWidth) >> CELL_SHIFT;
+        int maxX = Mth.floor(padded.maxX + this.maxHalfWidth) >> CELL_SHIFT;
+        int minZ = Mth.floor(padded.minZ - this.maxHalfWidth) >> CELL_SHIFT;
+        int maxZ = Mth.floor(padded.maxZ + this.maxHalfWidth) >> CELL_SHIFT;
+
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                Cell cell = this.cells.get(cellKey(cellX, cellZ));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.entities.size(); i++) {
+                    if (roleMask != 0 && (cell.roles.getInt(i) & roleMask) == 0) {
+                        continue;
+                    }
+                    Entity entity = cell.entities.get(i);
+                    if (type.isInstance(entity) && !entity.isRemoved() && entity.getBoundingBox().intersects(padded)) {
+                        candidates.add(entity);
+                    }
+                }
+            }
+        }
+
+        List<Entity> shared = Collections.unmodifiableList(candidates);
+        this.queryMemo.put(key, shared);
+        return shared;
+    }
+
+    /**
+     * Finds the matching entity nearest to {@code center} within {@code radius}, or null.
+     */
+    public <T extends Entity> T nearest(Class<T> type, Vec3 center, double radius, int roleMask, Predicate<? super T> filter) {
+        return nearestOf(query(type, new AABB(center, center).inflate(radius), roleMask, filter), center, radius);
+    }
+
+    /**
+     * k-nearest-neighbour query. Visits grid cells in square rings around {@code center} and
+     * stops once no unvisited cell can hold anything closer than the k-th neighbour found,
+     * so in a dense herd only the cells next to the agent are read, however large the herd.
+     *
+     * @param exclude an entity to leave out, usually the one asking; may be null
+     */
+    public <T extends Entity> void nearestNeighbors(Class<T> type, Vec3 center, int k, double radius, int roleMask,
+                                                    Entity exclude, Predicate<? super T> filter, NeighborBuffer out) {
+        out.reset(k);
+
+        double radiusSq = radius * radius;
+        int centerX = Mth.floor(center.x) >> CELL_SHIFT;
+        int centerZ = Mth.floor(center.z) >> CELL_SHIFT;
+        int maxRing = (Mth.ceil(radius) >> CELL_SHIFT) + 1;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Entities in this ring stand at least (ring - 1) whole cells away
+            double minDistance = (ring - 1) * (double) (1 << CELL_SHIFT);
+            if (minDistance > 0 && (minDistance > radius || minDistance * minDistance >= out.worstDistanceSqr())) {
+                break;
+            }
+
+            for (int dx = -ring; dx <= ring; dx++) {
+                // Only the border of the ring; the inside was visited by earlier rings
+                int step = (dx == -ring || dx == ring) ? 1 : 2 * ring;
+                for (int dz = -ring; dz <= ring; dz += Math.max(1, step)) {
+                    Cell cell = this.cells.get(cellKey(centerX + dx, centerZ + dz));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.entities.size(); i++) {
+                        if (roleMask != 0 && (cell.roles.getInt(i) & roleMask) == 0) {
+                            continue;
+                        }
+                        Entity entity = cell.entities.get(i);
+                        if (entity == exclude || !type.isInstance(entity) || entity.isRemoved()) {
+                            continue;
+                        }
+                        double distanceSq = entity.distanceToSqr(center);
+                        if (distanceSq > radiusSq || distanceSq >= out.worstDistanceSqr()) {
+                            continue;
+                        }
+                        T typed = type.cast(entity);
+                        if (filter == null || filter.test(typed)) {
+                            out.offer(entity, distanceSq);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the predator presence map.
+     */
+    public PredatorPresenceMap getPredatorPresence() {
+        return this.predatorPresence;
+    }
+
+    /**
+     * Gets how far past its cell an indexed bounding box can reach: the widest half-width seen.
+     */
+    double getCellPadding() {
+        return this.maxHalfWidth;
+    }
+
+    /**
+     * Gets the number of entities in the index.
+     */
+    public int getEntityCount() {
+        return this.entityCells.size();
+    }
+
+    /**
+     * Gets the number of queries served from a candidate list shared earlier in the same tick.
+     */
+    public static long getMemoHits() {
+        return memoHits;
+    }
+
+    /**
+     * Gets the number of queries that had to scan the grid.
+     */
+    public static long getMemoMisses() {
+        return memoMisses;
+    }
+
+    public static void resetMemoCounters() {
+        memoHits = 0;
+        memoMisses = 0;
+    }
+
+    // ========== INDEX MAINTENANCE ==========
+
+    private void insert(Entity entity) {
+        if (this.entityCells.containsKey(entity)) {
+            return;
+        }
+        long key = cellKeyOf(entity);
+        this.entityCells.put(entity, key);
+        this.maxHalfWidth = Math.max(this.maxHalfWidth, entity.getBbWidth() * 0.5);
+        // Lists shared earlier this tick do not include the new entity
+        this.queryMemo.clear();
+        addToCell(entity, key, rolesOf(entity));
+    }
+
+    private void remove(Entity entity) {
+        long key = this.entityCells.removeLong(entity);
+        if (key != NOT_INDEXED) {
+            removeFromCell(entity, key);
+        }
+    }
+
+    private void move(Entity entity) {
+        long oldKey = this.entityCells.getLong(entity);
+        if (oldKey == NOT_INDEXED) {
+            return;
+        }
+        // Growing up and slime size changes widen boxes after insertion
+        this.maxHalfWidth = Math.max(this.maxHalfWidth, entity.getBbWidth() * 0.5);
+        long newKey = cellKeyOf(entity);
+        if (newKey != oldKey) {
+            this.entityCells.put(entity, newKey);
+            addToCell(entity, newKey, removeFromCell(entity, oldKey));
+        }
+    }
+
+    /**
+     * Recomputes the role bits of every indexed entity and rebuilds the predator presence counts.
+     */
+    private void retagAll() {
+        this.predatorPresence.clear();
+        this.queryMemo.clear();
+        for (Long2ObjectMap.Entry<Cell> entry : this.cells.long2ObjectEntrySet()) {
+            long key = entry.getLongKey();
+            Cell cell = entry.getValue();
+            for (int i = 0; i < cell.entities.size(); i++) {
+                int roles = rolesOf(cell.entities.get(i));
+                cell.roles.set(i, roles);
+                if ((roles & ROLE_PREDATOR) != 0) {
+                    this.predatorPresence.add(cellX(key), cellZ(key));
+                }
+            }
+        }
+    }
+
+    private void addToCell(Entity entity, long key, int roles) {
+        Cell cell = this.cells.get(key);
+        if (cell == null) {
+            cell = new Cell();
+            this.cells.put(key, cell);
+        }
+        cell.entities.add(entity);
+        cell.roles.add(roles);
+        if ((roles & ROLE_PREDATOR) != 0) {
+            this.predatorPresence.add(cellX(key), cellZ(key));
+        }
+    }
+
+    /**
+     * Removes the entity from the cell and returns its role bits.
+     */
+    private int removeFromCell(Entity entity, long key) {
+        Cell cell = this.cells.get(key);
+        if (cell == null) {
+            return 0;
+        }
+        int roles = cell.remove(entity);
+        if (cell.isEmpty()) {
+            this.cells.remove(key);
+        }
+        if ((roles & ROLE_PREDATOR) != 0) {
+            this.predatorPresence.remove(cellX(key), cellZ(key));
+        }
+        return roles;
+    }
+
+    private static boolean isIndexed(Entity entity) {
+        return entity instanceof LivingEntity || entity instanceof ItemEntity;
+    }
+
+    private static boolean isIndexedType(Class<?> type) {
+        return LivingEntity.class.isAssignableFrom(type) || ItemEntity.class.isAssignableFrom(type);
+    }
+
+    private static int rolesOf(Entity entity) {
+        if (entity instanceof ItemEntity item) {
+            return item.getItem().has(DataComponents.FOOD) ? ROLE_ITEM_FOOD : 0;
+        }
+
+        int roles = typeRoles.getInt(entity.getType());
+        if (roles == -1) {
+            roles = entity instanceof Player ? ROLE_PLAYER : 0;
+            if (isPredatorType(entity.getClass())) {
+                roles |= ROLE_PREDATOR;
+            } else if (entity instanceof Animal || entity instanceof WaterAnimal) {
+                roles |= ROLE_PREY;
+            }
+            if (entity instanceof WaterAnimal) {
+                roles |= ROLE_AQUATIC;
+            }
+            typeRoles.put(entity.getType(), roles);
+        }
+        return roles;
+    }
+
+    private static boolean isPredatorType(Class<?> entityClass) {
+        for (Class<?> predatorType : predatorTypes) {
+            if (predatorType.isAssignableFrom(entityClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T extends Entity> T nearestOf(List<T> candidates, Vec3 center, double radius) {
+        T nearest = null;
+        double nearestDistanceSq = radius * radius;
+        for (T candidate : candidates) {
+            double distanceSq = candidate.distanceToSqr(center);
+            if (distanceSq <= nearestDistanceSq) {
+                nearestDistanceSq = distanceSq;
+                nearest = candidate;
+            }
+        }
+        return nearest;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static long cellKeyOf(Entity entity) {
+        return cellKey(Mth.floor(entity.getX()) >> CELL_SHIFT, Mth.floor(entity.getZ()) >> CELL_SHIFT);
+    }
+
+    private static int cellX(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int cellZ(long key) {
+        return (int) key;
+    }
+
+    /**
+     * A query rounded out to the {@link #QUERY_QUANTUM_SHIFT} grid.
+     */
+    private record QueryKey(Class<?> type, int roleMask, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        private AABB toBox() {
+            int quantum = 1 << QUERY_QUANTUM_SHIFT;
+            return new AABB(this.minX * quantum, this.minY * quantum, this.minZ * quantum,
+                (this.maxX + 1) * quantum, (this.maxY + 1) * quantum, (this.maxZ + 1) * quantum);
+        }
+    }
+
+    /**
+     * Entities in one grid column, with their role bits at the same index.
+     */
+    private static final class Cell {
+        private final ObjectArrayList<Entity> entities = new ObjectArrayList<>();
+        private final IntArrayList roles = new IntArrayList();
+
+        /**
+         * Removes the entity by swapping the last entry into its slot, and returns its role bits.
+         */
+        private int remove(Entity entity) {
+            for (int i = 0; i < this.entities.size(); i++) {
+                if (this.entities.get(i) == entity) {
+                    int roles = this.roles.getInt(i);
+                    int last = this.entities.size() - 1;
+                    this.entities.set(i, this.entities.get(last));
+                    this.roles.set(i, this.roles.getInt(last));
+                    this.entities.remove(last);
+                    this.roles.removeInt(last);
+                    return roles;
+                }
+            }
+            return 0;
+        }
+
+        private boolean isEmpty() {
+            return this.entities.isEmpty();
+        }
+    }
+}
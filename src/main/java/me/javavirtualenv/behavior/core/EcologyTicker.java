@@ -0,0 +1,248 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ambient.Bat;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.level.Level;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single needs engine for every mob that takes part in the ecology needs system.
+ *
+ * <p>Participation is decided per {@link EntityType}: types registered with
+ * {@link #registerType(EntityType, Profile)} use their own metabolism profile, and every
+ * other {@link Animal} uses {@link Profile#DEFAULT}. Participants are added to a per-level
+ * list when they load and removed when they unload; at the end of each world tick the
+ * ticker walks that list, doing the sampled needs work for mobs whose
+ * {@link NeedsScheduler} bucket is due and acting on wake-ups for all of them.
+ */
+public final class EcologyTicker {
+
+    private EcologyTicker() {
+        // Utility class
+    }
+
+    /**
+     * Per-type needs metabolism.
+     *
+     * @param hungerMultiplier multiplier on {@link AnimalThresholds#DEFAULT_HUNGER_DECAY}
+     * @param thirstMultiplier multiplier on {@link AnimalThresholds#DEFAULT_THIRST_DECAY}
+     * @param restingMultiplier extra multiplier on both while the mob is resting or sleeping
+     * @param needsDamage whether starving or dehydration damages the mob
+     */
+    public record Profile(float hungerMultiplier, float thirstMultiplier, float restingMultiplier, boolean needsDamage) {
+        public static final Profile DEFAULT = new Profile(1.0f, 1.0f, 1.0f, true);
+    }
+
+    // Cached "does not participate" marker, so the type map can cache misses
+    private static final Profile NONE = new Profile(0f, 0f, 0f, false);
+
+    private static final Map<EntityType<?>, Profile> registeredProfiles = new HashMap<>();
+    private static final Reference2ObjectOpenHashMap<EntityType<?>, Profile> resolvedProfiles = new Reference2ObjectOpenHashMap<>();
+
+    private static final Map<ResourceKey<Level>, Participants> participants = new HashMap<>();
+
+    static {
+        // Bats have lower metabolism than most animals, and consume less energy when resting
+        registerType(EntityType.BAT, new Profile(0.5f, 0.5f, 0.6f, true));
+
+        // Fish have no way to feed yet; hunger is tracked for display but never harms them
+        registerType(EntityType.COD, new Profile(0.5f, 0f, 1.0f, false));
+        registerType(EntityType.SALMON, new Profile(0.5f, 0f, 1.0f, false));
+        registerType(EntityType.TROPICAL_FISH, new Profile(0.5f, 0f, 1.0f, false));
+        registerType(EntityType.PUFFERFISH, new Profile(0.5f, 0f, 1.0f, false));
+
+        // Villagers are fed by their own mechanics; needs are tracked but never harm them
+        registerType(EntityType.VILLAGER, new Profile(0.5f, 0.5f, 0.5f, false));
+        registerType(EntityType.WANDERING_TRADER, new Profile(0.5f, 0.5f, 1.0f, false));
+    }
+
+    /**
+     * Registers the entity lifecycle and world tick listeners that drive the ticker.
+     */
+    public static void register() {
+        ServerEntityEvents.ENTITY_LOAD.register(EcologyTicker::onEntityLoad);
+        ServerEntityEvents.ENTITY_UNLOAD.register(EcologyTicker::onEntityUnload);
+        ServerTickEvents.END_WORLD_TICK.register(EcologyTicker::tick);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> participants.clear());
+    }
+
+    /**
+     * Makes an entity type take part in the needs system with the given profile.
+     * Must be called during mod initialization, before entities load.
+     */
+    public static void registerType(EntityType<?> type, Profile profile) {
+        registeredProfiles.put(type, profile);
+        resolvedProfiles.remove(type);
+    }
+
+    /**
+     * Gets the needs profile for a mob, or null if it does not take part in the needs system.
+     */
+    public static Profile getProfile(Mob mob) {
+        Profile profile = resolvedProfiles.get(mob.getType());
+        if (profile == null) {
+            profile = registeredProfiles.get(mob.getType());
+            if (profile == null) {
+                profile = mob instanceof Animal ? Profile.DEFAULT : NONE;
+            }
+            resolvedProfiles.put(mob.getType(), profile);
+        }
+        return profile == NONE ? null : profile;
+    }
+
+    /**
+     * Gets the number of registered participants in a level.
+     */
+    public static int getParticipantCount(ServerLevel level) {
+        Participants levelParticipants = participants.get(level.dimension());
+        return levelParticipants != null ? levelParticipants.mobs.size() : 0;
+    }
+
+    // ========== PARTICIPANT LIST ==========
+
+    private static void onEntityLoad(Entity entity, ServerLevel level) {
+        if (!(entity instanceof Mob mob) || getProfile(mob) == null) {
+            return;
+        }
+
+        // Creates the state, or catches a just-loaded one up over the time it was unloaded
+        AnimalNeeds.initializeIfNeeded(mob);
+        participants.computeIfAbsent(level.dimension(), key -> new Participants()).add(mob);
+    }
+
+    private static void onEntityUnload(Entity entity, ServerLevel level) {
+        if (!(entity instanceof Mob mob)) {
+            return;
+        }
+        Participants levelParticipants = participants.get(level.dimension());
+        if (levelParticipants != null) {
+            levelParticipants.remove(mob);
+        }
+    }
+
+    // ========== TICK ==========
+
+    private static void tick(ServerLevel level) {
+        Participants levelParticipants = participants.get(level.dimension());
+        if (levelParticipants == null || levelParticipants.mobs.isEmpty()) {
+            return;
+        }
+
+        long gameTime = level.getGameTime();
+        levelParticipants.ticking = true;
+        for (Mob mob : levelParticipants.mobs) {
+            if (mob.isRemoved() || !mob.isAlive() || !level.isPositionEntityTicking(mob.blockPosition())) {
+                continue;
+            }
+            tickMob(mob, getProfile(mob), gameTime);
+        }
+        levelParticipants.ticking = false;
+        levelParticipants.applyDeferred();
+    }
+
+    private static void tickMob(Mob mob, Profile profile, long gameTime) {
+        NeedsState needs = AnimalNeeds.getState(mob);
+
+        if (NeedsScheduler.isDue(mob, gameTime)) {
+            float multiplier = isResting(mob) ? profile.restingMultiplier() : 1.0f;
+            needs.setMetabolism(gameTime,
+                AnimalThresholds.DEFAULT_HUNGER_DECAY * profile.hungerMultiplier() * multiplier,
+                AnimalThresholds.DEFAULT_THIRST_DECAY * profile.thirstMultiplier() * multiplier);
+
+            // Auto-hydrate while in water (touching water, submerged, in rain, or standing in water)
+            needs.setInWater(gameTime, mob.isInWater() || mob.isInWaterOrRain() || isStandingInWater(mob));
+        }
+
+        // Starvation/dehydration thresholds and damage ticks are scheduled, not polled
+        if (gameTime >= needs.getWakeTick()) {
+            onNeedsWake(mob, profile, needs, gameTime);
+        }
+    }
+
+    /**
+     * Apply damage from starvation or dehydration if due, then schedule the next wake-up.
+     */
+    private static void onNeedsWake(Mob mob, Profile profile, NeedsState needs, long gameTime) {
+        boolean critical = needs.hungerAt(gameTime) < AnimalThresholds.STARVING
+            || needs.thirstAt(gameTime) < AnimalThresholds.DEHYDRATED;
+
+        if (critical && profile.needsDamage()
+            && AnimalNeeds.canTakeDamage(needs, gameTime, AnimalThresholds.DEFAULT_DAMAGE_INTERVAL)) {
+            DamageSource damageSource = mob.damageSources().starve();
+            mob.hurt(damageSource, AnimalThresholds.DEFAULT_DAMAGE);
+            needs.setLastDamageTick(gameTime);
+        }
+
+        needs.scheduleWake(gameTime);
+    }
+
+    private static boolean isResting(Mob mob) {
+        return mob instanceof Bat bat ? bat.isResting() : mob.isSleeping();
+    }
+
+    /**
+     * Check if the mob is standing in water (feet or the block below touching water).
+     */
+    private static boolean isStandingInWater(Mob mob) {
+        BlockPos feetPos = mob.blockPosition();
+        if (mob.level().getFluidState(feetPos).is(FluidTags.WATER)) {
+            return true;
+        }
+        return mob.level().getFluidState(feetPos.below()).is(FluidTags.WATER);
+    }
+
+    /**
+     * Participants of one level. Loads and unloads that happen while the list is being
+     * ticked (a mob killed by needs damage, for example) are applied after the pass.
+     */
+    private static final class Participants {
+        private final ReferenceLinkedOpenHashSet<Mob> mobs = new ReferenceLinkedOpenHashSet<>();
+        private final List<Mob> deferredAdds = new ReferenceArrayList<>();
+        private final List<Mob> deferredRemovals = new ReferenceArrayList<>();
+        private boolean ticking;
+
+        private void add(Mob mob) {
+            if (this.ticking) {
+                this.deferredAdds.add(mob);
+            } else {
+                this.mobs.add(mob);
+            }
+        }
+
+        private void remove(Mob mob) {
+            if (this.ticking) {
+                this.deferredRemovals.add(mob);
+            } else {
+                this.mobs.remove(mob);
+            }
+        }
+
+        private void applyDeferred() {
+            if (!this.deferredAdds.isEmpty()) {
+                this.mobs.addAll(this.deferredAdds);
+                this.deferredAdds.clear();
+            }
+            if (!this.deferredRemovals.isEmpty()) {
+                this.deferredRemovals.forEach(this.mobs::remove);
+                this.deferredRemovals.clear();
+            }
+        }
+    }
+}
@@ -4,14 +4,12 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.goal.Goal;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.EnumSet;
-import java.util.List;
 
 /**
  * Goal implementing flash expansion fleeing behavior for schooling fish.
@@ -23,7 +21,8 @@ import java.util.List;
  * <p>
  * Implementation details:
  * <ul>
- *   <li>Detects when any school member takes damage within detection radius</li>
+ *   <li>A hurt fish raises a {@link AlarmBus#SCHOOL_THREAT} alarm for schoolmates within detection radius</li>
+ *   <li>Fish that hear it burst and relay it once, so the wave spreads through the school</li>
  *   <li>All fish burst swim at 2.0x normal speed radially away from threat</li>
  *   <li>Burst lasts 2-3 seconds (40-60 ticks)</li>
  *   <li>Fish gradually regroup after 10-15 seconds</li>
@@ -39,6 +38,8 @@ public class FlashExpansionFleeGoal extends Goal {
     private static final int BURST_DURATION_MAX = 60;  // 3 seconds
     private static final int REGROUP_DELAY = 200;  // 10 seconds
     private static final int PARTICLE_INTERVAL = 5;  // Spawn particles every 5 ticks
+    private static final int ALARM_LIFETIME_TICKS = 10;  // Matches hurtTime
+    private static final int ALARM_RELAYS = 1;
 
     private final PathfinderMob fish;
     private final Class<? extends PathfinderMob> schoolType;
@@ -73,11 +74,12 @@ public class FlashExpansionFleeGoal extends Goal {
             return false;
         }
 
-        if (!detectThreatInSchool()) {
+        Vec3 threatCenter = detectThreatInSchool();
+        if (threatCenter == null) {
             return false;
         }
 
-        Vec3 escapeDir = calculateEscapeDirection();
+        Vec3 escapeDir = calculateEscapeDirection(threatCenter);
         if (escapeDir == null) {
             return false;
         }
@@ -148,68 +150,42 @@ public class FlashExpansionFleeGoal extends Goal {
     }
 
     /**
-     * Detects if any fish in the school has recently taken damage.
-     * Checks nearby fish of the same type for hurt state.
+     * Detects if this fish or a schoolmate has recently taken damage.
+     * A hurt fish publishes the alarm for its school; others read it from their inbox.
      *
-     * @return true if a threat is detected in the school
+     * @return the point the school flees from, or null if there is no threat
      */
-    private boolean detectThreatInSchool() {
-        AABB searchBox = this.fish.getBoundingBox().inflate(DETECTION_RADIUS);
-        List<? extends PathfinderMob> nearbySchoolmates = this.fish.level()
-                .getEntitiesOfClass(this.schoolType, searchBox, this::isValidSchoolmate);
-
-        for (PathfinderMob schoolmate : nearbySchoolmates) {
-            if (schoolmate.hurtTime > 0) {
-                LOGGER.debug("{} detected schoolmate {} was hurt (hurtTime: {})",
-                        fish.getName().getString(),
-                        schoolmate.getName().getString(),
-                        schoolmate.hurtTime);
-                return true;
-            }
-        }
-
+    @Nullable
+    private Vec3 detectThreatInSchool() {
         if (this.fish.hurtTime > 0) {
             LOGGER.debug("{} was hurt itself, triggering flash expansion",
                     fish.getName().getString());
-            return true;
+            AlarmBus.publish(AlarmBus.Alarm.of(AlarmBus.SCHOOL_THREAT, this.fish, DETECTION_RADIUS, this.schoolType)
+                    .withLifetime(ALARM_LIFETIME_TICKS)
+                    .withRelays(ALARM_RELAYS));
+            return this.fish.position();
         }
 
-        return false;
-    }
-
-    /**
-     * Validates if an entity is a valid school mate.
-     *
-     * @param entity the entity to check
-     * @return true if this is a valid school mate
-     */
-    private boolean isValidSchoolmate(PathfinderMob entity) {
-        if (entity == this.fish) {
-            return false;
-        }
-        if (!entity.isAlive()) {
-            return false;
+        AlarmBus.Alarm alarm = AlarmBus.take(this.fish, AlarmBus.SCHOOL_THREAT);
+        if (alarm == null) {
+            return null;
         }
-        return true;
+
+        LOGGER.debug("{} heard schoolmate {} was attacked",
+                fish.getName().getString(),
+                alarm.source().getName().getString());
+        AlarmBus.relay(this.fish, alarm);
+        return alarm.threatPos();
     }
 
     /**
      * Calculates the escape direction radially away from the threat point.
-     * If this fish was hurt, uses the damage source position.
-     * Otherwise, calculates average position of hurt school members and flees away.
      *
+     * @param threatCenter where the school was attacked
      * @return escape direction vector, or null if cannot determine
      */
     @Nullable
-    private Vec3 calculateEscapeDirection() {
-        Vec3 threatCenter = determineThreatCenter();
-        if (threatCenter == null) {
-            Vec3 randomDirection = generateRandomRadialDirection();
-            LOGGER.debug("{} using random escape direction (no clear threat center)",
-                    fish.getName().getString());
-            return randomDirection;
-        }
-
+    private Vec3 calculateEscapeDirection(Vec3 threatCenter) {
         Vec3 awayFromThreat = this.fish.position().subtract(threatCenter).normalize();
 
         if (awayFromThreat.length() < 0.1) {
@@ -227,43 +203,6 @@ public class FlashExpansionFleeGoal extends Goal {
         return awayFromThreat;
     }
 
-    /**
-     * Determines the center point of the threat based on hurt school members.
-     *
-     * @return threat center position, or null if cannot determine
-     */
-    @Nullable
-    private Vec3 determineThreatCenter() {
-        AABB searchBox = this.fish.getBoundingBox().inflate(DETECTION_RADIUS);
-        List<? extends PathfinderMob> nearbySchoolmates = this.fish.level()
-                .getEntitiesOfClass(this.schoolType, searchBox, this::isValidSchoolmate);
-
-        double sumX = 0, sumY = 0, sumZ = 0;
-        int hurtCount = 0;
-
-        for (PathfinderMob schoolmate : nearbySchoolmates) {
-            if (schoolmate.hurtTime > 0) {
-                sumX += schoolmate.getX();
-                sumY += schoolmate.getY();
-                sumZ += schoolmate.getZ();
-                hurtCount++;
-            }
-        }
-
-        if (this.fish.hurtTime > 0) {
-            sumX += this.fish.getX();
-            sumY += this.fish.getY();
-            sumZ += this.fish.getZ();
-            hurtCount++;
-        }
-
-        if (hurtCount == 0) {
-            return null;
-        }
-
-        return new Vec3(sumX / hurtCount, sumY / hurtCount, sumZ / hurtCount);
-    }
-
     /**
      * Generates a random radial direction for escape.
      *
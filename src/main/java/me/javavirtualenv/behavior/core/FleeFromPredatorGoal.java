@@ -7,6 +7,7 @@ import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.ai.targeting.TargetingConditions;
 import net.minecraft.world.entity.ai.util.DefaultRandomPos;
 import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -71,9 +72,11 @@ public class FleeFromPredatorGoal extends Goal {
         this.fleeDistance = fleeDistance;
         this.predatorTypes = List.of(predatorTypes);
         this.pathNav = mob.getNavigation();
+        PredatorPresenceMap.registerPredatorTypes(predatorTypes);
 
         this.targetingConditions = TargetingConditions.forCombat()
-                .range(detectionRange);
+                .range(detectionRange)
+                .ignoreLineOfSight();  // Checked through LineOfSightCache
 
         this.setFlags(EnumSet.of(Goal.Flag.MOVE));
     }
@@ -261,21 +264,24 @@ public class FleeFromPredatorGoal extends Goal {
      */
     @Nullable
     protected LivingEntity findNearestPredator() {
+        AABB searchBox = this.mob.getBoundingBox().inflate(this.detectionRange, 3.0, this.detectionRange);
+        if (!PredatorPresenceMap.mayHavePredatorsNear(this.mob.level(), searchBox)) {
+            return null;
+        }
+
         LivingEntity nearest = null;
         double nearestDistSq = Double.MAX_VALUE;
 
         for (Class<? extends LivingEntity> predatorType : this.predatorTypes) {
-            List<? extends LivingEntity> nearbyPredators = this.mob.level()
-                    .getEntitiesOfClass(
-                            predatorType,
-                            this.mob.getBoundingBox().inflate(this.detectionRange, 3.0, this.detectionRange)
-                    );
+            List<? extends LivingEntity> nearbyPredators = EcologySpatialIndex
+                    .getEntitiesOfClass(this.mob.level(), predatorType, searchBox);
 
             LOGGER.debug("{} findNearestPredator: found {} {} within detection range",
                     mob.getName().getString(), nearbyPredators.size(), predatorType.getSimpleName());
 
             for (LivingEntity predator : nearbyPredators) {
-                boolean passesTargeting = this.targetingConditions.test(this.mob, predator);
+                boolean passesTargeting = this.targetingConditions.test(this.mob, predator)
+                        && LineOfSightCache.hasLineOfSight(this.mob, predator);
                 LOGGER.debug("{} findNearestPredator: testing {} - passesTargeting: {}",
                         mob.getName().getString(), predator.getName().getString(), passesTargeting);
 
@@ -182,8 +182,8 @@ public class FollowParentGoal extends Goal {
     @Nullable
     private Mob findNearestParent() {
         AABB searchBox = this.mob.getBoundingBox().inflate(this.searchRadius);
-        List<? extends Mob> nearbyAdults = this.mob.level()
-            .getEntitiesOfClass(this.parentType, searchBox, this::isValidParent);
+        List<? extends Mob> nearbyAdults = EcologySpatialIndex
+            .getEntitiesOfClass(this.mob.level(), this.parentType, searchBox, this::isValidParent);
 
         return nearbyAdults.stream()
             .min(Comparator.comparingDouble(adult -> this.mob.distanceToSqr(adult)))
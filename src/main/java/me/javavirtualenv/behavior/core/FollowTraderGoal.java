@@ -153,8 +153,8 @@ public class FollowTraderGoal extends Goal {
      */
     @Nullable
     private WanderingTrader findWanderingTrader() {
-        return this.llama.level()
-            .getEntitiesOfClass(WanderingTrader.class, this.llama.getBoundingBox().inflate(32))
+        return EcologySpatialIndex
+            .getEntitiesOfClass(this.llama.level(), WanderingTrader.class, this.llama.getBoundingBox().inflate(32))
             .stream()
             .filter(t -> t.isAlive())
             .min((t1, t2) -> Double.compare(this.llama.distanceToSqr(t1), this.llama.distanceToSqr(t2)))
@@ -0,0 +1,304 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-level index of dropped food items, by food category.
+ *
+ * <p>Items are added when they load (spawn, drop or chunk load) and removed when they unload
+ * (pick-up, merge into another stack, despawn or chunk unload), so goals that want meat,
+ * wheat, seeds or fish read the few items of that category instead of querying every entity
+ * around them. Queries without a category fall back to {@link EcologySpatialIndex}.
+ *
+ * <p>Items are bucketed by the chunk they are in, and move between buckets as they cross chunk
+ * borders (see {@link #onItemMoved}), so a query only reads the buckets its radius overlaps.
+ *
+ * <p>A seeker can claim the item it is heading for; other seekers skip claimed items until
+ * the claim is released, the claimant dies, or {@link #CLAIM_TIMEOUT_TICKS} pass. This keeps
+ * a pack of wolves from all pathing to the same steak.
+ */
+public final class FoodItemIndex {
+
+    private FoodItemIndex() {
+        // Utility class
+    }
+
+    // ========== CATEGORIES ==========
+
+    /** Raw and cooked meat and rotten flesh ({@link ItemTags#MEAT}). */
+    public static final int MEAT = 1;
+    /** Wheat and hay bales. */
+    public static final int WHEAT = 1 << 1;
+    /** Seeds, as accepted by chickens ({@link ItemTags#CHICKEN_FOOD}). */
+    public static final int SEEDS = 1 << 2;
+    /** Raw and cooked fish ({@link ItemTags#FISHES}). */
+    public static final int FISH = 1 << 3;
+
+    // Claims older than this are ignored, in case the claimant never releases them
+    private static final long CLAIM_TIMEOUT_TICKS = 200L;
+
+    private static final Map<ResourceKey<Level>, LevelItems> levels = new HashMap<>();
+
+    /**
+     * Registers the entity lifecycle listeners that keep the index current.
+     */
+    public static void register() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+            if (entity instanceof ItemEntity item) {
+                int categories = categoriesOf(item.getItem());
+                if (categories != 0) {
+                    get(level).add(item, categories);
+                }
+            }
+        });
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+            if (entity instanceof ItemEntity item) {
+                LevelItems levelItems = levels.get(level.dimension());
+                if (levelItems != null) {
+                    levelItems.remove(item);
+                }
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> levels.clear());
+    }
+
+    /**
+     * Moves an indexed item to its new chunk bucket if its position crossed a chunk border.
+     * Called by the entity position mixin after every item position change on the server thread.
+     */
+    public static void onItemMoved(ServerLevel level, ItemEntity item) {
+        LevelItems levelItems = levels.get(level.dimension());
+        if (levelItems != null) {
+            levelItems.move(item);
+        }
+    }
+
+    /**
+     * Gets the category bits of an item stack; 0 if it is in none of the categories.
+     */
+    public static int categoriesOf(ItemStack stack) {
+        int categories = 0;
+        if (stack.is(ItemTags.MEAT)) {
+            categories |= MEAT;
+        }
+        if (stack.is(Items.WHEAT) || stack.is(Items.HAY_BLOCK)) {
+            categories |= WHEAT;
+        }
+        if (stack.is(ItemTags.CHICKEN_FOOD)) {
+            categories |= SEEDS;
+        }
+        if (stack.is(ItemTags.FISHES)) {
+            categories |= FISH;
+        }
+        return categories;
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Finds the unclaimed item nearest to the seeker within {@code radius} that is in any of
+     * the given categories and passes the filter (null for none). A category mask of 0 searches
+     * all dropped items through the spatial index instead.
+     */
+    public static ItemEntity findNearest(Mob seeker, int categoryMask, double radius, Predicate<ItemStack> filter) {
+        Predicate<ItemEntity> accept = item -> item.isAlive()
+            && (filter == null || filter.test(item.getItem()))
+            && !isClaimedByOther(item, seeker);
+
+        if (categoryMask == 0 || !(seeker.level() instanceof ServerLevel level)) {
+            return EcologySpatialIndex.findNearest(seeker.level(), ItemEntity.class, seeker.position(), radius, accept);
+        }
+        return get(level).nearest(seeker.position(), categoryMask, radius, accept);
+    }
+
+    /**
+     * Checks if any item in the given categories lies within {@code radius} of the position.
+     */
+    public static boolean hasAny(Level level, Vec3 center, int categoryMask, double radius) {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            AABB box = new AABB(center, center).inflate(radius);
+            return !level.getEntitiesOfClass(ItemEntity.class, box,
+                item -> item.isAlive() && (categoriesOf(item.getItem()) & categoryMask) != 0).isEmpty();
+        }
+        return get(serverLevel).nearest(center, categoryMask, radius, ItemEntity::isAlive) != null;
+    }
+
+    // ========== CLAIMS ==========
+
+    /**
+     * Claims an item for a seeker. Returns false if another live seeker holds the claim.
+     */
+    public static boolean claim(ItemEntity item, Mob seeker) {
+        if (isClaimedByOther(item, seeker)) {
+            return false;
+        }
+        if (item.level() instanceof ServerLevel level) {
+            get(level).claims.put(item, new Claim(seeker, level.getGameTime()));
+        }
+        return true;
+    }
+
+    /**
+     * Releases the seeker's claim on an item, if it holds one.
+     */
+    public static void release(ItemEntity item, Mob seeker) {
+        if (item == null || !(item.level() instanceof ServerLevel level)) {
+            return;
+        }
+        LevelItems levelItems = levels.get(level.dimension());
+        if (levelItems != null) {
+            Claim claim = levelItems.claims.get(item);
+            if (claim != null && claim.seeker == seeker) {
+                levelItems.claims.remove(item);
+            }
+        }
+    }
+
+    /**
+     * Checks if a live seeker other than the given one has an unexpired claim on the item.
+     */
+    public static boolean isClaimedByOther(ItemEntity item, Mob seeker) {
+        if (!(item.level() instanceof ServerLevel level)) {
+            return false;
+        }
+        LevelItems levelItems = levels.get(level.dimension());
+        if (levelItems == null) {
+            return false;
+        }
+        Claim claim = levelItems.claims.get(item);
+        return claim != null
+            && claim.seeker != seeker
+            && claim.seeker.isAlive()
+            && level.getGameTime() - claim.claimTick < CLAIM_TIMEOUT_TICKS;
+    }
+
+    private static LevelItems get(ServerLevel level) {
+        return levels.computeIfAbsent(level.dimension(), key -> new LevelItems());
+    }
+
+    private record Claim(Mob seeker, long claimTick) {
+    }
+
+    /**
+     * An indexed item's category bits and the chunk bucket it is filed under.
+     */
+    private static final class Entry {
+        private final int categories;
+        private long chunkKey;
+
+        private Entry(int categories, long chunkKey) {
+            this.categories = categories;
+            this.chunkKey = chunkKey;
+        }
+    }
+
+    /**
+     * Items of one level, bucketed by chunk, and their claims.
+     */
+    private static final class LevelItems {
+        private final Reference2ObjectOpenHashMap<ItemEntity, Entry> entries = new Reference2ObjectOpenHashMap<>();
+        private final Long2ObjectOpenHashMap<ObjectArrayList<ItemEntity>> buckets = new Long2ObjectOpenHashMap<>();
+        private final Reference2ObjectOpenHashMap<ItemEntity, Claim> claims = new Reference2ObjectOpenHashMap<>();
+
+        private void add(ItemEntity item, int categories) {
+            if (this.entries.containsKey(item)) {
+                return;
+            }
+            long chunkKey = chunkKeyOf(item);
+            this.entries.put(item, new Entry(categories, chunkKey));
+            this.buckets.computeIfAbsent(chunkKey, key -> new ObjectArrayList<>()).add(item);
+        }
+
+        private void remove(ItemEntity item) {
+            Entry entry = this.entries.remove(item);
+            if (entry != null) {
+                removeFromBucket(item, entry.chunkKey);
+            }
+            this.claims.remove(item);
+        }
+
+        private void move(ItemEntity item) {
+            Entry entry = this.entries.get(item);
+            if (entry == null) {
+                return;
+            }
+            long chunkKey = chunkKeyOf(item);
+            if (chunkKey != entry.chunkKey) {
+                removeFromBucket(item, entry.chunkKey);
+                entry.chunkKey = chunkKey;
+                this.buckets.computeIfAbsent(chunkKey, key -> new ObjectArrayList<>()).add(item);
+            }
+        }
+
+        private void removeFromBucket(ItemEntity item, long chunkKey) {
+            ObjectArrayList<ItemEntity> bucket = this.buckets.get(chunkKey);
+            if (bucket == null) {
+                return;
+            }
+            int index = bucket.indexOf(item);
+            if (index >= 0) {
+                // Order within a bucket does not matter, so swap in the last item
+                bucket.set(index, bucket.get(bucket.size() - 1));
+                bucket.remove(bucket.size() - 1);
+            }
+            if (bucket.isEmpty()) {
+                this.buckets.remove(chunkKey);
+            }
+        }
+
+        private ItemEntity nearest(Vec3 center, int categoryMask, double radius, Predicate<ItemEntity> accept) {
+            ItemEntity nearest = null;
+            double nearestDistanceSq = radius * radius;
+
+            int minChunkX = Mth.floor(center.x - radius) >> 4;
+            int maxChunkX = Mth.floor(center.x + radius) >> 4;
+            int minChunkZ = Mth.floor(center.z - radius) >> 4;
+            int maxChunkZ = Mth.floor(center.z + radius) >> 4;
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    ObjectArrayList<ItemEntity> bucket = this.buckets.get(ChunkPos.asLong(chunkX, chunkZ));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < bucket.size(); i++) {
+                        ItemEntity item = bucket.get(i);
+                        if ((this.entries.get(item).categories & categoryMask) == 0) {
+                            continue;
+                        }
+                        double distanceSq = item.distanceToSqr(center);
+                        if (distanceSq <= nearestDistanceSq && accept.test(item)) {
+                            nearestDistanceSq = distanceSq;
+                            nearest = item;
+                        }
+                    }
+                }
+            }
+            return nearest;
+        }
+
+        private static long chunkKeyOf(ItemEntity item) {
+            return ChunkPos.asLong(Mth.floor(item.getX()) >> 4, Mth.floor(item.getZ()) >> 4);
+        }
+    }
+}
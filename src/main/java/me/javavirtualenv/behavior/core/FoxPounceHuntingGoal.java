@@ -198,8 +198,8 @@ public class FoxPounceHuntingGoal extends Goal {
      */
     private boolean findPounceTargetInRange() {
         AABB searchBox = this.mob.getBoundingBox().inflate(MAX_POUNCE_DISTANCE);
-        List<LivingEntity> potentialPrey = this.mob.level()
-            .getEntitiesOfClass(LivingEntity.class, searchBox, this::isValidPrey);
+        List<LivingEntity> potentialPrey = EcologySpatialIndex
+            .getEntitiesOfClass(this.mob.level(), LivingEntity.class, searchBox, this::isValidPrey);
 
         if (potentialPrey.isEmpty()) {
             return false;
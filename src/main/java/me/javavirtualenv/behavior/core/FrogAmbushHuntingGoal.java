@@ -322,7 +322,7 @@ public class FrogAmbushHuntingGoal extends Goal {
      */
     private LivingEntity scanForPrey() {
         AABB searchBox = this.frog.getBoundingBox().inflate(TONGUE_STRIKE_RANGE);
-        List<LivingEntity> nearbyEntities = this.frog.level().getEntitiesOfClass(
+        List<LivingEntity> nearbyEntities = EcologySpatialIndex.getEntitiesOfClass(this.frog.level(),
             LivingEntity.class, searchBox, this::isValidPrey);
 
         if (nearbyEntities.isEmpty()) {
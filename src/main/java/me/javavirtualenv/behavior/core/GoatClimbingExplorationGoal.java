@@ -6,14 +6,18 @@ import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Goal that makes goats seek and climb to elevated positions for predator detection and exploration.
@@ -49,6 +53,7 @@ public class GoatClimbingExplorationGoal extends Goal {
     private static final double ACCEPTED_DISTANCE = 1.5;
     private static final double JUMP_BOOST_MULTIPLIER = 1.3;
     private static final int MIN_HEIGHT_ADVANTAGE = 2; // Minimum blocks higher than current position
+    private static final int MAX_CLIMB_CANDIDATES = 16; // Most positions a search result is pathfinding-checked against
 
     private final Mob goat;
     private final Level level;
@@ -58,6 +63,9 @@ public class GoatClimbingExplorationGoal extends Goal {
     private int standingTicks;
     private int standDuration;
     private int searchCooldown;
+    private BlockPos searchOrigin;
+    @Nullable
+    private CompletableFuture<List<AsyncBlockSearch.Candidate>> pendingSearch;
     private int sessionCooldown;
     private boolean isStanding;
     private double originalJumpBoost;
@@ -85,17 +93,27 @@ public class GoatClimbingExplorationGoal extends Goal {
             return false;
         }
 
-        if (this.searchCooldown > 0) {
-            this.searchCooldown--;
+        if (this.goat.isInWater() || this.goat.isInLava()) {
             return false;
         }
 
-        if (this.goat.isInWater() || this.goat.isInLava()) {
+        if (this.pendingSearch != null) {
+            if (!this.pendingSearch.isDone()) {
+                return false;
+            }
+            List<AsyncBlockSearch.Candidate> candidates = this.pendingSearch.join();
+            this.pendingSearch = null;
+            return chooseClimbPosition(candidates);
+        }
+
+        if (this.searchCooldown > 0) {
+            this.searchCooldown--;
             return false;
         }
 
         this.searchCooldown = reducedTickDelay(SEARCH_INTERVAL);
-        return findHighestClimbablePosition();
+        startClimbSearch();
+        return false;
     }
 
     @Override
@@ -181,52 +199,40 @@ public class GoatClimbingExplorationGoal extends Goal {
     }
 
     /**
-     * Finds the highest climbable position within search radius.
+     * Starts an off-thread search for climbable positions within search radius, ranked by
+     * height and then by view score.
+     */
+    private void startClimbSearch() {
+        this.searchOrigin = this.goat.blockPosition();
+        this.pendingSearch = AsyncBlockSearch.submit(this.level, this.searchOrigin,
+            -SEARCH_RADIUS, MIN_HEIGHT_ADVANTAGE, -SEARCH_RADIUS, SEARCH_RADIUS, VERTICAL_SEARCH_RANGE, SEARCH_RADIUS,
+            GoatClimbingExplorationGoal::isClimbableBlock,
+            (pos, state, snapshot) -> hasStandingRoom(snapshot, pos)
+                // View score is at most 1, so height always ranks first
+                ? pos.getY() * 10.0 + calculateViewScore(snapshot, pos)
+                : -1,
+            MAX_CLIMB_CANDIDATES);
+    }
+
+    /**
+     * Takes the highest reachable position from a finished search.
      *
+     * @param candidates search results, best first
      * @return true if a suitable climbing position was found
      */
-    private boolean findHighestClimbablePosition() {
-        BlockPos goatPos = this.goat.blockPosition();
-        BlockPos.MutableBlockPos searchPos = new BlockPos.MutableBlockPos();
-
-        BlockPos bestPosition = null;
-        int bestHeight = goatPos.getY();
-        double bestViewScore = 0;
-
-        for (int x = -SEARCH_RADIUS; x <= SEARCH_RADIUS; x++) {
-            for (int z = -SEARCH_RADIUS; z <= SEARCH_RADIUS; z++) {
-                for (int y = -2; y <= VERTICAL_SEARCH_RANGE; y++) {
-                    searchPos.set(goatPos.getX() + x, goatPos.getY() + y, goatPos.getZ() + z);
-
-                    if (!isValidClimbTarget(searchPos)) {
-                        continue;
-                    }
-
-                    int height = searchPos.getY();
-                    int heightAdvantage = height - goatPos.getY();
-
-                    if (heightAdvantage < MIN_HEIGHT_ADVANTAGE) {
-                        continue;
-                    }
-
-                    double viewScore = calculateViewScore(searchPos);
-
-                    if (height > bestHeight || (height == bestHeight && viewScore > bestViewScore)) {
-                        bestHeight = height;
-                        bestViewScore = viewScore;
-                        bestPosition = searchPos.immutable();
-                    }
-                }
+    private boolean chooseClimbPosition(List<AsyncBlockSearch.Candidate> candidates) {
+        // Pathfinding only runs until the best reachable candidate is found
+        for (AsyncBlockSearch.Candidate candidate : candidates) {
+            BlockPos pos = candidate.pos();
+            if (isValidClimbTarget(pos)) {
+                this.targetClimbPos = pos;
+                LOGGER.debug("Goat {} found climbing position at {} (height advantage: {}, view score: {})",
+                    this.goat.getName().getString(), pos, pos.getY() - this.searchOrigin.getY(),
+                    calculateViewScore(this.level, pos));
+                return true;
             }
         }
 
-        if (bestPosition != null) {
-            this.targetClimbPos = bestPosition;
-            LOGGER.debug("Goat {} found climbing position at {} (height advantage: {}, view score: {})",
-                this.goat.getName().getString(), bestPosition, bestHeight - goatPos.getY(), bestViewScore);
-            return true;
-        }
-
         return false;
     }
 
@@ -237,30 +243,36 @@ public class GoatClimbingExplorationGoal extends Goal {
      * @return true if the position is a valid climbing target
      */
     private boolean isValidClimbTarget(BlockPos pos) {
-        BlockState state = this.level.getBlockState(pos);
-        Block block = state.getBlock();
-
-        if (!isClimbableBlock(state)) {
+        if (!isClimbableBlock(this.level.getBlockState(pos))) {
             return false;
         }
 
-        BlockPos above = pos.above();
-        BlockState aboveState = this.level.getBlockState(above);
-
-        if (!aboveState.isAir() && !aboveState.is(BlockTags.LEAVES) && !aboveState.is(BlockTags.FLOWERS)) {
+        if (!hasStandingRoom(this.level, pos)) {
             return false;
         }
 
         return canPathToPosition(pos);
     }
 
+    /**
+     * Checks if a goat could stand on top of a block.
+     *
+     * @param level the level, or a search snapshot
+     * @param pos the block to stand on
+     * @return true if the block above is air, leaves or flowers
+     */
+    private static boolean hasStandingRoom(BlockGetter level, BlockPos pos) {
+        BlockState aboveState = level.getBlockState(pos.above());
+        return aboveState.isAir() || aboveState.is(BlockTags.LEAVES) || aboveState.is(BlockTags.FLOWERS);
+    }
+
     /**
      * Checks if a block is climbable by goats.
      *
      * @param state the block state to check
      * @return true if the block is climbable
      */
-    private boolean isClimbableBlock(BlockState state) {
+    private static boolean isClimbableBlock(BlockState state) {
         Block block = state.getBlock();
 
         if (state.is(BlockTags.FENCES) || state.is(BlockTags.WALLS)) {
@@ -283,10 +295,11 @@ public class GoatClimbingExplorationGoal extends Goal {
     /**
      * Calculates view score for a position (higher = better lookout position).
      *
+     * @param level the level, or a search snapshot
      * @param pos the position to evaluate
      * @return view score (0-1 scale)
      */
-    private double calculateViewScore(BlockPos pos) {
+    private static double calculateViewScore(BlockGetter level, BlockPos pos) {
         int exposedSides = 0;
 
         BlockPos[] directions = {
@@ -297,14 +310,14 @@ public class GoatClimbingExplorationGoal extends Goal {
         };
 
         for (BlockPos adjacent : directions) {
-            BlockState adjacentState = this.level.getBlockState(adjacent);
+            BlockState adjacentState = level.getBlockState(adjacent);
             if (adjacentState.isAir() || !adjacentState.isSolid()) {
                 exposedSides++;
             }
         }
 
         BlockPos above = pos.above();
-        if (this.level.getBlockState(above).isAir()) {
+        if (level.getBlockState(above).isAir()) {
             exposedSides++;
         }
 
@@ -0,0 +1,342 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-level index of habitat blocks animals look for, by chunk section and resource.
+ *
+ * <p>A section is scanned once, on the first query that covers it, reading its block data
+ * directly; after that it stays current from block change notifications
+ * ({@code ServerLevelBlockChangeMixin}) until its chunk unloads. Nearest-block queries then
+ * visit only the few indexed positions of the wanted resources in the sections they cover,
+ * instead of reading every block of a search cube.
+ *
+ * <p>At most {@link #MAX_SECTION_BUILDS_PER_TICK} sections are scanned per level per tick, so
+ * animals arriving in a fresh area do not scan it all in one tick. Once that budget is spent,
+ * queries skip the sections not yet scanned and report themselves incomplete
+ * ({@link Result#incomplete()}); callers should retry on a later tick rather than act on them.
+ *
+ * <p>Except for water and grazing grass, a block is only indexed while it is exposed: the
+ * block above it has no collision shape. Buried dirt and sand are never useful targets.
+ */
+public final class HabitatBlockIndex {
+
+    private HabitatBlockIndex() {
+        // Utility class
+    }
+
+    // ========== RESOURCES ==========
+
+    /** Short grass, and grass blocks with air or short grass above: what grazers eat. */
+    public static final int GRAZE = 1;
+    /** Water blocks without water above them. */
+    public static final int WATER = 1 << 1;
+    /** Grass blocks, mycelium, podzol and dirt a pig can root in. */
+    public static final int ROOTABLE = 1 << 2;
+    /** Dirt, coarse dirt, sand and red sand a chicken can dust-bathe in. */
+    public static final int DUST_BATH = 1 << 3;
+    /** Mud and clay. */
+    public static final int MUD = 1 << 4;
+    /** Gravel, such as riverbeds salmon spawn on. */
+    public static final int GRAVEL = 1 << 5;
+
+    private static final int RESOURCE_COUNT = 6;
+
+    // Section scans allowed per level per tick; each reads up to 4096 blocks
+    private static final int MAX_SECTION_BUILDS_PER_TICK = 8;
+
+    private static final Map<ResourceKey<Level>, LevelSections> levels = new HashMap<>();
+
+    /**
+     * Registers the chunk and server lifecycle listeners that evict sections.
+     */
+    public static void register() {
+        ServerChunkEvents.CHUNK_UNLOAD.register(HabitatBlockIndex::onChunkUnloaded);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> levels.clear());
+    }
+
+    /**
+     * Evicts the indexed sections of a chunk, which stop receiving block change notifications
+     * once it unloads. Called by the chunk unload listener.
+     */
+    public static void onChunkUnloaded(ServerLevel level, LevelChunk chunk) {
+        LevelSections levelSections = levels.get(level.dimension());
+        if (levelSections != null) {
+            Long2ObjectOpenHashMap<Section> sections = levelSections.sections;
+            int chunkX = chunk.getPos().x;
+            int chunkZ = chunk.getPos().z;
+            for (int sectionY = level.getMinSection(); sectionY < level.getMaxSection(); sectionY++) {
+                sections.remove(SectionPos.asLong(chunkX, sectionY, chunkZ));
+            }
+        }
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Outcome of a nearest-block query.
+     *
+     * @param pos the nearest matching position found, or null if none was found
+     * @param incomplete true if sections in range were skipped because this tick's scan budget
+     *                   was spent; a nearer match, or a match at all, may then be missing
+     */
+    public record Result(@Nullable BlockPos pos, boolean incomplete) {
+
+        public boolean found() {
+            return this.pos != null;
+        }
+    }
+
+    /**
+     * Finds the indexed block nearest to {@code center} that has any of the given resources, lies
+     * within {@code horizontalRadius} on x and z and {@code verticalRange} on y, and passes the
+     * filter (null for none). Sections of unloaded chunks are skipped; this never loads chunks.
+     * Sections not yet scanned once this tick's scan budget is spent are skipped too, and the
+     * result is then marked incomplete.
+     */
+    public static Result findNearest(ServerLevel level, BlockPos center, int resourceMask,
+                                       int horizontalRadius, int verticalRange, @Nullable Predicate<BlockPos> filter) {
+        LevelSections levelSections = levels.computeIfAbsent(level.dimension(), key -> new LevelSections());
+
+        int minX = center.getX() - horizontalRadius;
+        int maxX = center.getX() + horizontalRadius;
+        int minY = Math.max(center.getY() - verticalRange, level.getMinBuildHeight());
+        int maxY = Math.min(center.getY() + verticalRange, level.getMaxBuildHeight() - 1);
+        int minZ = center.getZ() - horizontalRadius;
+        int maxZ = center.getZ() + horizontalRadius;
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        BlockPos nearest = null;
+        double nearestDistSq = Double.MAX_VALUE;
+        boolean incomplete = false;
+
+        for (int sectionX = minX >> 4; sectionX <= maxX >> 4; sectionX++) {
+            for (int sectionZ = minZ >> 4; sectionZ <= maxZ >> 4; sectionZ++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(sectionX, sectionZ);
+                if (chunk == null) {
+                    continue;
+                }
+
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    Section section = levelSections.getOrBuild(level, chunk, sectionX, sectionY, sectionZ);
+                    if (section == null) {
+                        incomplete = true;
+                        continue;
+                    }
+
+                    for (int resource = 0; resource < RESOURCE_COUNT; resource++) {
+                        ShortOpenHashSet positions = section.byResource[resource];
+                        if ((resourceMask & (1 << resource)) == 0 || positions == null) {
+                            continue;
+                        }
+
+                        ShortIterator iterator = positions.iterator();
+                        while (iterator.hasNext()) {
+                            short local = iterator.nextShort();
+                            int x = (sectionX << 4) + (local & 15);
+                            int y = (sectionY << 4) + ((local >> 8) & 15);
+                            int z = (sectionZ << 4) + ((local >> 4) & 15);
+                            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+                                continue;
+                            }
+
+                            pos.set(x, y, z);
+                            double distSq = center.distSqr(pos);
+                            if (distSq < nearestDistSq && (filter == null || filter.test(pos))) {
+                                nearestDistSq = distSq;
+                                nearest = pos.immutable();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return new Result(nearest, incomplete);
+    }
+
+    /**
+     * Gets the resource bits of the block at a position, as the index would classify it.
+     */
+    public static int resourcesAt(Level level, BlockPos pos) {
+        BlockPos above = pos.above();
+        return classify(level, level.getBlockState(pos), level.getBlockState(above), above);
+    }
+
+    /**
+     * Re-classifies a changed block, and the block below it whose exposure may have changed,
+     * in sections that have already been indexed.
+     */
+    public static void onBlockChanged(ServerLevel level, BlockPos pos) {
+        LevelSections levelSections = levels.get(level.dimension());
+        if (levelSections == null || levelSections.sections.isEmpty()) {
+            return;
+        }
+        update(levelSections.sections, level, pos);
+        update(levelSections.sections, level, pos.below());
+    }
+
+    private static void update(Long2ObjectOpenHashMap<Section> sections, ServerLevel level, BlockPos pos) {
+        Section section = sections.get(SectionPos.asLong(pos));
+        if (section != null) {
+            section.set(localIndex(pos.getX(), pos.getY(), pos.getZ()), resourcesAt(level, pos));
+        }
+    }
+
+    // ========== INDEXING ==========
+
+    private static Section build(ServerLevel level, LevelChunk chunk, int sectionX, int sectionY, int sectionZ) {
+        Section section = new Section();
+        LevelChunkSection blocks = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+        if (blocks.hasOnlyAir() || !blocks.maybeHas(HabitatBlockIndex::isCandidate)) {
+            return section;
+        }
+
+        BlockPos.MutableBlockPos above = new BlockPos.MutableBlockPos();
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    BlockState state = blocks.getBlockState(x, y, z);
+                    if (state.isAir() || !isCandidate(state)) {
+                        continue;
+                    }
+
+                    above.set((sectionX << 4) + x, (sectionY << 4) + y + 1, (sectionZ << 4) + z);
+                    BlockState aboveState = y < 15 ? blocks.getBlockState(x, y + 1, z) : chunk.getBlockState(above);
+                    section.set(localIndex(x, y, z), classify(level, state, aboveState, above));
+                }
+            }
+        }
+        return section;
+    }
+
+    /**
+     * Cheap test for blocks that can have any resource, before the block above is read.
+     */
+    private static boolean isCandidate(BlockState state) {
+        return state.is(Blocks.SHORT_GRASS)
+            || state.is(Blocks.GRASS_BLOCK)
+            || state.is(Blocks.DIRT)
+            || state.is(Blocks.COARSE_DIRT)
+            || state.is(Blocks.MYCELIUM)
+            || state.is(Blocks.PODZOL)
+            || state.is(Blocks.SAND)
+            || state.is(Blocks.RED_SAND)
+            || state.is(Blocks.MUD)
+            || state.is(Blocks.CLAY)
+            || state.is(Blocks.GRAVEL)
+            || (!state.getFluidState().isEmpty() && state.getFluidState().is(FluidTags.WATER));
+    }
+
+    private static int classify(Level level, BlockState state, BlockState aboveState, BlockPos abovePos) {
+        int resources = 0;
+
+        if (state.is(Blocks.SHORT_GRASS)) {
+            resources |= GRAZE;
+        }
+        if (state.is(Blocks.GRASS_BLOCK) && (aboveState.isAir() || aboveState.is(Blocks.SHORT_GRASS))) {
+            resources |= GRAZE;
+        }
+        if (state.getFluidState().is(FluidTags.WATER) && !aboveState.getFluidState().is(FluidTags.WATER)) {
+            resources |= WATER;
+        }
+
+        if (!aboveState.getCollisionShape(level, abovePos).isEmpty()) {
+            return resources;
+        }
+
+        if (state.is(Blocks.GRASS_BLOCK) || state.is(Blocks.MYCELIUM) || state.is(Blocks.PODZOL)) {
+            resources |= ROOTABLE;
+        } else if (state.is(Blocks.DIRT)) {
+            resources |= ROOTABLE | DUST_BATH;
+        } else if (state.is(Blocks.COARSE_DIRT)) {
+            resources |= DUST_BATH;
+        } else if (state.is(Blocks.SAND) || state.is(Blocks.RED_SAND)) {
+            resources |= DUST_BATH;
+        } else if (state.is(Blocks.MUD) || state.is(Blocks.CLAY)) {
+            resources |= MUD;
+        } else if (state.is(Blocks.GRAVEL)) {
+            resources |= GRAVEL;
+        }
+        return resources;
+    }
+
+    private static short localIndex(int x, int y, int z) {
+        return (short) (((y & 15) << 8) | ((z & 15) << 4) | (x & 15));
+    }
+
+    /**
+     * Indexed sections of one level, and the section scans done this tick.
+     */
+    private static final class LevelSections {
+        private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+        private long buildTick = Long.MIN_VALUE;
+        private int buildsThisTick;
+
+        /**
+         * Gets an indexed section, scanning it if the tick's budget allows; null otherwise.
+         */
+        @Nullable
+        private Section getOrBuild(ServerLevel level, LevelChunk chunk, int sectionX, int sectionY, int sectionZ) {
+            long key = SectionPos.asLong(sectionX, sectionY, sectionZ);
+            Section section = this.sections.get(key);
+            if (section != null) {
+                return section;
+            }
+
+            long gameTime = level.getGameTime();
+            if (this.buildTick != gameTime) {
+                this.buildTick = gameTime;
+                this.buildsThisTick = 0;
+            }
+            if (this.buildsThisTick >= MAX_SECTION_BUILDS_PER_TICK) {
+                return null;
+            }
+            this.buildsThisTick++;
+
+            section = build(level, chunk, sectionX, sectionY, sectionZ);
+            this.sections.put(key, section);
+            return section;
+        }
+    }
+
+    /**
+     * Indexed positions of one chunk section, one set per resource (null while empty).
+     */
+    private static final class Section {
+        private final ShortOpenHashSet[] byResource = new ShortOpenHashSet[RESOURCE_COUNT];
+
+        private void set(short local, int resources) {
+            for (int resource = 0; resource < RESOURCE_COUNT; resource++) {
+                ShortOpenHashSet positions = this.byResource[resource];
+                if ((resources & (1 << resource)) != 0) {
+                    if (positions == null) {
+                        positions = new ShortOpenHashSet();
+                        this.byResource[resource] = positions;
+                    }
+                    positions.add(local);
+                } else if (positions != null) {
+                    positions.remove(local);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Coarse per-chunk habitat counts used by the needs catch-up on entity load.
+ * Each summary counts the surface columns of a chunk that hold water or edible grass,
+ * read from the {@link Heightmap.Types#WORLD_SURFACE} heightmap (256 block reads per chunk).
+ * Summaries are computed on first use and dropped when the chunk unloads.
+ */
+public final class HabitatSummaries {
+
+    private HabitatSummaries() {
+        // Utility class
+    }
+
+    // Summaries older than this are recomputed; chunks that stay loaded can change
+    private static final long MAX_SUMMARY_AGE = 1200L;
+
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<Summary>> summaries = new HashMap<>();
+
+    /**
+     * Surface habitat counts for one chunk.
+     *
+     * @param waterColumns columns whose surface block is water
+     * @param grazeColumns columns whose surface block is grass a grazer can eat
+     * @param computedTick game tick the counts were read at
+     */
+    public record Summary(int waterColumns, int grazeColumns, long computedTick) {
+        public static final Summary EMPTY = new Summary(0, 0, 0L);
+    }
+
+    /**
+     * Registers the chunk and server lifecycle listeners that evict summaries.
+     */
+    public static void register() {
+        ServerChunkEvents.CHUNK_UNLOAD.register((level, chunk) -> {
+            Long2ObjectMap<Summary> levelSummaries = summaries.get(level.dimension());
+            if (levelSummaries != null) {
+                levelSummaries.remove(chunk.getPos().toLong());
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> summaries.clear());
+    }
+
+    /**
+     * Sums the summaries of the chunks within {@code chunkRadius} of the given position.
+     * Chunks that are not loaded count as empty; this never loads or generates chunks.
+     */
+    public static Summary around(ServerLevel level, BlockPos pos, int chunkRadius) {
+        int centerX = pos.getX() >> 4;
+        int centerZ = pos.getZ() >> 4;
+        int water = 0;
+        int graze = 0;
+
+        for (int dx = -chunkRadius; dx <= chunkRadius; dx++) {
+            for (int dz = -chunkRadius; dz <= chunkRadius; dz++) {
+                Summary summary = get(level, centerX + dx, centerZ + dz);
+                water += summary.waterColumns();
+                graze += summary.grazeColumns();
+            }
+        }
+        return new Summary(water, graze, level.getGameTime());
+    }
+
+    /**
+     * Gets the summary for a loaded chunk, computing it if missing or stale.
+     * Returns {@link Summary#EMPTY} if the chunk is not loaded.
+     */
+    public static Summary get(ServerLevel level, int chunkX, int chunkZ) {
+        LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+        if (chunk == null) {
+            return Summary.EMPTY;
+        }
+
+        Long2ObjectMap<Summary> levelSummaries = summaries.computeIfAbsent(level.dimension(), key -> new Long2ObjectOpenHashMap<>());
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        long gameTime = level.getGameTime();
+        Summary summary = levelSummaries.get(key);
+        if (summary == null || gameTime - summary.computedTick() > MAX_SUMMARY_AGE) {
+            summary = compute(chunk, gameTime);
+            levelSummaries.put(key, summary);
+        }
+        return summary;
+    }
+
+    private static Summary compute(LevelChunk chunk, long gameTime) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int baseX = chunk.getPos().getMinBlockX();
+        int baseZ = chunk.getPos().getMinBlockZ();
+        int water = 0;
+        int graze = 0;
+
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int surfaceY = chunk.getHeight(Heightmap.Types.WORLD_SURFACE, x, z);
+                pos.set(baseX + x, surfaceY, baseZ + z);
+                BlockState state = chunk.getBlockState(pos);
+
+                if (state.getFluidState().is(FluidTags.WATER)) {
+                    water++;
+                } else if (state.is(Blocks.GRASS_BLOCK) || state.is(Blocks.SHORT_GRASS) || state.is(Blocks.TALL_GRASS)) {
+                    graze++;
+                }
+            }
+        }
+        return new Summary(water, graze, gameTime);
+    }
+}
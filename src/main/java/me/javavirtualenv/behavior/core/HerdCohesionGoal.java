@@ -2,14 +2,11 @@ package me.javavirtualenv.behavior.core;
 
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.goal.Goal;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.List;
 
 /**
  * Goal that implements herd cohesion with quorum-based movement initiation.
@@ -32,8 +29,9 @@ public class HerdCohesionGoal extends Goal {
     private static final Logger LOGGER = LoggerFactory.getLogger(HerdCohesionGoal.class);
 
     private static final int CHECK_INTERVAL_TICKS = 10;
+    // Nearest mates considered for separation
+    private static final int SEPARATION_NEIGHBORS = 4;
     private static final double MIN_SEPARATION_DISTANCE = 2.5;
-    private static final double MOVEMENT_THRESHOLD = 0.5;
 
     private final Mob mob;
     private final Class<? extends Mob> herdMateType;
@@ -43,8 +41,10 @@ public class HerdCohesionGoal extends Goal {
     private final double maxDistanceFromHerd;
     private final float quorumThreshold;
 
+    private final NeighborBuffer nearestMates = new NeighborBuffer(SEPARATION_NEIGHBORS);
+
     private Vec3 targetPosition;
-    private int checkCooldown;
+    private final Cooldown checkCooldown = new Cooldown();
     private int cohesionTicks;
 
     /**
@@ -73,7 +73,6 @@ public class HerdCohesionGoal extends Goal {
         this.minHerdSize = minHerdSize;
         this.maxDistanceFromHerd = maxDistanceFromHerd;
         this.quorumThreshold = Math.max(0.0f, Math.min(1.0f, quorumThreshold));
-        this.checkCooldown = 0;
         this.setFlags(EnumSet.of(Goal.Flag.MOVE));
     }
 
@@ -110,21 +109,20 @@ public class HerdCohesionGoal extends Goal {
 
     @Override
     public boolean canUse() {
-        if (this.checkCooldown > 0) {
-            this.checkCooldown--;
+        long gameTime = this.mob.level().getGameTime();
+        if (!this.checkCooldown.isReady(gameTime)) {
             return false;
         }
 
-        this.checkCooldown = reducedTickDelay(CHECK_INTERVAL_TICKS);
-
-        List<? extends Mob> nearbyHerdMates = findNearbyHerdMates();
+        this.checkCooldown.start(gameTime, CHECK_INTERVAL_TICKS);
 
-        if (nearbyHerdMates.size() < this.minHerdSize) {
+        HerdRegistry.Herd herd = findHerd();
+        if (herd == null) {
             return false;
         }
 
         // First priority: Check if we need to separate from crowding
-        Mob tooClose = findTooCloseNeighbor(nearbyHerdMates);
+        Mob tooClose = findTooCloseNeighbor();
         if (tooClose != null) {
             // Move away from the too-close neighbor
             Vec3 awayDirection = this.mob.position().subtract(tooClose.position()).normalize();
@@ -139,17 +137,17 @@ public class HerdCohesionGoal extends Goal {
             return true;
         }
 
-        Vec3 herdCenter = calculateHerdCenter(nearbyHerdMates);
+        Vec3 herdCenter = herd.centroidWithout(this.mob);
         double distanceToHerd = this.mob.position().distanceTo(herdCenter);
 
         if (distanceToHerd < this.maxDistanceFromHerd) {
             // Within acceptable distance, check if quorum is moving
-            if (!isQuorumMoving(nearbyHerdMates)) {
+            if (!isQuorumMoving(herd)) {
                 return false;
             }
         }
 
-        this.targetPosition = calculateTargetPosition(nearbyHerdMates, herdCenter);
+        this.targetPosition = calculateTargetPosition(herdCenter);
 
         LOGGER.debug("{} is {} blocks from herd, moving to maintain cohesion",
             this.mob.getName().getString(), String.format("%.1f", distanceToHerd));
@@ -158,17 +156,14 @@ public class HerdCohesionGoal extends Goal {
     }
 
     /**
-     * Finds a herd mate that is too close (within minimum separation distance).
+     * Returns the nearest herd mate if it is too close (within minimum separation distance).
      *
-     * @param herdMates list of herd members
-     * @return the first herd mate that is too close, or null if none
+     * @return the nearest herd mate if it is too close, or null if none
      */
-    private Mob findTooCloseNeighbor(List<? extends Mob> herdMates) {
-        for (Mob mate : herdMates) {
-            double distance = this.mob.distanceTo(mate);
-            if (distance < MIN_SEPARATION_DISTANCE) {
-                return mate;
-            }
+    private Mob findTooCloseNeighbor() {
+        NeighborBuffer mates = findNearestMates();
+        if (!mates.isEmpty() && mates.distanceSqr(0) < MIN_SEPARATION_DISTANCE * MIN_SEPARATION_DISTANCE) {
+            return (Mob) mates.get(0);
         }
         return null;
     }
@@ -206,92 +201,44 @@ public class HerdCohesionGoal extends Goal {
         this.cohesionTicks++;
 
         if (this.cohesionTicks % 20 == 0) {
-            List<? extends Mob> nearbyHerdMates = findNearbyHerdMates();
-            if (!nearbyHerdMates.isEmpty()) {
-                Vec3 herdCenter = calculateHerdCenter(nearbyHerdMates);
-                this.targetPosition = calculateTargetPosition(nearbyHerdMates, herdCenter);
+            HerdRegistry.Herd herd = findHerd();
+            if (herd != null) {
+                this.targetPosition = calculateTargetPosition(herd.centroidWithout(this.mob));
                 navigateToTarget();
             }
         }
     }
 
     /**
-     * Finds nearby herd mates of the same type.
+     * Finds the herd to stay with: the mob's own herd from the {@link HerdRegistry}, or the
+     * nearest herd within the cohesion radius if its own has too few other members.
      *
-     * @return list of nearby herd members
+     * @return the herd, or null if there is none nearby
      */
-    private List<? extends Mob> findNearbyHerdMates() {
-        AABB searchBox = this.mob.getBoundingBox().inflate(this.cohesionRadius);
-        return this.mob.level().getEntitiesOfClass(this.herdMateType, searchBox, this::isValidHerdMate);
-    }
-
-    /**
-     * Validates if an entity is a valid herd mate.
-     *
-     * @param entity the entity to check
-     * @return true if this is a valid herd mate
-     */
-    private boolean isValidHerdMate(Mob entity) {
-        if (entity == this.mob) {
-            return false;
+    private HerdRegistry.Herd findHerd() {
+        HerdRegistry.Herd herd = HerdRegistry.herdOf(this.mob, this.herdMateType);
+        if (herd == null || herd.sizeWithout(this.mob) < this.minHerdSize) {
+            herd = HerdRegistry.nearestOtherHerd(this.mob, this.herdMateType, this.cohesionRadius, this.minHerdSize);
         }
-        if (!entity.isAlive()) {
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * Calculates the center position of the herd.
-     *
-     * @param herdMates list of herd members
-     * @return center position of the herd
-     */
-    private Vec3 calculateHerdCenter(List<? extends Mob> herdMates) {
-        double sumX = 0, sumY = 0, sumZ = 0;
-
-        for (Mob mate : herdMates) {
-            sumX += mate.getX();
-            sumY += mate.getY();
-            sumZ += mate.getZ();
-        }
-
-        int count = herdMates.size();
-        return new Vec3(sumX / count, sumY / count, sumZ / count);
+        return herd;
     }
 
     /**
      * Checks if enough of the herd is moving to trigger quorum response.
      * Based on research showing bison herds wait for ~47% quorum before moving.
      *
-     * @param herdMates list of herd members
+     * @param herd the herd to check
      * @return true if quorum threshold is met
      */
-    private boolean isQuorumMoving(List<? extends Mob> herdMates) {
-        if (herdMates.isEmpty()) {
-            return false;
-        }
-
-        int movingCount = 0;
-
-        for (Mob mate : herdMates) {
-            Vec3 deltaMovement = mate.getDeltaMovement();
-            double speed = Math.sqrt(deltaMovement.x * deltaMovement.x + deltaMovement.z * deltaMovement.z);
-
-            if (speed > MOVEMENT_THRESHOLD) {
-                movingCount++;
-            }
-        }
-
-        float movingRatio = (float) movingCount / herdMates.size();
+    private boolean isQuorumMoving(HerdRegistry.Herd herd) {
+        float movingRatio = herd.movingRatioWithout(this.mob);
         boolean quorumMet = movingRatio >= this.quorumThreshold;
 
         if (quorumMet) {
-            LOGGER.debug("{} detected quorum: {}/{} moving ({}%)",
+            LOGGER.debug("{} detected quorum: {}% of {} moving",
                 this.mob.getName().getString(),
-                movingCount,
-                herdMates.size(),
-                String.format("%.0f", movingRatio * 100));
+                String.format("%.0f", movingRatio * 100),
+                herd.sizeWithout(this.mob));
         }
 
         return quorumMet;
@@ -300,31 +247,39 @@ public class HerdCohesionGoal extends Goal {
     /**
      * Calculates the target position considering cohesion and separation.
      *
-     * @param herdMates list of herd members
      * @param herdCenter center of the herd
      * @return optimal target position
      */
-    private Vec3 calculateTargetPosition(List<? extends Mob> herdMates, Vec3 herdCenter) {
+    private Vec3 calculateTargetPosition(Vec3 herdCenter) {
         // Start with cohesion (move toward center)
         Vec3 cohesion = herdCenter;
 
-        // Find the nearest herd mate to avoid crowding
-        Mob nearest = herdMates.stream()
-            .min(Comparator.comparingDouble(mate -> this.mob.distanceToSqr(mate)))
-            .orElse(null);
-
-        if (nearest != null) {
-            double distToNearest = this.mob.distanceTo(nearest);
-            if (distToNearest < MIN_SEPARATION_DISTANCE * 2) {
-                // Adjust target to maintain some separation
-                Vec3 awayFromNearest = this.mob.position().subtract(nearest.position()).normalize();
-                cohesion = cohesion.add(awayFromNearest.scale(MIN_SEPARATION_DISTANCE));
+        // Steer away from the nearest herd mates to avoid crowding, closer mates pushing harder
+        NeighborBuffer mates = findNearestMates();
+        Vec3 away = Vec3.ZERO;
+        for (int i = 0; i < mates.size(); i++) {
+            Vec3 offset = this.mob.position().subtract(mates.get(i).position());
+            double distance = offset.length();
+            if (distance > 0.01) {
+                away = away.add(offset.scale(1.0 / (distance * distance)));
             }
         }
+        if (away.lengthSqr() > 1.0E-6) {
+            cohesion = cohesion.add(away.normalize().scale(MIN_SEPARATION_DISTANCE));
+        }
 
         return cohesion;
     }
 
+    /**
+     * Finds up to {@link #SEPARATION_NEIGHBORS} living herd mates within twice the minimum
+     * separation distance, nearest first.
+     */
+    private NeighborBuffer findNearestMates() {
+        return EcologySpatialIndex.nearestNeighbors(this.mob, this.herdMateType, SEPARATION_NEIGHBORS,
+            MIN_SEPARATION_DISTANCE * 2, Mob::isAlive, this.nearestMates);
+    }
+
     /**
      * Navigates the mob toward the target position.
      */
@@ -2,14 +2,11 @@ package me.javavirtualenv.behavior.core;
 
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.goal.Goal;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.List;
 
 /**
  * Goal that makes animals stay together in herds/flocks.
@@ -27,6 +24,8 @@ public class HerdFollowGoal extends Goal {
     private static final Logger LOGGER = LoggerFactory.getLogger(HerdFollowGoal.class);
 
     private static final int CHECK_INTERVAL_TICKS = 60;
+    // Nearest mates considered for separation
+    private static final int SEPARATION_NEIGHBORS = 4;
     private static final double MIN_SEPARATION_DISTANCE = 2.0;
 
     private final Mob mob;
@@ -36,6 +35,8 @@ public class HerdFollowGoal extends Goal {
     private final int minHerdSize;
     private final double maxDistanceFromHerd;
 
+    private final NeighborBuffer nearestMates = new NeighborBuffer(SEPARATION_NEIGHBORS);
+
     private Vec3 targetPosition;
     private int checkCooldown;
     private int followTicks;
@@ -86,20 +87,19 @@ public class HerdFollowGoal extends Goal {
 
         this.checkCooldown = reducedTickDelay(CHECK_INTERVAL_TICKS);
 
-        List<? extends Mob> nearbyHerdMates = findNearbyHerdMates();
-
-        if (nearbyHerdMates.size() < this.minHerdSize) {
+        HerdRegistry.Herd herd = findHerd();
+        if (herd == null) {
             return false;
         }
 
-        Vec3 herdCenter = calculateHerdCenter(nearbyHerdMates);
+        Vec3 herdCenter = herd.centroidWithout(this.mob);
         double distanceToHerd = this.mob.position().distanceTo(herdCenter);
 
         if (distanceToHerd < this.maxDistanceFromHerd) {
             return false;
         }
 
-        this.targetPosition = calculateTargetPosition(nearbyHerdMates, herdCenter);
+        this.targetPosition = calculateTargetPosition(herdCenter);
         LOGGER.debug("{} is {} blocks from herd, moving to rejoin",
             this.mob.getName().getString(), String.format("%.1f", distanceToHerd));
 
@@ -139,88 +139,64 @@ public class HerdFollowGoal extends Goal {
         this.followTicks++;
 
         if (this.followTicks % 20 == 0) {
-            List<? extends Mob> nearbyHerdMates = findNearbyHerdMates();
-            if (!nearbyHerdMates.isEmpty()) {
-                Vec3 herdCenter = calculateHerdCenter(nearbyHerdMates);
-                this.targetPosition = calculateTargetPosition(nearbyHerdMates, herdCenter);
+            HerdRegistry.Herd herd = findHerd();
+            if (herd != null) {
+                this.targetPosition = calculateTargetPosition(herd.centroidWithout(this.mob));
                 navigateToTarget();
             }
         }
     }
 
     /**
-     * Finds nearby herd mates of the same type.
-     *
-     * @return list of nearby herd members
-     */
-    private List<? extends Mob> findNearbyHerdMates() {
-        AABB searchBox = this.mob.getBoundingBox().inflate(this.searchRadius);
-        return this.mob.level().getEntitiesOfClass(this.herdMateType, searchBox, this::isValidHerdMate);
-    }
-
-    /**
-     * Validates if an entity is a valid herd mate.
-     *
-     * @param entity the entity to check
-     * @return true if this is a valid herd mate
-     */
-    private boolean isValidHerdMate(Mob entity) {
-        if (entity == this.mob) {
-            return false;
-        }
-        if (!entity.isAlive()) {
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * Calculates the center position of the herd.
+     * Finds the herd to follow: the mob's own herd from the {@link HerdRegistry}, or the
+     * nearest herd within the search radius if its own has too few other members.
      *
-     * @param herdMates list of herd members
-     * @return center position of the herd
+     * @return the herd, or null if there is none nearby
      */
-    private Vec3 calculateHerdCenter(List<? extends Mob> herdMates) {
-        double sumX = 0, sumY = 0, sumZ = 0;
-
-        for (Mob mate : herdMates) {
-            sumX += mate.getX();
-            sumY += mate.getY();
-            sumZ += mate.getZ();
+    private HerdRegistry.Herd findHerd() {
+        HerdRegistry.Herd herd = HerdRegistry.herdOf(this.mob, this.herdMateType);
+        if (herd == null || herd.sizeWithout(this.mob) < this.minHerdSize) {
+            herd = HerdRegistry.nearestOtherHerd(this.mob, this.herdMateType, this.searchRadius, this.minHerdSize);
         }
-
-        int count = herdMates.size();
-        return new Vec3(sumX / count, sumY / count, sumZ / count);
+        return herd;
     }
 
     /**
      * Calculates the target position considering cohesion and separation.
      *
-     * @param herdMates list of herd members
      * @param herdCenter center of the herd
      * @return optimal target position
      */
-    private Vec3 calculateTargetPosition(List<? extends Mob> herdMates, Vec3 herdCenter) {
+    private Vec3 calculateTargetPosition(Vec3 herdCenter) {
         // Start with cohesion (move toward center)
         Vec3 cohesion = herdCenter;
 
-        // Find the nearest herd mate to avoid crowding
-        Mob nearest = herdMates.stream()
-            .min(Comparator.comparingDouble(mate -> this.mob.distanceToSqr(mate)))
-            .orElse(null);
-
-        if (nearest != null) {
-            double distToNearest = this.mob.distanceTo(nearest);
-            if (distToNearest < MIN_SEPARATION_DISTANCE * 2) {
-                // Adjust target to maintain some separation
-                Vec3 awayFromNearest = this.mob.position().subtract(nearest.position()).normalize();
-                cohesion = cohesion.add(awayFromNearest.scale(MIN_SEPARATION_DISTANCE));
+        // Steer away from the nearest herd mates to avoid crowding, closer mates pushing harder
+        NeighborBuffer mates = findNearestMates();
+        Vec3 away = Vec3.ZERO;
+        for (int i = 0; i < mates.size(); i++) {
+            Vec3 offset = this.mob.position().subtract(mates.get(i).position());
+            double distance = offset.length();
+            if (distance > 0.01) {
+                away = away.add(offset.scale(1.0 / (distance * distance)));
             }
         }
+        if (away.lengthSqr() > 1.0E-6) {
+            cohesion = cohesion.add(away.normalize().scale(MIN_SEPARATION_DISTANCE));
+        }
 
         return cohesion;
     }
 
+    /**
+     * Finds up to {@link #SEPARATION_NEIGHBORS} living herd mates within twice the minimum
+     * separation distance, nearest first.
+     */
+    private NeighborBuffer findNearestMates() {
+        return EcologySpatialIndex.nearestNeighbors(this.mob, this.herdMateType, SEPARATION_NEIGHBORS,
+            MIN_SEPARATION_DISTANCE * 2, Mob::isAlive, this.nearestMates);
+    }
+
     /**
      * Navigates the mob toward the target position.
      */
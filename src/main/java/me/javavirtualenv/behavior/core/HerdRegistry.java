@@ -0,0 +1,372 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-side registry of herds: groups of same-type animals clustered by proximity.
+ *
+ * <p>Animals join the registry the first time one of their herd goals asks for their herd.
+ * Every {@link #REBUILD_INTERVAL} ticks, on the first query after the interval, the members
+ * of each herd type are bucketed into a grid of {@link #LINK_DISTANCE}-sized cells and
+ * joined with union-find: two animals within {@link #LINK_DISTANCE} of each other are in the
+ * same herd. Each herd keeps its member list, the sum of member positions and the number
+ * of members moving, so goals read the centroid and quorum of their herd in O(1) instead
+ * of querying and looping over their neighbourhood. Separation from the nearest mates uses
+ * {@link EcologySpatialIndex#nearestNeighbors} instead, which sees current positions.
+ *
+ * <p>The clustering pass only compares animals in the same or adjacent cells, own cell
+ * first, and each animal makes at most {@link #MAX_LINK_CHECKS} comparisons, so a pass costs
+ * O(n) even when a whole herd is packed into one cell. Beyond that many animals per
+ * neighbourhood, members are linked through the mates they were compared with.
+ */
+public final class HerdRegistry {
+
+    // Animals closer than this are linked into the same herd
+    static final double LINK_DISTANCE = 6.0;
+
+    // Horizontal speed (blocks per tick) above which a member counts as moving
+    static final double MOVEMENT_THRESHOLD = 0.5;
+
+    // Ticks a clustering stays in use before the next query rebuilds it
+    private static final int REBUILD_INTERVAL = 10;
+
+    // 8-block cells, so linked animals are always in the same or an adjacent cell
+    private static final int CELL_SHIFT = 3;
+
+    // Comparisons each animal makes per clustering pass, bounding the cost in a crowd
+    private static final int MAX_LINK_CHECKS = 32;
+
+    // Own cell first, so the capped comparisons go to the closest animals
+    private static final int[][] CELL_OFFSETS = {
+        {0, 0}, {-1, 0}, {1, 0}, {0, -1}, {0, 1}, {-1, -1}, {-1, 1}, {1, -1}, {1, 1}
+    };
+
+    private static final Map<ResourceKey<Level>, HerdRegistry> registries = new HashMap<>();
+
+    private final ServerLevel level;
+    private final Map<Class<? extends Mob>, Group> groups = new HashMap<>();
+
+    private HerdRegistry(ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Registers the entity unload and server lifecycle listeners that keep the registries current.
+     */
+    public static void register() {
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+            HerdRegistry registry = registries.get(level.dimension());
+            if (registry != null && entity instanceof Mob mob) {
+                for (Group group : registry.groups.values()) {
+                    group.tracked.remove(mob);
+                }
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> registries.clear());
+    }
+
+    /**
+     * Gets the registry for a level, creating it on first use.
+     */
+    public static HerdRegistry get(ServerLevel level) {
+        HerdRegistry registry = registries.get(level.dimension());
+        if (registry == null || registry.level != level) {
+            registry = new HerdRegistry(level);
+            registries.put(level.dimension(), registry);
+        }
+        return registry;
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Gets the herd a mob belongs to, tracking the mob under the given herd type if it is new.
+     * Returns null on the client and until the mob's first clustering pass.
+     */
+    public static Herd herdOf(Mob mob, Class<? extends Mob> herdType) {
+        Member member = memberOf(mob, herdType);
+        return member != null ? member.herd : null;
+    }
+
+    /**
+     * Finds the nearest herd other than the mob's own with at least {@code minSize} members
+     * and its centroid within {@code radius} of the mob. Used by animals whose own herd is
+     * too small, to rejoin a herd they have strayed from.
+     */
+    public static Herd nearestOtherHerd(Mob mob, Class<? extends Mob> herdType, double radius, int minSize) {
+        Member member = memberOf(mob, herdType);
+        if (member == null) {
+            return null;
+        }
+
+        Group group = get((ServerLevel) mob.level()).groups.get(herdType);
+        Herd nearest = null;
+        double nearestDistSqr = radius * radius;
+        for (Herd herd : group.herds) {
+            if (herd == member.herd || herd.size() < minSize) {
+                continue;
+            }
+            double distSqr = mob.distanceToSqr(herd.centroid());
+            if (distSqr <= nearestDistSqr) {
+                nearestDistSqr = distSqr;
+                nearest = herd;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Gets the number of herds of the given type in a level, as of the last clustering pass.
+     */
+    public int getHerdCount(Class<? extends Mob> herdType) {
+        Group group = this.groups.get(herdType);
+        return group != null ? group.herds.size() : 0;
+    }
+
+    private static Member memberOf(Mob mob, Class<? extends Mob> herdType) {
+        if (!(mob.level() instanceof ServerLevel serverLevel)) {
+            return null;
+        }
+
+        HerdRegistry registry = get(serverLevel);
+        Group group = registry.groups.computeIfAbsent(herdType, type -> new Group());
+        group.tracked.add(mob);
+
+        long gameTime = serverLevel.getGameTime();
+        if (gameTime - group.builtTick >= REBUILD_INTERVAL) {
+            group.rebuild(gameTime);
+        }
+        return group.members.get(mob);
+    }
+
+    // ========== HERD ==========
+
+    /**
+     * One herd as of the last clustering pass.
+     */
+    public static final class Herd {
+        private final Map<Mob, Member> index;
+        private final List<Mob> members = new ObjectArrayList<>();
+        private double sumX;
+        private double sumY;
+        private double sumZ;
+        private int movingCount;
+
+        private Herd(Map<Mob, Member> index) {
+            this.index = index;
+        }
+
+        /**
+         * Gets the members of the herd, including any that have moved away since the pass.
+         */
+        public List<Mob> members() {
+            return Collections.unmodifiableList(this.members);
+        }
+
+        public int size() {
+            return this.members.size();
+        }
+
+        /**
+         * Gets the number of members that were moving at the last pass.
+         */
+        public int movingCount() {
+            return this.movingCount;
+        }
+
+        public Vec3 centroid() {
+            int count = this.members.size();
+            return new Vec3(this.sumX / count, this.sumY / count, this.sumZ / count);
+        }
+
+        /**
+         * Gets the number of members other than the given mob.
+         */
+        public int sizeWithout(Mob mob) {
+            Member member = memberIn(mob);
+            return member != null ? this.members.size() - 1 : this.members.size();
+        }
+
+        /**
+         * Gets the centroid of the members other than the given mob.
+         */
+        public Vec3 centroidWithout(Mob mob) {
+            Member member = memberIn(mob);
+            if (member == null || this.members.size() < 2) {
+                return centroid();
+            }
+            int count = this.members.size() - 1;
+            return new Vec3((this.sumX - member.x) / count, (this.sumY - member.y) / count, (this.sumZ - member.z) / count);
+        }
+
+        /**
+         * Gets the fraction of members other than the given mob that were moving at the last pass.
+         */
+        public float movingRatioWithout(Mob mob) {
+            Member member = memberIn(mob);
+            int count = this.members.size();
+            int moving = this.movingCount;
+            if (member != null) {
+                count--;
+                if (member.moving) {
+                    moving--;
+                }
+            }
+            return count > 0 ? (float) moving / count : 0.0f;
+        }
+
+        private Member memberIn(Mob mob) {
+            Member member = this.index.get(mob);
+            return member != null && member.herd == this ? member : null;
+        }
+
+        private void add(Member member) {
+            this.members.add(member.mob);
+            this.sumX += member.x;
+            this.sumY += member.y;
+            this.sumZ += member.z;
+            if (member.moving) {
+                this.movingCount++;
+            }
+        }
+    }
+
+    // ========== CLUSTERING ==========
+
+    /**
+     * A tracked animal's state at the last clustering pass.
+     */
+    private static final class Member {
+        private final Mob mob;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final boolean moving;
+        private Herd herd;
+
+        private Member(Mob mob) {
+            this.mob = mob;
+            this.x = mob.getX();
+            this.y = mob.getY();
+            this.z = mob.getZ();
+            Vec3 delta = mob.getDeltaMovement();
+            this.moving = delta.x * delta.x + delta.z * delta.z > MOVEMENT_THRESHOLD * MOVEMENT_THRESHOLD;
+        }
+    }
+
+    /**
+     * Tracked animals and herds of one herd type.
+     */
+    private static final class Group {
+        private final ReferenceLinkedOpenHashSet<Mob> tracked = new ReferenceLinkedOpenHashSet<>();
+        private final Reference2ObjectOpenHashMap<Mob, Member> members = new Reference2ObjectOpenHashMap<>();
+        private final List<Herd> herds = new ObjectArrayList<>();
+        private long builtTick = Long.MIN_VALUE;
+
+        private void rebuild(long gameTime) {
+            this.builtTick = gameTime;
+            this.tracked.removeIf(mob -> mob.isRemoved() || !mob.isAlive());
+            this.members.clear();
+            this.herds.clear();
+
+            int count = this.tracked.size();
+            Member[] snapshot = new Member[count];
+            Long2ObjectOpenHashMap<IntArrayList> cells = new Long2ObjectOpenHashMap<>();
+            int index = 0;
+            for (Mob mob : this.tracked) {
+                Member member = new Member(mob);
+                snapshot[index] = member;
+                cells.computeIfAbsent(cellKey(member.x, member.z), key -> new IntArrayList()).add(index);
+                index++;
+            }
+
+            int[] parent = new int[count];
+            for (int i = 0; i < count; i++) {
+                parent[i] = i;
+            }
+
+            // Link each member to the members of the same and adjacent cells, up to the check cap
+            for (int i = 0; i < count; i++) {
+                Member a = snapshot[i];
+                int cellX = (int) Math.floor(a.x) >> CELL_SHIFT;
+                int cellZ = (int) Math.floor(a.z) >> CELL_SHIFT;
+                int checks = 0;
+                for (int[] offset : CELL_OFFSETS) {
+                    IntArrayList cell = cells.get(ChunkPos.asLong(cellX + offset[0], cellZ + offset[1]));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int c = 0; c < cell.size() && checks < MAX_LINK_CHECKS; c++) {
+                        int j = cell.getInt(c);
+                        if (j == i) {
+                            continue;
+                        }
+                        checks++;
+                        Member b = snapshot[j];
+                        double ddx = a.x - b.x;
+                        double ddy = a.y - b.y;
+                        double ddz = a.z - b.z;
+                        if (ddx * ddx + ddy * ddy + ddz * ddz <= LINK_DISTANCE * LINK_DISTANCE) {
+                            union(parent, i, j);
+                        }
+                    }
+                    if (checks >= MAX_LINK_CHECKS) {
+                        break;
+                    }
+                }
+            }
+
+            Herd[] herdByRoot = new Herd[count];
+            for (int i = 0; i < count; i++) {
+                int root = find(parent, i);
+                Herd herd = herdByRoot[root];
+                if (herd == null) {
+                    herd = new Herd(this.members);
+                    herdByRoot[root] = herd;
+                    this.herds.add(herd);
+                }
+                Member member = snapshot[i];
+                member.herd = herd;
+                herd.add(member);
+                this.members.put(member.mob, member);
+            }
+        }
+
+        private static long cellKey(double x, double z) {
+            return ChunkPos.asLong((int) Math.floor(x) >> CELL_SHIFT, (int) Math.floor(z) >> CELL_SHIFT);
+        }
+
+        private static int find(int[] parent, int i) {
+            while (parent[i] != i) {
+                parent[i] = parent[parent[i]];
+                i = parent[i];
+            }
+            return i;
+        }
+
+        private static void union(int[] parent, int a, int b) {
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA != rootB) {
+                parent[rootB] = rootA;
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package me.javavirtualenv.behavior.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
 import net.minecraft.world.entity.LivingEntity;
@@ -9,9 +9,6 @@ import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.animal.Wolf;
-import net.minecraft.world.entity.item.ItemEntity;
-import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
 import net.minecraft.world.phys.AABB;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,7 +20,8 @@ import org.slf4j.LoggerFactory;
  * <ul>
  *   <li>Activates when {@link AnimalNeeds#isHungry(Mob)} returns true AND no food items nearby</li>
  *   <li>Searches for prey entities within a configurable hunt range</li>
- *   <li>Selects prey based on proximity, health, and isolation</li>
+ *   <li>Selects prey based on proximity, health, and isolation, scored by the
+ *       predator's {@link PreySelector.ScoringFunction}</li>
  *   <li>Sets prey as target and pathfinds toward it</li>
  *   <li>Delegates attack behavior to the mob's natural attack mechanics</li>
  *   <li>Restores hunger when prey is killed</li>
@@ -50,6 +48,7 @@ public class HuntPreyGoal extends Goal {
     private final double speedModifier;
     private final int huntRange;
     private final List<Class<? extends LivingEntity>> preyTypes;
+    private final PreySelector.ScoringFunction scoring;
 
     private LivingEntity targetPrey;
     private int searchCooldown;
@@ -73,6 +72,7 @@ public class HuntPreyGoal extends Goal {
         this.speedModifier = speedModifier;
         this.huntRange = huntRange;
         this.preyTypes = Arrays.asList(preyTypes);
+        this.scoring = PreySelector.scoringFor(mob);
         this.searchCooldown = 0;
         this.huntTicks = 0;
         this.pathRecalculationTimer = 0;
@@ -259,28 +259,19 @@ public class HuntPreyGoal extends Goal {
 
         double currentDistanceSq = this.mob.distanceToSqr(this.targetPrey);
 
-        // Find all valid prey
+        // Only prey significantly closer than the current target (within threshold) is worth switching to
+        double thresholdSq = currentDistanceSq * RETARGET_DISTANCE_THRESHOLD;
         AABB searchBox = this.mob.getBoundingBox().inflate(this.huntRange);
-        List<LivingEntity> potentialPrey = this.mob.level().getEntitiesOfClass(
-            LivingEntity.class, searchBox, this::isValidPrey);
+        List<LivingEntity> closerPrey = EcologySpatialIndex.getEntitiesOfClass(this.mob.level(),
+            LivingEntity.class, searchBox,
+            prey -> prey != this.targetPrey && isCandidatePrey(prey) && this.mob.distanceToSqr(prey) < thresholdSq);
 
-        // Find the closest prey
-        LivingEntity closestPrey = null;
-        double closestDistanceSq = currentDistanceSq;
+        // Closest first; reachability is only checked until one passes
+        LivingEntity closestPrey = PreySelector.select(this.mob, closerPrey, List.of(),
+            (predator, prey, distanceSq, herdNeighbours) -> distanceSq, this::canReachPrey);
 
-        for (LivingEntity prey : potentialPrey) {
-            if (prey == this.targetPrey) {
-                continue;
-            }
-            double distanceSq = this.mob.distanceToSqr(prey);
-            if (distanceSq < closestDistanceSq) {
-                closestDistanceSq = distanceSq;
-                closestPrey = prey;
-            }
-        }
-
-        // Switch to closer target if it's significantly closer (within threshold)
-        if (closestPrey != null && closestDistanceSq < currentDistanceSq * RETARGET_DISTANCE_THRESHOLD) {
+        if (closestPrey != null) {
+            double closestDistanceSq = this.mob.distanceToSqr(closestPrey);
             LOGGER.debug("{} retargeting from {} (dist={}) to {} (dist={})",
                 this.mob.getName().getString(),
                 this.targetPrey.getName().getString(),
@@ -301,28 +292,7 @@ public class HuntPreyGoal extends Goal {
      * @return true if meat items are within detection range
      */
     private boolean hasFoodItemsNearby() {
-        AABB searchBox = this.mob.getBoundingBox().inflate(FOOD_ITEM_CHECK_RADIUS);
-        List<ItemEntity> meatItems = this.mob.level().getEntitiesOfClass(ItemEntity.class, searchBox, this::isMeatItem);
-        return !meatItems.isEmpty();
-    }
-
-    /**
-     * Checks if an item entity contains meat that wolves can eat.
-     *
-     * @param itemEntity the item entity to check
-     * @return true if the item is meat
-     */
-    private boolean isMeatItem(ItemEntity itemEntity) {
-        if (itemEntity == null || !itemEntity.isAlive()) {
-            return false;
-        }
-        ItemStack stack = itemEntity.getItem();
-        return stack.is(Items.BEEF) || stack.is(Items.COOKED_BEEF) ||
-               stack.is(Items.PORKCHOP) || stack.is(Items.COOKED_PORKCHOP) ||
-               stack.is(Items.MUTTON) || stack.is(Items.COOKED_MUTTON) ||
-               stack.is(Items.CHICKEN) || stack.is(Items.COOKED_CHICKEN) ||
-               stack.is(Items.RABBIT) || stack.is(Items.COOKED_RABBIT) ||
-               stack.is(Items.ROTTEN_FLESH);
+        return FoodItemIndex.hasAny(this.mob.level(), this.mob.position(), FoodItemIndex.MEAT, FOOD_ITEM_CHECK_RADIUS);
     }
 
     /**
@@ -332,14 +302,25 @@ public class HuntPreyGoal extends Goal {
      */
     private boolean findAndTargetPrey() {
         AABB searchBox = this.mob.getBoundingBox().inflate(this.huntRange);
-        List<LivingEntity> potentialPrey = this.mob.level().getEntitiesOfClass(LivingEntity.class, searchBox, this::isValidPrey);
+        // One query covers the hunt area plus the isolation radius around every candidate
+        List<LivingEntity> surroundings = EcologySpatialIndex.getEntitiesOfClass(this.mob.level(),
+            LivingEntity.class, searchBox.inflate(PreySelector.ISOLATION_RADIUS));
+
+        List<LivingEntity> potentialPrey = new ArrayList<>();
+        for (LivingEntity entity : surroundings) {
+            if (searchBox.intersects(entity.getBoundingBox()) && isCandidatePrey(entity)) {
+                potentialPrey.add(entity);
+            }
+        }
 
         if (potentialPrey.isEmpty()) {
             LOGGER.debug("{} found no prey within {} blocks", this.mob.getName().getString(), this.huntRange);
             return false;
         }
 
-        LivingEntity selectedPrey = selectBestPrey(potentialPrey);
+        // Scores each candidate once, then checks reachability best first
+        LivingEntity selectedPrey = PreySelector.select(this.mob, potentialPrey, surroundings,
+            this.scoring, this::canReachPrey);
 
         if (selectedPrey != null) {
             this.targetPrey = selectedPrey;
@@ -354,12 +335,13 @@ public class HuntPreyGoal extends Goal {
     }
 
     /**
-     * Validates if an entity is valid prey for hunting.
+     * Validates if an entity is valid prey for hunting, apart from reachability,
+     * which is checked separately by {@link #canReachPrey} as it may compute a path.
      *
      * @param entity the entity to validate
      * @return true if the entity can be hunted
      */
-    private boolean isValidPrey(LivingEntity entity) {
+    private boolean isCandidatePrey(LivingEntity entity) {
         if (entity == null || !entity.isAlive()) {
             return false;
         }
@@ -381,13 +363,7 @@ public class HuntPreyGoal extends Goal {
             }
         }
 
-        if (!isValidType) {
-            return false;
-        }
-
-        // Check if prey is reachable (can pathfind to it)
-        // This prevents targeting prey on unreachable platforms/ledges
-        return canReachPrey(entity);
+        return isValidType;
     }
 
     /**
@@ -415,53 +391,6 @@ public class HuntPreyGoal extends Goal {
         return path.canReach();
     }
 
-    /**
-     * Selects the best prey from a list of potential targets.
-     * Prefers prey that is nearest, weaker (lower health), or isolated.
-     *
-     * @param potentialPrey list of valid prey entities
-     * @return the selected prey, or null if none suitable
-     */
-    private LivingEntity selectBestPrey(List<LivingEntity> potentialPrey) {
-        return potentialPrey.stream()
-            .min(Comparator
-                .comparingDouble(this::calculatePreyScore))
-            .orElse(null);
-    }
-
-    /**
-     * Calculates a hunting priority score for a prey entity.
-     * Lower scores are preferred (nearest, weakest, most isolated).
-     *
-     * @param prey the prey entity to score
-     * @return hunting priority score
-     */
-    private double calculatePreyScore(LivingEntity prey) {
-        double distance = this.mob.distanceToSqr(prey);
-        double healthFactor = prey.getHealth() / prey.getMaxHealth();
-        double isolationFactor = calculateIsolationFactor(prey);
-
-        return (distance * 0.5) + (healthFactor * 100) + (isolationFactor * 50);
-    }
-
-    /**
-     * Calculates how isolated a prey entity is from others of its kind.
-     * More isolated prey (fewer nearby allies) get lower scores.
-     *
-     * @param prey the prey entity to check
-     * @return isolation factor (0 = very isolated, higher = more allies nearby)
-     */
-    private double calculateIsolationFactor(LivingEntity prey) {
-        AABB nearbyBox = prey.getBoundingBox().inflate(8.0);
-        long nearbyCount = this.mob.level().getEntitiesOfClass(LivingEntity.class, nearbyBox)
-            .stream()
-            .filter(entity -> entity.getClass() == prey.getClass())
-            .filter(entity -> entity != prey && entity.isAlive())
-            .count();
-
-        return nearbyCount;
-    }
-
     /**
      * Checks if the prey has escaped beyond hunting range.
      *
@@ -0,0 +1,177 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-level cache of line-of-sight raycasts, keyed by the observer's and target's eye block positions.
+ *
+ * <p>Prey goals test every predator candidate for line of sight each time they look for danger,
+ * and the vanilla {@code Sensing} cache only lasts one tick for one observer. Results here are
+ * shared by every observer standing in the same block, and stay valid for {@link #MAX_AGE_TICKS}
+ * or until a block changes in a chunk the ray passes over, whichever comes first. Block changes
+ * are reported by {@code ServerLevelBlockChangeMixin}.
+ *
+ * <p>Goals use it by building their {@code TargetingConditions} with {@code ignoreLineOfSight()}
+ * and calling {@link #hasLineOfSight} after the cheaper range checks pass.
+ */
+public final class LineOfSightCache {
+
+    private LineOfSightCache() {
+        // Utility class
+    }
+
+    /** Ticks a cached result stays valid if no block changes under it. */
+    public static final long MAX_AGE_TICKS = 5L;
+
+    // Stale entries and block change records are dropped this often
+    private static final int PRUNE_INTERVAL_TICKS = 20;
+
+    private static final Map<ResourceKey<Level>, LevelCache> levels = new HashMap<>();
+
+    private static long hits;
+    private static long misses;
+
+    /**
+     * Registers the tick and lifecycle listeners that prune the cache.
+     */
+    public static void register() {
+        ServerTickEvents.END_WORLD_TICK.register(level -> {
+            if (level.getGameTime() % PRUNE_INTERVAL_TICKS == 0) {
+                LevelCache cache = levels.get(level.dimension());
+                if (cache != null) {
+                    cache.prune(level.getGameTime());
+                }
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> levels.clear());
+    }
+
+    /**
+     * Checks if the observer can see the target, as {@link LivingEntity#hasLineOfSight}, reusing a
+     * recent result for the same pair of eye blocks when nothing along the ray has changed.
+     */
+    public static boolean hasLineOfSight(LivingEntity observer, LivingEntity target) {
+        if (!(observer.level() instanceof ServerLevel level) || target.level() != level) {
+            return observer.hasLineOfSight(target);
+        }
+
+        LevelCache cache = levels.computeIfAbsent(level.dimension(), key -> new LevelCache());
+        long from = BlockPos.asLong(observer.getBlockX(), Mth.floor(observer.getEyeY()), observer.getBlockZ());
+        long to = BlockPos.asLong(target.getBlockX(), Mth.floor(target.getEyeY()), target.getBlockZ());
+        RayKey key = new RayKey(from, to);
+        long gameTime = level.getGameTime();
+
+        Result cached = cache.results.get(key);
+        if (cached != null && cache.isValid(cached, gameTime)) {
+            hits++;
+            return cached.visible;
+        }
+
+        misses++;
+        boolean visible = observer.hasLineOfSight(target);
+        cache.results.put(key, new Result(visible, gameTime,
+            Math.min(observer.getBlockX(), target.getBlockX()) >> 4,
+            Math.min(observer.getBlockZ(), target.getBlockZ()) >> 4,
+            Math.max(observer.getBlockX(), target.getBlockX()) >> 4,
+            Math.max(observer.getBlockZ(), target.getBlockZ()) >> 4));
+        return visible;
+    }
+
+    /**
+     * Invalidates cached rays over the chunk containing a changed block.
+     */
+    public static void onBlockChanged(ServerLevel level, BlockPos pos) {
+        LevelCache cache = levels.get(level.dimension());
+        if (cache != null) {
+            cache.chunkChanges.put(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), level.getGameTime());
+        }
+    }
+
+    // ========== STATISTICS ==========
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the fraction of lookups answered from the cache, or 0 before any lookup.
+     */
+    public static double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public static void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    private record RayKey(long from, long to) {
+    }
+
+    /**
+     * A raycast result and the chunk range its ray covers.
+     */
+    private record Result(boolean visible, long computedTick, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+    }
+
+    /**
+     * Cached results of one level and the tick each chunk last had a block change.
+     */
+    private static final class LevelCache {
+        private final Object2ObjectOpenHashMap<RayKey, Result> results = new Object2ObjectOpenHashMap<>();
+        private final Long2LongOpenHashMap chunkChanges = new Long2LongOpenHashMap();
+
+        private LevelCache() {
+            this.chunkChanges.defaultReturnValue(Long.MIN_VALUE);
+        }
+
+        private boolean isValid(Result result, long gameTime) {
+            if (gameTime - result.computedTick > MAX_AGE_TICKS) {
+                return false;
+            }
+            if (this.chunkChanges.isEmpty()) {
+                return true;
+            }
+            for (int x = result.minChunkX; x <= result.maxChunkX; x++) {
+                for (int z = result.minChunkZ; z <= result.maxChunkZ; z++) {
+                    if (this.chunkChanges.get(ChunkPos.asLong(x, z)) >= result.computedTick) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void prune(long gameTime) {
+            long oldest = gameTime - MAX_AGE_TICKS;
+            this.results.values().removeIf(result -> result.computedTick < oldest);
+            // A change older than every cached result can no longer invalidate anything
+            ObjectIterator<Long2LongMap.Entry> changes = this.chunkChanges.long2LongEntrySet().fastIterator();
+            while (changes.hasNext()) {
+                if (changes.next().getLongValue() < oldest) {
+                    changes.remove();
+                }
+            }
+        }
+    }
+}
@@ -220,8 +220,8 @@ public class LlamaGuardianSpitGoal extends Goal {
     @Nullable
     private Wolf findNearbyWolf() {
         AABB searchBox = this.llama.getBoundingBox().inflate(this.detectionRange);
-        List<Wolf> nearbyWolves = this.llama.level()
-            .getEntitiesOfClass(Wolf.class, searchBox, wolf -> wolf.isAlive() && !wolf.isTame());
+        List<Wolf> nearbyWolves = EcologySpatialIndex
+            .getEntitiesOfClass(this.llama.level(), Wolf.class, searchBox, wolf -> wolf.isAlive() && !wolf.isTame());
 
         return nearbyWolves.stream()
             .min((w1, w2) -> Double.compare(this.llama.distanceToSqr(w1), this.llama.distanceToSqr(w2)))
@@ -235,14 +235,14 @@ public class LlamaGuardianSpitGoal extends Goal {
      */
     private List<Mob> findNearbyLivestock() {
         AABB searchBox = this.llama.getBoundingBox().inflate(this.defenseRadius);
-        List<Mob> livestock = this.llama.level()
-            .getEntitiesOfClass(Sheep.class, searchBox, Mob::isAlive)
+        List<Mob> livestock = EcologySpatialIndex
+            .getEntitiesOfClass(this.llama.level(), Sheep.class, searchBox, Mob::isAlive)
             .stream()
             .map(sheep -> (Mob) sheep)
             .collect(java.util.stream.Collectors.toList());
 
-        List<Goat> goats = this.llama.level()
-            .getEntitiesOfClass(Goat.class, searchBox, Mob::isAlive);
+        List<Goat> goats = EcologySpatialIndex
+            .getEntitiesOfClass(this.llama.level(), Goat.class, searchBox, Mob::isAlive);
         for (Goat goat : goats) {
             livestock.add(goat);
         }
@@ -190,14 +190,14 @@ public class LlamaLivestockBondGoal extends Goal {
     private List<Mob> findNearbyLivestock() {
         AABB searchBox = this.llama.getBoundingBox().inflate(this.bondDistance);
 
-        List<Mob> livestock = this.llama.level()
-            .getEntitiesOfClass(Sheep.class, searchBox, Mob::isAlive)
+        List<Mob> livestock = EcologySpatialIndex
+            .getEntitiesOfClass(this.llama.level(), Sheep.class, searchBox, Mob::isAlive)
             .stream()
             .map(sheep -> (Mob) sheep)
             .collect(java.util.stream.Collectors.toList());
 
-        List<Goat> goats = this.llama.level()
-            .getEntitiesOfClass(Goat.class, searchBox, Mob::isAlive);
+        List<Goat> goats = EcologySpatialIndex
+            .getEntitiesOfClass(this.llama.level(), Goat.class, searchBox, Mob::isAlive);
 
         for (Goat goat : goats) {
             livestock.add(goat);
@@ -25,6 +25,9 @@ import java.util.List;
  *   <li>Continue attacking until the predator flees or dies</li>
  * </ul>
  *
+ * <p>A baby's distress call ({@link AlarmBus#DISTRESS}) makes the adult check that baby
+ * for threats straight away instead of waiting for its next search.
+ *
  * <p>Based on research showing maternal aggression during lactation periods
  * as a defense mechanism against predators and infanticidal conspecifics.
  */
@@ -74,6 +77,7 @@ public class MotherProtectBabyGoal extends Goal {
         this.threatRange = threatRange;
         this.speedModifier = speedModifier;
         this.predatorClasses = predatorClasses;
+        PredatorPresenceMap.registerPredatorTypes(predatorClasses);
         this.searchCooldown = 0;
         this.setFlags(EnumSet.of(Goal.Flag.MOVE, Goal.Flag.LOOK, Goal.Flag.TARGET));
     }
@@ -85,15 +89,18 @@ public class MotherProtectBabyGoal extends Goal {
             return false;
         }
 
-        if (this.searchCooldown > 0) {
-            this.searchCooldown--;
-            return false;
-        }
+        Mob threatenedBaby = findCallingBaby();
+        if (threatenedBaby == null) {
+            if (this.searchCooldown > 0) {
+                this.searchCooldown--;
+                return false;
+            }
 
-        this.searchCooldown = reducedTickDelay(SEARCH_INTERVAL_TICKS);
+            this.searchCooldown = reducedTickDelay(SEARCH_INTERVAL_TICKS);
 
-        // Find nearby babies
-        Mob threatenedBaby = findThreatenedBaby();
+            // Find nearby babies
+            threatenedBaby = findThreatenedBaby();
+        }
         if (threatenedBaby == null) {
             return false;
         }
@@ -202,6 +209,24 @@ public class MotherProtectBabyGoal extends Goal {
         }
     }
 
+    /**
+     * Gets a baby whose distress call this adult heard, if it is within protection range
+     * and has a threat nearby.
+     *
+     * @return the calling baby, or null if none
+     */
+    @Nullable
+    private Mob findCallingBaby() {
+        AlarmBus.Alarm call = AlarmBus.take(this.mob, AlarmBus.DISTRESS);
+        if (call == null || !(call.source() instanceof Mob baby) || !this.babyType.isInstance(baby)) {
+            return null;
+        }
+        if (!isValidBaby(baby) || this.mob.distanceToSqr(baby) > this.protectionRange * this.protectionRange) {
+            return null;
+        }
+        return findThreatNearBaby(baby) != null ? baby : null;
+    }
+
     /**
      * Finds the nearest baby that has a threat nearby.
      *
@@ -210,8 +235,8 @@ public class MotherProtectBabyGoal extends Goal {
     @Nullable
     private Mob findThreatenedBaby() {
         AABB searchBox = this.mob.getBoundingBox().inflate(this.protectionRange);
-        List<? extends Mob> nearbyBabies = this.mob.level()
-            .getEntitiesOfClass(this.babyType, searchBox, this::isValidBaby);
+        List<? extends Mob> nearbyBabies = EcologySpatialIndex
+            .getEntitiesOfClass(this.mob.level(), this.babyType, searchBox, this::isValidBaby);
 
         // Check each baby for nearby threats
         for (Mob baby : nearbyBabies) {
@@ -233,14 +258,17 @@ public class MotherProtectBabyGoal extends Goal {
     @Nullable
     private LivingEntity findThreatNearBaby(Mob baby) {
         AABB threatBox = baby.getBoundingBox().inflate(this.threatRange);
+        if (!PredatorPresenceMap.mayHavePredatorsNear(this.mob.level(), threatBox)) {
+            return null;
+        }
 
         LivingEntity nearestThreat = null;
         double nearestDistSq = Double.MAX_VALUE;
 
         for (Class<?> predatorClass : this.predatorClasses) {
             @SuppressWarnings("unchecked")
-            List<? extends LivingEntity> predators = this.mob.level()
-                .getEntitiesOfClass((Class<? extends LivingEntity>) predatorClass, threatBox,
+            List<? extends LivingEntity> predators = EcologySpatialIndex
+                .getEntitiesOfClass(this.mob.level(), (Class<? extends LivingEntity>) predatorClass, threatBox,
                     entity -> entity.isAlive() && entity != this.mob);
 
             for (LivingEntity predator : predators) {
@@ -0,0 +1,94 @@
+package me.javavirtualenv.behavior.core;
+
+import me.javavirtualenv.mixin.MobAccessor;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.WrappedGoal;
+
+/**
+ * Catches needs up over the time an entity spent in an unloaded chunk.
+ *
+ * <p>Needs are settled when an entity is saved, so on load the elapsed time is
+ * simply the current game time minus the saved settle tick. Instead of ticking
+ * the missed interval, the catch-up is evaluated in O(1):
+ * <ul>
+ *   <li>Decay is applied in closed form at the awake rates of the mob's
+ *       {@link EcologyTicker.Profile}, but never drags a value below its critical
+ *       threshold; an unwatched animal does not starve to death offscreen.</li>
+ *   <li>If water is nearby, thirst is assumed to have been kept in the band between
+ *       thirsty and hydrated, as the animal would have gone to drink.</li>
+ *   <li>Grazers with grass nearby likewise keep hunger between hungry and satisfied.</li>
+ * </ul>
+ * "Nearby" is read from {@link HabitatSummaries} for the surrounding chunks.
+ * Runs on the first state access after load, which {@link EcologyTicker} makes
+ * when it registers the loaded mob.
+ */
+public final class NeedsCatchUp {
+
+    private NeedsCatchUp() {
+        // Utility class
+    }
+
+    // Shorter absences are treated as pure decay; there was no time to reach food or water
+    private static final long RESOURCE_ACCESS_TICKS = 1200L;
+
+    // Chunk radius of the habitat considered reachable (3x3 chunks)
+    private static final int HABITAT_CHUNK_RADIUS = 1;
+
+    // Minimum grass columns for grazing to sustain an animal
+    private static final int MIN_GRAZE_COLUMNS = 8;
+
+    // Values an animal with access to the resource settles around
+    private static final float HUNGER_STEADY_STATE = (AnimalThresholds.HUNGRY + AnimalThresholds.SATISFIED) / 2f;
+    private static final float THIRST_STEADY_STATE = (AnimalThresholds.THIRSTY + AnimalThresholds.HYDRATED) / 2f;
+
+    /**
+     * Resumes a just-loaded needs state at the given tick, applying the needs change
+     * over the time since it was saved.
+     */
+    public static void apply(Mob mob, NeedsState state, long tick) {
+        float savedHunger = state.getSettledHunger();
+        float savedThirst = state.getSettledThirst();
+        long savedTick = state.getSettledTick();
+
+        if (savedTick == NeedsState.UNKNOWN_TICK || tick <= savedTick || !(mob.level() instanceof ServerLevel level)) {
+            state.resumeAt(tick, savedHunger, savedThirst);
+            return;
+        }
+
+        // Loaded states have no water contact, so at the type's awake metabolism this is pure decay
+        EcologyTicker.Profile profile = EcologyTicker.getProfile(mob);
+        if (profile != null) {
+            state.setMetabolism(savedTick,
+                AnimalThresholds.DEFAULT_HUNGER_DECAY * profile.hungerMultiplier(),
+                AnimalThresholds.DEFAULT_THIRST_DECAY * profile.thirstMultiplier());
+        }
+        float hunger = state.hungerAt(tick);
+        float thirst = state.thirstAt(tick);
+
+        if (tick - savedTick >= RESOURCE_ACCESS_TICKS) {
+            HabitatSummaries.Summary habitat = HabitatSummaries.around(level, mob.blockPosition(), HABITAT_CHUNK_RADIUS);
+            if (habitat.waterColumns() > 0) {
+                thirst = Math.max(thirst, THIRST_STEADY_STATE);
+            }
+            if (habitat.grazeColumns() >= MIN_GRAZE_COLUMNS && isGrazer(mob)) {
+                hunger = Math.max(hunger, HUNGER_STEADY_STATE);
+            }
+        }
+
+        // Offscreen decay stops at the critical thresholds; values already below them stay put
+        hunger = Math.max(hunger, Math.min(savedHunger, AnimalThresholds.STARVING));
+        thirst = Math.max(thirst, Math.min(savedThirst, AnimalThresholds.DEHYDRATED));
+
+        state.resumeAt(tick, hunger, thirst);
+    }
+
+    private static boolean isGrazer(Mob mob) {
+        for (WrappedGoal wrappedGoal : ((MobAccessor) mob).getGoalSelector().getAvailableGoals()) {
+            if (wrappedGoal.getGoal() instanceof SeekFoodGoal seekFood && seekFood.getMode() == SeekFoodGoal.FoodMode.GRAZER) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,104 @@
+package me.javavirtualenv.behavior.core;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Spreads needs processing over a number of tick-phase buckets.
+ *
+ * <p>Each mob is assigned to one of N buckets by entity id and does its sampled needs
+ * work (water contact, metabolism) only on ticks where its bucket is due, so the cost
+ * per tick stays roughly flat at (loaded mobs / N). Decay itself is closed-form in
+ * {@link NeedsState}, so a mob sampled every N ticks accumulates exactly the decay of the
+ * elapsed ticks; only the moment a water-contact change is noticed shifts by up to N ticks.
+ * Wake ticks (critical thresholds and needs damage) are checked every tick regardless of
+ * bucket, so starvation and dehydration damage stays on time.
+ *
+ * <p>With adaptive scheduling on, N doubles while the smoothed tick time is above
+ * {@link #HIGH_MSPT} and halves back towards the configured base while below {@link #LOW_MSPT}.
+ */
+public final class NeedsScheduler {
+
+    private NeedsScheduler() {
+        // Utility class
+    }
+
+    public static final int MIN_BUCKETS = 1;
+    public static final int MAX_BUCKETS = 20;
+    public static final int DEFAULT_BUCKETS = 4;
+
+    // Smoothed milliseconds per tick at which the bucket count grows or shrinks
+    public static final float HIGH_MSPT = 40f;
+    public static final float LOW_MSPT = 25f;
+
+    // Ticks between bucket count adjustments, so the count does not oscillate
+    private static final int ADAPT_INTERVAL = 100;
+
+    private static int baseBuckets = DEFAULT_BUCKETS;
+    private static int bucketCount = DEFAULT_BUCKETS;
+    private static boolean adaptive = true;
+    private static int adaptCooldown = 0;
+
+    /**
+     * Registers the server tick listener that adapts the bucket count.
+     */
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(NeedsScheduler::adapt);
+    }
+
+    /**
+     * Returns true if the mob's bucket is due this tick.
+     */
+    public static boolean isDue(Entity entity, long gameTime) {
+        return bucketCount <= 1 || Math.floorMod(gameTime + entity.getId(), bucketCount) == 0;
+    }
+
+    /**
+     * Gets the number of buckets currently in use.
+     */
+    public static int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Gets the configured bucket count that adaptive scheduling returns to.
+     */
+    public static int getBaseBuckets() {
+        return baseBuckets;
+    }
+
+    /**
+     * Sets the configured bucket count, clamped to {@link #MIN_BUCKETS}-{@link #MAX_BUCKETS}.
+     */
+    public static void setBaseBuckets(int buckets) {
+        baseBuckets = Math.max(MIN_BUCKETS, Math.min(MAX_BUCKETS, buckets));
+        bucketCount = baseBuckets;
+        adaptCooldown = ADAPT_INTERVAL;
+    }
+
+    public static boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public static void setAdaptive(boolean enabled) {
+        adaptive = enabled;
+        if (!enabled) {
+            bucketCount = baseBuckets;
+        }
+    }
+
+    private static void adapt(MinecraftServer server) {
+        if (!adaptive || --adaptCooldown > 0) {
+            return;
+        }
+        adaptCooldown = ADAPT_INTERVAL;
+
+        float mspt = server.getCurrentSmoothedTickTime();
+        if (mspt > HIGH_MSPT && bucketCount < MAX_BUCKETS) {
+            bucketCount = Math.min(MAX_BUCKETS, bucketCount * 2);
+        } else if (mspt < LOW_MSPT && bucketCount > baseBuckets) {
+            bucketCount = Math.max(baseBuckets, bucketCount / 2);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package me.javavirtualenv.behavior.core;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+/**
+ * Mutable per-mob needs state stored as a single attachment.
+ * Holds hunger, thirst, the last needs-damage tick and the initialized flag
+ * as primitive fields so the per-tick needs update does one attachment lookup
+ * and no boxing.
+ *
+ * <p>Needs are lazy: hunger and thirst are stored as the value at the game tick
+ * they were last settled, plus the per-tick rate in effect since then. Reads
+ * evaluate the linear decay in closed form; writes only happen on events
+ * (eating, drinking, entering or leaving water, damage). The next tick at which
+ * a critical threshold is crossed, or needs damage is due, is precomputed as
+ * the wake tick so the ticker does not poll thresholds.
+ *
+ * <p>Access this through {@link AnimalNeeds}, which owns the attachment type
+ * and handles migration from the legacy per-value attachments.
+ */
+public final class NeedsState {
+
+    public static final Codec<NeedsState> CODEC = RecordCodecBuilder.create(instance ->
+        instance.group(
+            Codec.FLOAT.fieldOf("hunger").forGetter(NeedsState::getSettledHunger),
+            Codec.FLOAT.fieldOf("thirst").forGetter(NeedsState::getSettledThirst),
+            Codec.LONG.optionalFieldOf("settled_tick", UNKNOWN_TICK).forGetter(NeedsState::getSettledTick),
+            Codec.LONG.optionalFieldOf("last_damage_tick", 0L).forGetter(NeedsState::getLastDamageTick),
+            Codec.BOOL.optionalFieldOf("initialized", false).forGetter(NeedsState::isInitialized)
+        ).apply(instance, NeedsState::loaded)
+    );
+
+    /**
+     * Settled tick of states saved before the settle tick was recorded.
+     */
+    public static final long UNKNOWN_TICK = -1L;
+
+    // Values as of settledTick
+    private float hunger;
+    private float thirst;
+    private long settledTick;
+
+    // Signed per-tick rates in effect since settledTick
+    private float hungerRate;
+    private float thirstRate;
+
+    // Metabolism (positive per-tick decay before water contact)
+    private float hungerDecay = AnimalThresholds.DEFAULT_HUNGER_DECAY;
+    private float thirstDecay = AnimalThresholds.DEFAULT_THIRST_DECAY;
+    private boolean inWater;
+
+    private long lastDamageTick;
+    private boolean initialized;
+
+    // Transient bookkeeping
+    private long wakeTick;
+    private boolean pendingLoad;
+    private int revision;
+
+    /**
+     * Creates a fresh state with default values, settled at the given tick.
+     */
+    public NeedsState(long tick) {
+        this(AnimalNeeds.DEFAULT_HUNGER, AnimalNeeds.DEFAULT_THIRST, tick, 0L, false);
+    }
+
+    public NeedsState(float hunger, float thirst, long settledTick, long lastDamageTick, boolean initialized) {
+        this.hunger = clamp(hunger);
+        this.thirst = clamp(thirst);
+        this.settledTick = settledTick;
+        this.lastDamageTick = lastDamageTick;
+        this.initialized = initialized;
+        updateRates();
+    }
+
+    private static NeedsState loaded(float hunger, float thirst, long settledTick, long lastDamageTick, boolean initialized) {
+        NeedsState state = new NeedsState(hunger, thirst, settledTick, lastDamageTick, initialized);
+        state.pendingLoad = true;
+        return state;
+    }
+
+    // ========== READS ==========
+
+    /**
+     * Gets hunger at the given game tick (0-100).
+     */
+    public float hungerAt(long tick) {
+        return project(this.hunger, this.hungerRate, tick);
+    }
+
+    /**
+     * Gets thirst at the given game tick (0-100).
+     */
+    public float thirstAt(long tick) {
+        return project(this.thirst, this.thirstRate, tick);
+    }
+
+    public float getSettledHunger() {
+        return this.hunger;
+    }
+
+    public float getSettledThirst() {
+        return this.thirst;
+    }
+
+    public long getSettledTick() {
+        return this.settledTick;
+    }
+
+    public float getHungerRate() {
+        return this.hungerRate;
+    }
+
+    public float getThirstRate() {
+        return this.thirstRate;
+    }
+
+    // ========== WRITES ==========
+
+    /**
+     * Folds elapsed decay into the stored values so the state is exact at the given tick.
+     */
+    public void settle(long tick) {
+        if (tick == this.settledTick) {
+            return;
+        }
+        this.hunger = hungerAt(tick);
+        this.thirst = thirstAt(tick);
+        this.settledTick = tick;
+    }
+
+    /**
+     * Sets hunger at the given tick, clamped to 0-100.
+     */
+    public void setHunger(long tick, float value) {
+        settle(tick);
+        this.hunger = clamp(value);
+        this.revision++;
+        scheduleWake(tick);
+    }
+
+    /**
+     * Sets thirst at the given tick, clamped to 0-100.
+     */
+    public void setThirst(long tick, float value) {
+        settle(tick);
+        this.thirst = clamp(value);
+        this.revision++;
+        scheduleWake(tick);
+    }
+
+    /**
+     * Changes the per-tick metabolism. No-op when unchanged, so callers may
+     * pass the current metabolism every tick.
+     */
+    public void setMetabolism(long tick, float hungerDecay, float thirstDecay) {
+        if (hungerDecay == this.hungerDecay && thirstDecay == this.thirstDecay) {
+            return;
+        }
+        settle(tick);
+        this.hungerDecay = hungerDecay;
+        this.thirstDecay = thirstDecay;
+        this.revision++;
+        updateRates();
+        scheduleWake(tick);
+    }
+
+    public boolean isInWater() {
+        return this.inWater;
+    }
+
+    /**
+     * Records the start or end of a water-contact interval, during which thirst is restored.
+     */
+    public void setInWater(long tick, boolean inWater) {
+        if (inWater == this.inWater) {
+            return;
+        }
+        settle(tick);
+        this.inWater = inWater;
+        this.revision++;
+        updateRates();
+        scheduleWake(tick);
+    }
+
+    // ========== WAKE SCHEDULING ==========
+
+    /**
+     * Gets the next tick at which the needs ticker has to act on this state.
+     */
+    public long getWakeTick() {
+        return this.wakeTick;
+    }
+
+    /**
+     * Recomputes the wake tick: the next needs-damage tick if already critical,
+     * otherwise the first tick at which hunger or thirst drops below its critical threshold.
+     */
+    public void scheduleWake(long tick) {
+        if (hungerAt(tick) < AnimalThresholds.STARVING || thirstAt(tick) < AnimalThresholds.DEHYDRATED) {
+            this.wakeTick = Math.max(tick + 1, this.lastDamageTick + AnimalThresholds.DEFAULT_DAMAGE_INTERVAL);
+            return;
+        }
+
+        long hungerCrossing = crossingTick(this.hunger, this.hungerRate, AnimalThresholds.STARVING);
+        long thirstCrossing = crossingTick(this.thirst, this.thirstRate, AnimalThresholds.DEHYDRATED);
+        this.wakeTick = Math.max(tick + 1, Math.min(hungerCrossing, thirstCrossing));
+    }
+
+    private long crossingTick(float value, float rate, float threshold) {
+        if (rate >= 0f) {
+            return Long.MAX_VALUE;
+        }
+        double ticks = (value - threshold) / -(double) rate;
+        return this.settledTick + (long) Math.floor(ticks) + 1;
+    }
+
+    // ========== DAMAGE TRACKING ==========
+
+    public long getLastDamageTick() {
+        return this.lastDamageTick;
+    }
+
+    public void setLastDamageTick(long tick) {
+        this.lastDamageTick = tick;
+    }
+
+    // ========== INITIALIZATION ==========
+
+    public boolean isInitialized() {
+        return this.initialized;
+    }
+
+    public void markInitialized() {
+        this.initialized = true;
+    }
+
+    /**
+     * Returns true if this state was just deserialized and has not been rebased onto the current game time.
+     */
+    public boolean isPendingLoad() {
+        return this.pendingLoad;
+    }
+
+    /**
+     * Resumes a deserialized state at the given tick with the given values,
+     * which the caller has caught up over the time the entity was unloaded.
+     */
+    public void resumeAt(long tick, float hunger, float thirst) {
+        this.hunger = clamp(hunger);
+        this.thirst = clamp(thirst);
+        this.settledTick = tick;
+        this.pendingLoad = false;
+        this.wakeTick = 0L;
+        this.revision++;
+    }
+
+    // ========== SYNC ==========
+
+    /**
+     * Gets a counter that changes whenever the hunger/thirst trajectory has a discontinuity
+     * (a value was set, or a rate changed). Between changes, {@link #hungerAt(long)} and
+     * {@link #thirstAt(long)} are linear, so clients can extrapolate them.
+     */
+    public int getRevision() {
+        return this.revision;
+    }
+
+    // ========== UTILITY ==========
+
+    private void updateRates() {
+        this.hungerRate = -this.hungerDecay;
+        this.thirstRate = -this.thirstDecay + (this.inWater ? AnimalThresholds.WATER_CONTACT_THIRST_RESTORE : 0f);
+    }
+
+    private float project(float value, float rate, long tick) {
+        long elapsed = tick - this.settledTick;
+        if (elapsed <= 0L || rate == 0f) {
+            return value;
+        }
+        return clamp((float) (value + (double) rate * elapsed));
+    }
+
+    private static float clamp(float value) {
+        return Math.max(AnimalNeeds.MIN_VALUE, Math.min(AnimalNeeds.MAX_VALUE, value));
+    }
+
+    @Override
+    public String toString() {
+        return "NeedsState[hunger=" + this.hunger + ", thirst=" + this.thirst
+            + ", settledTick=" + this.settledTick + ", hungerRate=" + this.hungerRate
+            + ", thirstRate=" + this.thirstRate + ", wakeTick=" + this.wakeTick + "]";
+    }
+}
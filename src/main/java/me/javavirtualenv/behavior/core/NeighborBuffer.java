@@ -0,0 +1,96 @@
+package me.javavirtualenv.behavior.core;
+
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Reusable, fixed-capacity buffer of the k nearest entities to a point, ordered nearest first.
+ *
+ * <p>Filled by {@link EcologySpatialIndex#nearestNeighbors}; a goal or steering behaviour keeps
+ * one buffer and refills it on every query, so neighbour lookups do not allocate.
+ * Offering a candidate costs O(k), and k is small (flocking uses about 7).
+ */
+public final class NeighborBuffer {
+
+    private final Entity[] entities;
+    private final double[] distancesSqr;
+    private int limit;
+    private int size;
+
+    /**
+     * Creates a buffer that can hold up to {@code capacity} neighbours.
+     */
+    public NeighborBuffer(int capacity) {
+        this.entities = new Entity[capacity];
+        this.distancesSqr = new double[capacity];
+        this.limit = capacity;
+    }
+
+    /**
+     * Empties the buffer and sets how many neighbours the next query keeps, up to the capacity.
+     */
+    public void reset(int k) {
+        for (int i = 0; i < this.size; i++) {
+            this.entities[i] = null;
+        }
+        this.size = 0;
+        this.limit = Math.max(0, Math.min(k, this.entities.length));
+    }
+
+    /**
+     * Offers a candidate at the given squared distance; kept if it is among the k nearest so far.
+     */
+    public void offer(Entity entity, double distanceSqr) {
+        if (this.size == this.limit) {
+            if (this.limit == 0 || distanceSqr >= this.distancesSqr[this.size - 1]) {
+                return;
+            }
+            this.size--;
+        }
+
+        int i = this.size;
+        while (i > 0 && this.distancesSqr[i - 1] > distanceSqr) {
+            this.entities[i] = this.entities[i - 1];
+            this.distancesSqr[i] = this.distancesSqr[i - 1];
+            i--;
+        }
+        this.entities[i] = entity;
+        this.distancesSqr[i] = distanceSqr;
+        this.size++;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns true once k neighbours have been found.
+     */
+    public boolean isFull() {
+        return this.size == this.limit;
+    }
+
+    /**
+     * Gets the i-th nearest neighbour.
+     */
+    public Entity get(int i) {
+        return this.entities[i];
+    }
+
+    /**
+     * Gets the squared distance of the i-th nearest neighbour at query time.
+     */
+    public double distanceSqr(int i) {
+        return this.distancesSqr[i];
+    }
+
+    /**
+     * Gets the squared distance of the farthest kept neighbour, or infinity while not full.
+     */
+    public double worstDistanceSqr() {
+        return isFull() && this.size > 0 ? this.distancesSqr[this.size - 1] : Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,414 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.animal.Wolf;
+import net.minecraft.world.level.saveddata.SavedData;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-level index of wolf packs, keyed by pack id.
+ *
+ * <p>Each pack records the ranks of all its members, loaded or not, and its shared hunt
+ * target, which are saved with the level so pack sizes and hunts survive chunk unloads and
+ * restarts. While members are loaded the pack also holds direct references to them and the
+ * hungry member count for the current tick, so pack queries are lookups instead of scans
+ * over nearby wolves.
+ *
+ * <p>The wolf's {@link WolfPackData} attachment stays the source of truth. The registry is
+ * updated when a wolf loads, when its pack data changes ({@link WolfPackData#setPackData}),
+ * and when it unloads. Members that die, are discarded or change dimension leave the pack;
+ * members unloaded with their chunk only drop their reference. A member that stays unloaded
+ * for {@link #MEMBER_EXPIRY_TICKS} is forgotten, so wolves in chunks that are never visited
+ * again do not stay in the saved data forever.
+ */
+public class PackRegistry extends SavedData {
+
+    private static final String DATA_NAME = "better_ecology_wolf_packs";
+
+    private static final SavedData.Factory<PackRegistry> FACTORY =
+        new SavedData.Factory<>(PackRegistry::new, PackRegistry::load, null);
+
+    // Ticks a member may stay unloaded before it is forgotten (seven days)
+    static final long MEMBER_EXPIRY_TICKS = 7 * 24000L;
+
+    // Ticks between sweeps for expired members
+    private static final int EXPIRY_CHECK_INTERVAL = 6000;
+
+    // Linked so saves list packs in a stable order
+    private final Map<UUID, Pack> packs = new LinkedHashMap<>();
+
+    /**
+     * Registers the entity lifecycle and world tick listeners that keep pack membership current.
+     */
+    public static void register() {
+        ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+            if (entity instanceof Wolf wolf) {
+                get(level).onLoad(wolf);
+            }
+        });
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+            if (entity instanceof Wolf wolf) {
+                get(level).onUnload(wolf);
+            }
+        });
+        ServerTickEvents.END_WORLD_TICK.register(level -> {
+            if (level.getGameTime() % EXPIRY_CHECK_INTERVAL == 0) {
+                get(level).expireMembers(level);
+            }
+        });
+    }
+
+    /**
+     * Gets the registry for a level, loading it from the level's saved data on first use.
+     */
+    public static PackRegistry get(ServerLevel level) {
+        return level.getDataStorage().computeIfAbsent(FACTORY, DATA_NAME);
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Gets the loaded, living members of the wolf's pack, excluding the wolf itself.
+     * Returns a new, mutable list; empty on the client.
+     */
+    public static List<Wolf> getLoadedPackmates(Wolf wolf) {
+        Pack pack = packOf(wolf);
+        if (pack == null) {
+            return new ArrayList<>();
+        }
+
+        List<Wolf> packmates = new ArrayList<>(pack.loaded.size());
+        for (Wolf member : pack.loaded.values()) {
+            if (member != wolf && member.isAlive()) {
+                packmates.add(member);
+            }
+        }
+        return packmates;
+    }
+
+    /**
+     * Gets the loaded, living alpha of the wolf's pack, or null if none is loaded.
+     */
+    public static Wolf getLoadedAlpha(Wolf wolf) {
+        Pack pack = packOf(wolf);
+        if (pack == null) {
+            return null;
+        }
+
+        for (Map.Entry<UUID, WolfPackData.PackRank> entry : pack.ranks.entrySet()) {
+            if (entry.getValue() == WolfPackData.PackRank.ALPHA) {
+                Wolf alpha = pack.loaded.get(entry.getKey());
+                if (alpha != null && alpha.isAlive()) {
+                    return alpha;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of members of the wolf's pack, including unloaded ones.
+     */
+    public static int getPackSize(Wolf wolf) {
+        Pack pack = packOf(wolf);
+        return pack != null ? pack.ranks.size() : 1;
+    }
+
+    /**
+     * Gets the number of loaded members of the wolf's pack.
+     */
+    public static int getLoadedCount(Wolf wolf) {
+        Pack pack = packOf(wolf);
+        return pack != null ? pack.loaded.size() : 1;
+    }
+
+    /**
+     * Checks if a loaded member of the wolf's pack other than the wolf itself is hungry
+     * and within {@code range}. The pack's hungry count is computed once per tick, so
+     * packs with no hungry members answer without visiting any member.
+     */
+    public static boolean hasHungryPackmate(Wolf wolf, double range) {
+        Pack pack = packOf(wolf);
+        if (pack == null) {
+            return false;
+        }
+
+        int hungry = pack.getHungryCount(wolf.level().getGameTime());
+        if (hungry == 0 || (hungry == 1 && AnimalNeeds.isHungry(wolf))) {
+            return false;
+        }
+
+        double rangeSqr = range * range;
+        for (Wolf member : pack.loaded.values()) {
+            if (member != wolf && member.isAlive() && AnimalNeeds.isHungry(member)
+                && member.distanceToSqr(wolf) <= rangeSqr) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the pack's current shared hunt target, or null if there is none, it has died or
+     * it is not loaded.
+     */
+    public static LivingEntity getHuntTarget(Wolf wolf) {
+        Pack pack = packOf(wolf);
+        if (pack == null || pack.huntTargetId == null) {
+            return null;
+        }
+        ServerLevel level = (ServerLevel) wolf.level();
+        if (pack.huntTarget == null && level.getEntity(pack.huntTargetId) instanceof LivingEntity target) {
+            // Target restored from the saved data, resolved once it is loaded
+            pack.huntTarget = target;
+        }
+        if (pack.huntTarget != null && !pack.huntTarget.isAlive()) {
+            pack.huntTarget = null;
+            pack.huntTargetId = null;
+            get(level).setDirty();
+        }
+        return pack.huntTarget;
+    }
+
+    /**
+     * Sets the shared hunt target of the wolf's pack; null clears it.
+     */
+    public static void setHuntTarget(Wolf wolf, LivingEntity target) {
+        Pack pack = packOf(wolf);
+        if (pack != null) {
+            pack.huntTarget = target;
+            pack.huntTargetId = target != null ? target.getUUID() : null;
+            get((ServerLevel) wolf.level()).setDirty();
+        }
+    }
+
+    private static Pack packOf(Wolf wolf) {
+        if (!(wolf.level() instanceof ServerLevel level)) {
+            return null;
+        }
+        // A read must not give the wolf a new pack; wolves without one are registered on load
+        WolfPackData data = wolf.getAttached(WolfPackData.PACK_DATA_ATTACHMENT);
+        return data != null ? get(level).packs.get(data.packId()) : null;
+    }
+
+    // ========== MEMBERSHIP ==========
+
+    private void onLoad(Wolf wolf) {
+        WolfPackData data = WolfPackData.getPackData(wolf);
+        Pack pack = this.packs.computeIfAbsent(data.packId(), id -> new Pack());
+        if (pack.ranks.put(wolf.getUUID(), data.rank()) != data.rank()) {
+            setDirty();
+        }
+        if (pack.unloadedSince.removeLong(wolf.getUUID()) != Pack.NEVER) {
+            setDirty();
+        }
+        pack.loaded.put(wolf.getUUID(), wolf);
+    }
+
+    private void onUnload(Wolf wolf) {
+        WolfPackData data = wolf.getAttached(WolfPackData.PACK_DATA_ATTACHMENT);
+        if (data == null) {
+            return;
+        }
+
+        Pack pack = this.packs.get(data.packId());
+        if (pack == null) {
+            return;
+        }
+
+        pack.loaded.remove(wolf.getUUID());
+
+        Entity.RemovalReason reason = wolf.getRemovalReason();
+        boolean leavesPack = reason == Entity.RemovalReason.KILLED
+            || reason == Entity.RemovalReason.DISCARDED
+            || reason == Entity.RemovalReason.CHANGED_DIMENSION;
+        if (leavesPack) {
+            removeMember(data.packId(), pack, wolf.getUUID());
+        } else if (pack.ranks.containsKey(wolf.getUUID())) {
+            pack.unloadedSince.put(wolf.getUUID(), wolf.level().getGameTime());
+            setDirty();
+        }
+    }
+
+    /**
+     * Forgets members that have been unloaded for longer than {@link #MEMBER_EXPIRY_TICKS},
+     * and drops packs left with no members.
+     */
+    private void expireMembers(ServerLevel level) {
+        long gameTime = level.getGameTime();
+        Iterator<Pack> packIterator = this.packs.values().iterator();
+        while (packIterator.hasNext()) {
+            Pack pack = packIterator.next();
+            Iterator<UUID> memberIterator = pack.ranks.keySet().iterator();
+            while (memberIterator.hasNext()) {
+                UUID wolfId = memberIterator.next();
+                if (pack.loaded.containsKey(wolfId)) {
+                    continue;
+                }
+                long since = pack.unloadedSince.getLong(wolfId);
+                if (since == Pack.NEVER) {
+                    // Restored without a time, or unloaded before this was tracked: start counting now
+                    pack.unloadedSince.put(wolfId, gameTime);
+                    setDirty();
+                } else if (gameTime - since > MEMBER_EXPIRY_TICKS) {
+                    memberIterator.remove();
+                    pack.unloadedSince.removeLong(wolfId);
+                    setDirty();
+                }
+            }
+            if (pack.ranks.isEmpty() && pack.loaded.isEmpty()) {
+                packIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Moves a wolf between packs or updates its rank after its pack data changed.
+     * The loaded reference moves with it only if the wolf was already loaded; wolves
+     * that are given pack data before being added to the level are picked up on load.
+     */
+    void onPackDataChanged(Wolf wolf, WolfPackData previous, WolfPackData data) {
+        UUID wolfId = wolf.getUUID();
+        boolean wasLoaded = false;
+
+        if (previous != null && !previous.packId().equals(data.packId())) {
+            Pack oldPack = this.packs.get(previous.packId());
+            if (oldPack != null) {
+                wasLoaded = oldPack.loaded.remove(wolfId) != null;
+                removeMember(previous.packId(), oldPack, wolfId);
+            }
+        }
+
+        Pack pack = this.packs.computeIfAbsent(data.packId(), id -> new Pack());
+        pack.ranks.put(wolfId, data.rank());
+        if (wasLoaded) {
+            pack.loaded.put(wolfId, wolf);
+        }
+        setDirty();
+    }
+
+    private void removeMember(UUID packId, Pack pack, UUID wolfId) {
+        pack.unloadedSince.removeLong(wolfId);
+        if (pack.ranks.remove(wolfId) != null) {
+            setDirty();
+        }
+        if (pack.ranks.isEmpty() && pack.loaded.isEmpty()) {
+            this.packs.remove(packId);
+        }
+    }
+
+    // ========== PERSISTENCE ==========
+
+    @Override
+    public CompoundTag save(CompoundTag tag, HolderLookup.Provider registries) {
+        ListTag packList = new ListTag();
+        for (Map.Entry<UUID, Pack> packEntry : this.packs.entrySet()) {
+            if (packEntry.getValue().ranks.isEmpty()) {
+                continue;
+            }
+
+            Pack pack = packEntry.getValue();
+            ListTag memberList = new ListTag();
+            for (Map.Entry<UUID, WolfPackData.PackRank> member : pack.ranks.entrySet()) {
+                CompoundTag memberTag = new CompoundTag();
+                memberTag.putUUID("uuid", member.getKey());
+                memberTag.putString("rank", member.getValue().name());
+                long unloadedSince = pack.unloadedSince.getLong(member.getKey());
+                if (unloadedSince != Pack.NEVER) {
+                    memberTag.putLong("unloaded_since", unloadedSince);
+                }
+                memberList.add(memberTag);
+            }
+
+            CompoundTag packTag = new CompoundTag();
+            packTag.putUUID("pack_id", packEntry.getKey());
+            packTag.put("members", memberList);
+            if (pack.huntTargetId != null) {
+                packTag.putUUID("hunt_target", pack.huntTargetId);
+            }
+            packList.add(packTag);
+        }
+        tag.put("packs", packList);
+        return tag;
+    }
+
+    /**
+     * Reads a registry written by {@link #save}.
+     */
+    public static PackRegistry load(CompoundTag tag, HolderLookup.Provider registries) {
+        PackRegistry registry = new PackRegistry();
+        ListTag packList = tag.getList("packs", Tag.TAG_COMPOUND);
+        for (int i = 0; i < packList.size(); i++) {
+            CompoundTag packTag = packList.getCompound(i);
+            Pack pack = new Pack();
+
+            ListTag memberList = packTag.getList("members", Tag.TAG_COMPOUND);
+            for (int j = 0; j < memberList.size(); j++) {
+                CompoundTag memberTag = memberList.getCompound(j);
+                UUID wolfId = memberTag.getUUID("uuid");
+                try {
+                    pack.ranks.put(wolfId, WolfPackData.PackRank.valueOf(memberTag.getString("rank")));
+                } catch (IllegalArgumentException e) {
+                    // Unknown rank from a newer or corrupted save; the wolf re-registers on load
+                    continue;
+                }
+                if (memberTag.contains("unloaded_since", Tag.TAG_LONG)) {
+                    pack.unloadedSince.put(wolfId, memberTag.getLong("unloaded_since"));
+                }
+            }
+            if (packTag.hasUUID("hunt_target")) {
+                pack.huntTargetId = packTag.getUUID("hunt_target");
+            }
+            registry.packs.put(packTag.getUUID("pack_id"), pack);
+        }
+        return registry;
+    }
+
+    /**
+     * One pack: the ranks of all members, when the unloaded ones were last seen, references
+     * to the loaded ones, the hunt target and transient hunger state.
+     */
+    private static final class Pack {
+        private static final long NEVER = Long.MIN_VALUE;
+
+        private final Map<UUID, WolfPackData.PackRank> ranks = new LinkedHashMap<>();
+        private final Object2LongOpenHashMap<UUID> unloadedSince = new Object2LongOpenHashMap<>();
+        private final Map<UUID, Wolf> loaded = new LinkedHashMap<>();
+        private UUID huntTargetId;
+        private LivingEntity huntTarget;
+        private long hungerTick = Long.MIN_VALUE;
+        private int hungryCount;
+
+        private Pack() {
+            this.unloadedSince.defaultReturnValue(NEVER);
+        }
+
+        private int getHungryCount(long gameTime) {
+            if (this.hungerTick != gameTime) {
+                this.hungerTick = gameTime;
+                this.hungryCount = 0;
+                for (Wolf member : this.loaded.values()) {
+                    if (member.isAlive() && AnimalNeeds.isHungry(member)) {
+                        this.hungryCount++;
+                    }
+                }
+            }
+            return this.hungryCount;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import net.minecraft.world.entity.animal.Parrot;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.Heightmap;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,8 @@ public class ParrotCanopyPerchingGoal extends Goal {
     private static final double SOCIAL_CLUSTERING_RADIUS = 8.0;
     private static final int VOCALIZATION_INTERVAL_MIN = 300;
     private static final int VOCALIZATION_INTERVAL_MAX = 800;
+    // Best perches by block score that get the social and open sky checks
+    private static final int MAX_PERCH_CANDIDATES = 64;
 
     private final Parrot parrot;
     private final double speedModifier;
@@ -187,43 +190,53 @@ public class ParrotCanopyPerchingGoal extends Goal {
     /**
      * Finds the best canopy perch position within search radius.
      *
+     * <p>Only the canopy tops and the trunk tops under them are read, from the chunk
+     * heightmaps. The best of those by height and tree type then get the social and open
+     * sky checks.
+     *
      * @return true if a suitable perch was found
      */
     private boolean findCanopyPerch() {
-        BlockPos parrotPos = this.parrot.blockPosition();
-        Level level = this.parrot.level();
-
-        List<ScoredPerch> candidates = new ArrayList<>();
-
-        for (int x = -SEARCH_RADIUS; x <= SEARCH_RADIUS; x++) {
-            for (int z = -SEARCH_RADIUS; z <= SEARCH_RADIUS; z++) {
-                for (int y = MIN_HEIGHT; y <= SEARCH_RADIUS; y++) {
-                    BlockPos pos = parrotPos.offset(x, y, z);
+        List<ScoredPerch> treeTops = new ArrayList<>();
+        SurfaceBlockSearch.forEachMatch(this.parrot.level(), this.parrot.blockPosition(),
+                SEARCH_RADIUS, MIN_HEIGHT, SEARCH_RADIUS,
+                ParrotCanopyPerchingGoal::isPerchBlock,
+                (pos, state) -> treeTops.add(new ScoredPerch(pos.immutable(), scorePerchBlock(pos, state))),
+                Heightmap.Types.WORLD_SURFACE, Heightmap.Types.MOTION_BLOCKING_NO_LEAVES);
+
+        treeTops.sort((a, b) -> Integer.compare(b.score, a.score));
+        return choosePerch(treeTops.subList(0, Math.min(treeTops.size(), MAX_PERCH_CANDIDATES)));
+    }
 
-                    if (isValidPerchPosition(pos)) {
-                        int score = scorePerchPosition(pos);
-                        if (score > 0) {
-                            candidates.add(new ScoredPerch(pos, score));
-                        }
-                    }
-                }
+    /**
+     * Picks the best perch from candidates, adding the social and open sky factors.
+     *
+     * @param candidates perch blocks, best block score first
+     * @return true if a suitable perch was found
+     */
+    private boolean choosePerch(List<ScoredPerch> candidates) {
+        List<ScoredPerch> perches = new ArrayList<>();
+        for (ScoredPerch candidate : candidates) {
+            int score = scorePerchPosition(candidate.pos);
+            if (score > 0) {
+                perches.add(new ScoredPerch(candidate.pos, score));
             }
         }
 
-        if (candidates.isEmpty()) {
+        if (perches.isEmpty()) {
             LOGGER.debug("{} could not find suitable canopy perch within {} blocks",
                     parrot.getName().getString(),
                     SEARCH_RADIUS);
             return false;
         }
 
-        candidates.sort((a, b) -> Integer.compare(b.score, a.score));
-        this.targetPerchPos = candidates.get(0).pos;
+        perches.sort((a, b) -> Integer.compare(b.score, a.score));
+        this.targetPerchPos = perches.get(0).pos;
 
         LOGGER.debug("{} found canopy perch at {} (score: {}, height: {})",
                 parrot.getName().getString(),
                 targetPerchPos,
-                candidates.get(0).score,
+                perches.get(0).score,
                 targetPerchPos.getY());
 
         return true;
@@ -236,32 +249,43 @@ public class ParrotCanopyPerchingGoal extends Goal {
      * @return true if valid perch position
      */
     private boolean isValidPerchPosition(BlockPos pos) {
-        Level level = this.parrot.level();
-        BlockState state = level.getBlockState(pos);
+        return isPerchBlock(this.parrot.level().getBlockState(pos));
+    }
 
-        if (state.is(BlockTags.LEAVES)) {
-            return true;
+    private static boolean isPerchBlock(BlockState state) {
+        return state.is(BlockTags.LEAVES) || state.is(BlockTags.LOGS);
+    }
+
+    /**
+     * Scores a perch position based on height, tree type, and social factors.
+     *
+     * @param pos the position to score
+     * @return score (higher is better)
+     */
+    private int scorePerchPosition(BlockPos pos) {
+        int score = scorePerchBlock(pos, this.parrot.level().getBlockState(pos));
+
+        int nearbyParrots = countNearbyParrotsAtPerch(pos);
+        if (nearbyParrots > 0) {
+            score += nearbyParrots * 40;
         }
 
-        if (state.is(BlockTags.LOGS)) {
-            return true;
+        if (!hasOpenSkyAbove(pos)) {
+            score -= 20;
         }
 
-        return false;
+        return score;
     }
 
     /**
-     * Scores a perch position based on height, tree type, and social factors.
+     * Scores a perch block by height and tree type alone.
      *
      * @param pos the position to score
+     * @param state the block at the position
      * @return score (higher is better)
      */
-    private int scorePerchPosition(BlockPos pos) {
-        Level level = this.parrot.level();
-        BlockState state = level.getBlockState(pos);
-        int score = 0;
-
-        score += pos.getY() * 2;
+    private static int scorePerchBlock(BlockPos pos, BlockState state) {
+        int score = pos.getY() * 2;
 
         if (state.is(Blocks.JUNGLE_LEAVES) || state.is(Blocks.JUNGLE_LOG)) {
             score += 50;
@@ -273,15 +297,6 @@ public class ParrotCanopyPerchingGoal extends Goal {
             score += 10;
         }
 
-        int nearbyParrots = countNearbyParrotsAtPerch(pos);
-        if (nearbyParrots > 0) {
-            score += nearbyParrots * 40;
-        }
-
-        if (!hasOpenSkyAbove(pos)) {
-            score -= 20;
-        }
-
         return score;
     }
 
@@ -292,7 +307,7 @@ public class ParrotCanopyPerchingGoal extends Goal {
      * @return number of nearby parrots
      */
     private int countNearbyParrotsAtPerch(BlockPos pos) {
-        List<Parrot> nearbyParrots = this.parrot.level().getEntitiesOfClass(
+        List<Parrot> nearbyParrots = EcologySpatialIndex.getEntitiesOfClass(this.parrot.level(),
                 Parrot.class,
                 this.parrot.getBoundingBox().inflate(SOCIAL_CLUSTERING_RADIUS).move(
                         pos.getX() - this.parrot.getX(),
@@ -20,7 +20,7 @@ import java.util.List;
  * <ul>
  *   <li>Emits contact calls every 30-60 seconds when with flock</li>
  *   <li>Increases call frequency (10-20 seconds) when separated from flock</li>
- *   <li>Nearby parrots respond with answering calls</li>
+ *   <li>Nearby parrots hear the call through the {@link AlarmBus} and answer after a short delay</li>
  *   <li>Creates realistic flock communication patterns</li>
  * </ul>
  */
@@ -39,6 +39,8 @@ public class ParrotContactCallingGoal extends Goal {
     private final Parrot parrot;
     private int ticksSinceLastCall;
     private int nextCallInterval;
+    // Game tick at which to answer a heard call; -1 when no answer is pending
+    private long responseDueTick;
     private boolean isSeparated;
 
     /**
@@ -50,6 +52,7 @@ public class ParrotContactCallingGoal extends Goal {
         this.parrot = parrot;
         this.ticksSinceLastCall = 0;
         this.nextCallInterval = calculateNextCallInterval(false);
+        this.responseDueTick = -1;
         this.setFlags(EnumSet.of(Goal.Flag.LOOK));
     }
 
@@ -60,6 +63,7 @@ public class ParrotContactCallingGoal extends Goal {
         }
 
         this.ticksSinceLastCall++;
+        tickResponse();
 
         if (this.ticksSinceLastCall < this.nextCallInterval) {
             return false;
@@ -90,6 +94,31 @@ public class ParrotContactCallingGoal extends Goal {
                 nextCallInterval);
     }
 
+    /**
+     * Answers a contact call heard from another parrot once the response delay has passed.
+     * Timed by game time, since goal selectors do not run canUse every tick.
+     */
+    private void tickResponse() {
+        long gameTime = this.parrot.level().getGameTime();
+        if (this.responseDueTick < 0) {
+            AlarmBus.Alarm call = AlarmBus.take(this.parrot, AlarmBus.CONTACT_CALL);
+            if (call != null) {
+                this.responseDueTick = gameTime + RESPONSE_DELAY_MIN
+                        + this.parrot.getRandom().nextInt(RESPONSE_DELAY_MAX - RESPONSE_DELAY_MIN + 1);
+            }
+            return;
+        }
+
+        if (gameTime < this.responseDueTick) {
+            return;
+        }
+        this.responseDueTick = -1;
+
+        float pitch = 0.9F + this.parrot.getRandom().nextFloat() * 0.3F;
+        this.parrot.playSound(SoundEvents.PARROT_AMBIENT, 0.6F, pitch);
+        LOGGER.debug("{} answered a contact call", parrot.getName().getString());
+    }
+
     /**
      * Checks if the parrot is separated from its flock.
      *
@@ -106,7 +135,7 @@ public class ParrotContactCallingGoal extends Goal {
      * @return list of nearby parrots
      */
     private List<Parrot> findNearbyParrots() {
-        return this.parrot.level().getEntitiesOfClass(
+        return EcologySpatialIndex.getEntitiesOfClass(this.parrot.level(),
                 Parrot.class,
                 this.parrot.getBoundingBox().inflate(FLOCK_RADIUS),
                 otherParrot -> otherParrot != this.parrot && otherParrot.isAlive()
@@ -127,24 +156,11 @@ public class ParrotContactCallingGoal extends Goal {
     }
 
     /**
-     * Triggers nearby parrots to respond with answering calls immediately.
+     * Publishes the call so nearby parrots answer it.
      * Creates a conversational pattern where parrots answer each other.
      */
     private void triggerNearbyResponses() {
-        List<Parrot> nearbyParrots = findNearbyParrots();
-
-        for (Parrot nearbyParrot : nearbyParrots) {
-            if (nearbyParrot.isSilent()) {
-                continue;
-            }
-
-            float pitch = 0.9F + nearbyParrot.getRandom().nextFloat() * 0.3F;
-            nearbyParrot.playSound(SoundEvents.PARROT_AMBIENT, 0.6F, pitch);
-
-            LOGGER.debug("{} responded to contact call from {}",
-                    nearbyParrot.getName().getString(),
-                    parrot.getName().getString());
-        }
+        AlarmBus.publish(AlarmBus.Alarm.of(AlarmBus.CONTACT_CALL, this.parrot, FLOCK_RADIUS, Parrot.class));
     }
 
     /**
@@ -0,0 +1,76 @@
+package me.javavirtualenv.behavior.core;
+
+import com.mojang.serialization.Codec;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Per-entity cooldown saved with the entity, stored as a persistent attachment
+ * holding the game tick it expires at. Game time is saved with the world, so the
+ * expiry stays valid across chunk unloads and restarts.
+ *
+ * <p>Like {@link Cooldown}, checking is one attachment read and a comparison, and
+ * starting is one attachment write; there is no per-tick update.
+ */
+public final class PersistentCooldown {
+
+    private final AttachmentType<Long> attachment;
+
+    private PersistentCooldown(AttachmentType<Long> attachment) {
+        this.attachment = attachment;
+    }
+
+    /**
+     * Creates a cooldown backed by a new persistent attachment.
+     * Must be called during mod initialization, typically from a static field.
+     *
+     * @param path attachment path within the better-ecology namespace
+     */
+    public static PersistentCooldown create(String path) {
+        return new PersistentCooldown(AttachmentRegistry.create(
+            ResourceLocation.fromNamespaceAndPath("better-ecology", path),
+            builder -> builder
+                .persistent(Codec.LONG)
+                .copyOnDeath()
+        ));
+    }
+
+    /**
+     * Gets the attachment type holding the expiry tick.
+     */
+    public AttachmentType<Long> getAttachment() {
+        return this.attachment;
+    }
+
+    /**
+     * Returns true once the entity's cooldown has expired (or was never started).
+     */
+    public boolean isReady(Entity entity) {
+        Long expiryTick = entity.getAttached(this.attachment);
+        return expiryTick == null || entity.level().getGameTime() >= expiryTick;
+    }
+
+    /**
+     * Starts the entity's cooldown so it expires {@code ticks} game ticks from now.
+     */
+    public void start(Entity entity, int ticks) {
+        entity.setAttached(this.attachment, entity.level().getGameTime() + ticks);
+    }
+
+    /**
+     * Gets the remaining game ticks of the entity's cooldown, or 0 if ready.
+     */
+    public long remaining(Entity entity) {
+        Long expiryTick = entity.getAttached(this.attachment);
+        return expiryTick == null ? 0L : Math.max(0L, expiryTick - entity.level().getGameTime());
+    }
+
+    /**
+     * Clears the entity's cooldown.
+     */
+    public void reset(Entity entity) {
+        entity.removeAttached(this.attachment);
+    }
+}
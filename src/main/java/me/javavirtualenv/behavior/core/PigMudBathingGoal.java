@@ -192,32 +192,25 @@ public class PigMudBathingGoal extends Goal {
      * @return true if mud was found, false otherwise
      */
     private boolean findNearestMud() {
+        if (!(this.mob.level() instanceof ServerLevel level)) {
+            return false;
+        }
+
         BlockPos mobPos = this.mob.blockPosition();
-        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
-
-        BlockPos closestMud = null;
-        double closestDistSq = Double.MAX_VALUE;
-
-        for (int y = -2; y <= 2; y++) {
-            for (int x = -this.searchRadius; x <= this.searchRadius; x++) {
-                for (int z = -this.searchRadius; z <= this.searchRadius; z++) {
-                    mutablePos.set(mobPos.getX() + x, mobPos.getY() + y, mobPos.getZ() + z);
-
-                    if (isMudBlock(mutablePos)) {
-                        double distSq = mobPos.distSqr(mutablePos);
-                        if (distSq < closestDistSq) {
-                            closestDistSq = distSq;
-                            closestMud = mutablePos.immutable();
-                        }
-                    }
-                }
-            }
+        HabitatBlockIndex.Result result = HabitatBlockIndex.findNearest(level, mobPos,
+            HabitatBlockIndex.MUD | HabitatBlockIndex.WATER, this.searchRadius, 2, null);
+
+        if (result.incomplete()) {
+            // Part of the area is not indexed yet; search again next tick
+            this.searchCooldown = 0;
+            return false;
         }
 
+        BlockPos closestMud = result.pos();
         if (closestMud != null) {
             this.targetMudPos = closestMud;
             LOGGER.debug("Mob {} found mud at {} (distance: {})",
-                this.mob.getName().getString(), closestMud, Math.sqrt(closestDistSq));
+                this.mob.getName().getString(), closestMud, Math.sqrt(mobPos.distSqr(closestMud)));
             return true;
         }
 
@@ -151,32 +151,25 @@ public class PigRootingGoal extends Goal {
      * @return true if a rootable block was found, false otherwise
      */
     private boolean findNearestRootableBlock() {
+        if (!(this.mob.level() instanceof ServerLevel level)) {
+            return false;
+        }
+
         BlockPos mobPos = this.mob.blockPosition();
-        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
-
-        BlockPos closestBlock = null;
-        double closestDistSq = Double.MAX_VALUE;
-
-        for (int y = -1; y <= 1; y++) {
-            for (int x = -this.searchRadius; x <= this.searchRadius; x++) {
-                for (int z = -this.searchRadius; z <= this.searchRadius; z++) {
-                    mutablePos.set(mobPos.getX() + x, mobPos.getY() + y, mobPos.getZ() + z);
-
-                    if (isRootableBlock(mutablePos)) {
-                        double distSq = mobPos.distSqr(mutablePos);
-                        if (distSq < closestDistSq) {
-                            closestDistSq = distSq;
-                            closestBlock = mutablePos.immutable();
-                        }
-                    }
-                }
-            }
+        HabitatBlockIndex.Result result = HabitatBlockIndex.findNearest(level, mobPos, HabitatBlockIndex.ROOTABLE,
+            this.searchRadius, 1, null);
+
+        if (result.incomplete()) {
+            // Part of the area is not indexed yet; search again next tick
+            this.searchCooldown = 0;
+            return false;
         }
 
+        BlockPos closestBlock = result.pos();
         if (closestBlock != null) {
             this.targetRootPos = closestBlock;
             LOGGER.debug("Mob {} found rootable block at {} (distance: {})",
-                this.mob.getName().getString(), closestBlock, Math.sqrt(closestDistSq));
+                this.mob.getName().getString(), closestBlock, Math.sqrt(mobPos.distSqr(closestBlock)));
             return true;
         }
 
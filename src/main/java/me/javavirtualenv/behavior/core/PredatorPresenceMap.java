@@ -0,0 +1,105 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+/**
+ * Coarse map of where predators are, counted per 4x4-chunk region.
+ *
+ * <p>Prey goals check this before running their precise predator query: if no region
+ * overlapping the detection box holds a predator, there is no threat and the entity
+ * query, class filtering and targeting checks are skipped. Most prey are nowhere near
+ * a predator, so the precise query only runs for the few that might be.
+ *
+ * <p>The map is owned by {@link EcologySpatialIndex} and updated with it, as entities carrying
+ * {@link EcologySpatialIndex#ROLE_PREDATOR} load, unload and move between index cells.
+ * Goals declare which classes they flee from with {@link #registerPredatorTypes(Class[])}.
+ */
+public final class PredatorPresenceMap {
+
+    // 64-block (4x4 chunk) regions
+    private static final int REGION_SHIFT = 6;
+
+    // Index cells per region along each axis, as a shift
+    private static final int CELLS_PER_REGION_SHIFT = 2;
+
+    private final Long2IntOpenHashMap counts = new Long2IntOpenHashMap();
+
+    PredatorPresenceMap() {
+    }
+
+    /**
+     * Marks the given classes as predators, so they are counted in the map.
+     * Called by prey goals for the classes they react to.
+     */
+    public static void registerPredatorTypes(Class<?>... types) {
+        for (Class<?> type : types) {
+            EcologySpatialIndex.registerPredatorType(type);
+        }
+    }
+
+    /**
+     * Returns false if there is certainly no predator inside the box, true if there may be one.
+     * Always true on the client, where there is no map.
+     */
+    public static boolean mayHavePredatorsNear(Level level, AABB box) {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return true;
+        }
+        EcologySpatialIndex index = EcologySpatialIndex.get(serverLevel);
+        return index.getPredatorPresence().mayContain(box, index.getCellPadding());
+    }
+
+    /**
+     * Returns true if any region overlapping the box, widened by {@code padding} for predator
+     * bounding boxes that reach into it from outside, holds a predator.
+     */
+    public boolean mayContain(AABB box, double padding) {
+        if (this.counts.isEmpty()) {
+            return false;
+        }
+
+        int minX = Mth.floor(box.minX - padding) >> REGION_SHIFT;
+        int maxX = Mth.floor(box.maxX + padding) >> REGION_SHIFT;
+        int minZ = Mth.floor(box.minZ - padding) >> REGION_SHIFT;
+        int maxZ = Mth.floor(box.maxZ + padding) >> REGION_SHIFT;
+
+        for (int regionX = minX; regionX <= maxX; regionX++) {
+            for (int regionZ = minZ; regionZ <= maxZ; regionZ++) {
+                if (this.counts.get(regionKey(regionX, regionZ)) > 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of regions currently holding at least one predator.
+     */
+    public int getOccupiedRegionCount() {
+        return this.counts.size();
+    }
+
+    void add(int cellX, int cellZ) {
+        this.counts.addTo(regionKey(cellX >> CELLS_PER_REGION_SHIFT, cellZ >> CELLS_PER_REGION_SHIFT), 1);
+    }
+
+    void clear() {
+        this.counts.clear();
+    }
+
+    void remove(int cellX, int cellZ) {
+        long key = regionKey(cellX >> CELLS_PER_REGION_SHIFT, cellZ >> CELLS_PER_REGION_SHIFT);
+        if (this.counts.addTo(key, -1) <= 1) {
+            this.counts.remove(key);
+        }
+    }
+
+    private static long regionKey(int regionX, int regionZ) {
+        return ((long) regionX << 32) | (regionZ & 0xFFFFFFFFL);
+    }
+}
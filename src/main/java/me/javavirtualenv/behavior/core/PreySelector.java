@@ -0,0 +1,161 @@
+package me.javavirtualenv.behavior.core;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Prey selection for hunting predators.
+ *
+ * <p>Each candidate is scored exactly once. The isolation term (how many animals of the
+ * prey's own kind are around it) comes from one shared list of the animals around the hunt
+ * area: each selection counts the animals of each class per 8-block bucket once, and a
+ * candidate's term is the sum of its class's counts over the buckets within
+ * {@link #ISOLATION_RADIUS}, so scoring a whole flock costs a few lookups per candidate.
+ * Candidates are then tried best score first against an expensive check such as
+ * reachability, so paths are only computed until one succeeds.
+ *
+ * <p>Scoring is per predator species: {@link #registerScoring} overrides
+ * {@link #DEFAULT_SCORING} for an entity type.
+ */
+public final class PreySelector {
+
+    private PreySelector() {
+        // Utility class
+    }
+
+    /**
+     * Scores a prey candidate; lower scores are hunted first.
+     */
+    @FunctionalInterface
+    public interface ScoringFunction {
+        /**
+         * @param predator the hunting mob
+         * @param prey the candidate
+         * @param distanceSq squared distance from predator to prey
+         * @param herdNeighbours living animals of the prey's own class in the buckets within
+         *                       {@link #ISOLATION_RADIUS}, not counting the prey
+         */
+        double score(Mob predator, LivingEntity prey, double distanceSq, int herdNeighbours);
+    }
+
+    /** Radius around a candidate in which its herd mates count against it. */
+    public static final double ISOLATION_RADIUS = 8.0;
+
+    /**
+     * Prefers prey that is nearest, weaker (lower health) and isolated.
+     */
+    public static final ScoringFunction DEFAULT_SCORING = (predator, prey, distanceSq, herdNeighbours) ->
+        (distanceSq * 0.5) + (prey.getHealth() / prey.getMaxHealth() * 100) + (herdNeighbours * 50);
+
+    // 8-block buckets for counting herd mates
+    private static final int BUCKET_SHIFT = 3;
+
+    private static final Map<EntityType<?>, ScoringFunction> speciesScoring = new HashMap<>();
+
+    /**
+     * Sets the scoring function for a predator species.
+     * Must be called during mod initialization.
+     */
+    public static void registerScoring(EntityType<?> predatorType, ScoringFunction scoring) {
+        speciesScoring.put(predatorType, scoring);
+    }
+
+    /**
+     * Gets the scoring function for a predator, {@link #DEFAULT_SCORING} if none is registered.
+     */
+    public static ScoringFunction scoringFor(Mob predator) {
+        return speciesScoring.getOrDefault(predator.getType(), DEFAULT_SCORING);
+    }
+
+    /**
+     * Selects the best candidate that passes {@code finalCheck}, or null.
+     *
+     * @param predator the hunting mob
+     * @param candidates prey candidates, already filtered by cheap checks
+     * @param surroundings living entities around the candidates, covering at least
+     *                     {@link #ISOLATION_RADIUS} beyond each of them
+     * @param scoring scoring function
+     * @param finalCheck expensive check (e.g. reachability), tried in score order
+     */
+    public static LivingEntity select(Mob predator, List<LivingEntity> candidates, List<LivingEntity> surroundings,
+                                      ScoringFunction scoring, Predicate<LivingEntity> finalCheck) {
+        int count = candidates.size();
+        if (count == 0) {
+            return null;
+        }
+
+        Long2ObjectOpenHashMap<Reference2IntOpenHashMap<Class<?>>> buckets = countByBucket(surroundings);
+        ReferenceOpenHashSet<LivingEntity> counted = new ReferenceOpenHashSet<>(surroundings);
+        double[] scores = new double[count];
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            LivingEntity prey = candidates.get(i);
+            int herdNeighbours = countHerdNeighbours(prey, buckets);
+            // The prey is in its own bucket's count if it was among the surroundings
+            if (herdNeighbours > 0 && prey.isAlive() && counted.contains(prey)) {
+                herdNeighbours--;
+            }
+            scores[i] = scoring.score(predator, prey, predator.distanceToSqr(prey), herdNeighbours);
+            order[i] = i;
+        }
+
+        IntArrays.quickSort(order, (a, b) -> Double.compare(scores[a], scores[b]));
+        for (int i = 0; i < count; i++) {
+            LivingEntity prey = candidates.get(order[i]);
+            if (finalCheck == null || finalCheck.test(prey)) {
+                return prey;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Counts the living entities of each class in each bucket.
+     */
+    private static Long2ObjectOpenHashMap<Reference2IntOpenHashMap<Class<?>>> countByBucket(List<LivingEntity> entities) {
+        Long2ObjectOpenHashMap<Reference2IntOpenHashMap<Class<?>>> buckets = new Long2ObjectOpenHashMap<>();
+        for (LivingEntity entity : entities) {
+            if (!entity.isAlive()) {
+                continue;
+            }
+            long key = ChunkPos.asLong(Mth.floor(entity.getX()) >> BUCKET_SHIFT, Mth.floor(entity.getZ()) >> BUCKET_SHIFT);
+            Reference2IntOpenHashMap<Class<?>> counts = buckets.get(key);
+            if (counts == null) {
+                counts = new Reference2IntOpenHashMap<>();
+                buckets.put(key, counts);
+            }
+            counts.addTo(entity.getClass(), 1);
+        }
+        return buckets;
+    }
+
+    private static int countHerdNeighbours(LivingEntity prey, Long2ObjectOpenHashMap<Reference2IntOpenHashMap<Class<?>>> buckets) {
+        int minX = Mth.floor(prey.getX() - ISOLATION_RADIUS) >> BUCKET_SHIFT;
+        int maxX = Mth.floor(prey.getX() + ISOLATION_RADIUS) >> BUCKET_SHIFT;
+        int minZ = Mth.floor(prey.getZ() - ISOLATION_RADIUS) >> BUCKET_SHIFT;
+        int maxZ = Mth.floor(prey.getZ() + ISOLATION_RADIUS) >> BUCKET_SHIFT;
+
+        int count = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                Reference2IntOpenHashMap<Class<?>> counts = buckets.get(ChunkPos.asLong(x, z));
+                if (counts != null) {
+                    count += counts.getInt(prey.getClass());
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -182,8 +182,8 @@ public class ProtectTraderGoal extends Goal {
     @Nullable
     private WanderingTrader findNearbyTrader() {
         AABB searchBox = this.llama.getBoundingBox().inflate(this.protectionRange);
-        List<WanderingTrader> nearbyTraders = this.llama.level()
-            .getEntitiesOfClass(WanderingTrader.class, searchBox, t -> t.isAlive());
+        List<WanderingTrader> nearbyTraders = EcologySpatialIndex
+            .getEntitiesOfClass(this.llama.level(), WanderingTrader.class, searchBox, t -> t.isAlive());
 
         return nearbyTraders.stream()
             .min((t1, t2) -> Double.compare(this.llama.distanceToSqr(t1), this.llama.distanceToSqr(t2)))
@@ -200,8 +200,8 @@ public class ProtectTraderGoal extends Goal {
     private LivingEntity findThreatNearTrader(WanderingTrader trader) {
         AABB threatBox = trader.getBoundingBox().inflate(this.threatRange);
 
-        List<LivingEntity> hostiles = this.llama.level()
-            .getEntitiesOfClass(LivingEntity.class, threatBox,
+        List<LivingEntity> hostiles = EcologySpatialIndex
+            .getEntitiesOfClass(this.llama.level(), LivingEntity.class, threatBox,
                 entity -> entity instanceof Enemy && entity.isAlive() && entity != this.llama);
 
         return hostiles.stream()
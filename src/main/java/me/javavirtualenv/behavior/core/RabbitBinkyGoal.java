@@ -237,8 +237,8 @@ public class RabbitBinkyGoal extends Goal {
      */
     private boolean isSafeFromPredators() {
         for (Class<? extends LivingEntity> predatorType : this.predatorTypes) {
-            List<? extends LivingEntity> nearbyPredators = this.mob.level()
-                    .getEntitiesOfClass(
+            List<? extends LivingEntity> nearbyPredators = EcologySpatialIndex
+                    .getEntitiesOfClass(this.mob.level(),
                             predatorType,
                             this.mob.getBoundingBox().inflate(SAFETY_RADIUS, 3.0, SAFETY_RADIUS)
                     );
@@ -262,7 +262,7 @@ public class RabbitBinkyGoal extends Goal {
      * @return true if at least MIN_GROUP_SIZE rabbits nearby (including self)
      */
     private boolean hasEnoughNearbyRabbits() {
-        List<Rabbit> nearbyRabbits = this.mob.level().getEntitiesOfClass(
+        List<Rabbit> nearbyRabbits = EcologySpatialIndex.getEntitiesOfClass(this.mob.level(),
                 Rabbit.class,
                 this.mob.getBoundingBox().inflate(SAFETY_RADIUS / 2.0, 3.0, SAFETY_RADIUS / 2.0),
                 rabbit -> rabbit.isAlive()
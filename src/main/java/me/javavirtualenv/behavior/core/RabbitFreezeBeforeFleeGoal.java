@@ -4,6 +4,7 @@ import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.PathfinderMob;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.ai.targeting.TargetingConditions;
+import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,8 +63,10 @@ public class RabbitFreezeBeforeFleeGoal extends Goal {
             Class<? extends LivingEntity>... predatorTypes) {
         this.mob = mob;
         this.predatorTypes = List.of(predatorTypes);
+        PredatorPresenceMap.registerPredatorTypes(predatorTypes);
         this.targetingConditions = TargetingConditions.forCombat()
-                .range(MAX_FREEZE_DISTANCE);
+                .range(MAX_FREEZE_DISTANCE)
+                .ignoreLineOfSight();  // Checked through LineOfSightCache
 
         this.freezeTicks = 0;
         this.freezeDuration = 0;
@@ -193,18 +196,21 @@ public class RabbitFreezeBeforeFleeGoal extends Goal {
      */
     @Nullable
     private LivingEntity findPredatorInFreezeRange() {
+        AABB searchBox = this.mob.getBoundingBox().inflate(MAX_FREEZE_DISTANCE, 3.0, MAX_FREEZE_DISTANCE);
+        if (!PredatorPresenceMap.mayHavePredatorsNear(this.mob.level(), searchBox)) {
+            return null;
+        }
+
         LivingEntity nearest = null;
         double nearestDistSq = Double.MAX_VALUE;
 
         for (Class<? extends LivingEntity> predatorType : this.predatorTypes) {
-            List<? extends LivingEntity> nearbyPredators = this.mob.level()
-                    .getEntitiesOfClass(
-                            predatorType,
-                            this.mob.getBoundingBox().inflate(MAX_FREEZE_DISTANCE, 3.0, MAX_FREEZE_DISTANCE)
-                    );
+            List<? extends LivingEntity> nearbyPredators = EcologySpatialIndex
+                    .getEntitiesOfClass(this.mob.level(), predatorType, searchBox);
 
             for (LivingEntity predator : nearbyPredators) {
-                if (!this.targetingConditions.test(this.mob, predator)) {
+                if (!this.targetingConditions.test(this.mob, predator)
+                    || !LineOfSightCache.hasLineOfSight(this.mob, predator)) {
                     continue;
                 }
 
@@ -27,7 +27,8 @@ import java.util.List;
  *   <li>Activates when a predator is within detection range</li>
  *   <li>Rabbit stops moving and thumps the ground</li>
  *   <li>Creates visual and audio effects</li>
- *   <li>Alerts nearby rabbits within alarm range</li>
+ *   <li>Alerts nearby rabbits within alarm range through the {@link AlarmBus}</li>
+ *   <li>Rabbits that hear a thump thump in turn, spreading the alarm through the warren</li>
  *   <li>Has cooldown to prevent constant thumping</li>
  * </ul>
  */
@@ -38,6 +39,8 @@ public class RabbitThumpWarningGoal extends Goal {
     private static final int THUMP_INTERVAL_TICKS = 5;
     private static final int ALARM_COOLDOWN_TICKS = 100;
     private static final double ALARM_RANGE = 32.0;
+    private static final int ALARM_LIFETIME_TICKS = 100;
+    private static final int ALARM_RELAYS = 2;
 
     private final PathfinderMob mob;
     private final int detectionRange;
@@ -46,6 +49,8 @@ public class RabbitThumpWarningGoal extends Goal {
 
     @Nullable
     private LivingEntity detectedPredator;
+    @Nullable
+    private AlarmBus.Alarm heardAlarm;
     private int thumpTicks;
     private int cooldownTicks;
     private int nextThumpTick;
@@ -66,7 +71,8 @@ public class RabbitThumpWarningGoal extends Goal {
         this.detectionRange = detectionRange;
         this.predatorTypes = List.of(predatorTypes);
         this.targetingConditions = TargetingConditions.forCombat()
-                .range(detectionRange);
+                .range(detectionRange)
+                .ignoreLineOfSight();  // Checked through LineOfSightCache
 
         this.thumpTicks = 0;
         this.cooldownTicks = 0;
@@ -83,9 +89,16 @@ public class RabbitThumpWarningGoal extends Goal {
         }
 
         this.detectedPredator = findNearestPredator();
+        this.heardAlarm = null;
 
         if (this.detectedPredator == null) {
-            return false;
+            // Pass on a thump heard from another rabbit, even without seeing the predator
+            AlarmBus.Alarm alarm = AlarmBus.take(this.mob, AlarmBus.PREDATOR);
+            if (alarm == null || alarm.relays() <= 0 || alarm.threat() == null || !alarm.threat().isAlive()) {
+                return false;
+            }
+            this.heardAlarm = alarm;
+            this.detectedPredator = alarm.threat();
         }
 
         LOGGER.debug("{} detected predator {} and will thump warning",
@@ -126,6 +139,7 @@ public class RabbitThumpWarningGoal extends Goal {
                 mob.getName().getString());
 
         this.detectedPredator = null;
+        this.heardAlarm = null;
         this.thumpTicks = 0;
         this.nextThumpTick = 0;
         this.cooldownTicks = ALARM_COOLDOWN_TICKS;
@@ -182,30 +196,25 @@ public class RabbitThumpWarningGoal extends Goal {
 
     /**
      * Alerts nearby rabbits to the presence of the predator.
+     * A rabbit that spotted the predator itself starts a new alarm; one that heard a thump relays it.
      */
     private void alertNearbyRabbits() {
         if (this.detectedPredator == null) {
             return;
         }
 
-        List<Rabbit> nearbyRabbits = this.mob.level().getEntitiesOfClass(
-                Rabbit.class,
-                this.mob.getBoundingBox().inflate(ALARM_RANGE),
-                rabbit -> rabbit != this.mob && rabbit.isAlive()
-        );
-
-        for (Rabbit rabbit : nearbyRabbits) {
-            if (rabbit.getTarget() == null) {
-                LOGGER.debug("{} alerted {} to predator {}",
-                        mob.getName().getString(),
-                        rabbit.getName().getString(),
-                        detectedPredator.getName().getString());
-            }
+        if (this.heardAlarm != null) {
+            AlarmBus.relay(this.mob, this.heardAlarm);
+        } else {
+            AlarmBus.publish(AlarmBus.Alarm.of(AlarmBus.PREDATOR, this.mob, ALARM_RANGE, Rabbit.class)
+                    .withThreat(this.detectedPredator)
+                    .withLifetime(ALARM_LIFETIME_TICKS)
+                    .withRelays(ALARM_RELAYS));
         }
 
-        LOGGER.debug("{} alerted {} nearby rabbits to predator",
+        LOGGER.debug("{} alerted nearby rabbits to predator {}",
                 mob.getName().getString(),
-                nearbyRabbits.size());
+                detectedPredator.getName().getString());
     }
 
     /**
@@ -219,14 +228,15 @@ public class RabbitThumpWarningGoal extends Goal {
         double nearestDistSq = Double.MAX_VALUE;
 
         for (Class<? extends LivingEntity> predatorType : this.predatorTypes) {
-            List<? extends LivingEntity> nearbyPredators = this.mob.level()
-                    .getEntitiesOfClass(
+            List<? extends LivingEntity> nearbyPredators = EcologySpatialIndex
+                    .getEntitiesOfClass(this.mob.level(),
                             predatorType,
                             this.mob.getBoundingBox().inflate(this.detectionRange, 3.0, this.detectionRange)
                     );
 
             for (LivingEntity predator : nearbyPredators) {
-                if (!this.targetingConditions.test(this.mob, predator)) {
+                if (!this.targetingConditions.test(this.mob, predator)
+                    || !LineOfSightCache.hasLineOfSight(this.mob, predator)) {
                     continue;
                 }
 
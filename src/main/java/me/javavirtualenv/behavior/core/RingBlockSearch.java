@@ -0,0 +1,178 @@
+package me.javavirtualenv.behavior.core;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Nearest-block search that visits positions shell by shell outward from a center.
+ *
+ * <p>Shell {@code k} holds the positions whose largest axis offset from the center is
+ * {@code k}. Every position in it is at least {@code k} blocks away, so once a match has been
+ * found the search only finishes the shells that could still hold something nearer and then
+ * stops. An animal standing next to what it wants finds it after a few dozen reads instead
+ * of scanning the whole search box.
+ *
+ * <p>Each call takes a visit budget; a search that runs out of budget returns the nearest
+ * match found so far, if any. Positions in unloaded chunks are skipped without counting
+ * against the budget; this never loads chunks.
+ */
+public final class RingBlockSearch {
+
+    private RingBlockSearch() {
+        // Utility class
+    }
+
+    /**
+     * Outcome of a search.
+     *
+     * @param pos the nearest matching position, or null if none was found
+     * @param visited how many positions were tested
+     * @param exhausted true if the search stopped because it ran out of visit budget
+     */
+    public record Result(@Nullable BlockPos pos, int visited, boolean exhausted) {
+
+        public boolean found() {
+            return this.pos != null;
+        }
+    }
+
+    /**
+     * Finds the position nearest to {@code center} whose block passes the predicate, within
+     * {@code horizontalRadius} on x and z and from {@code minDy} to {@code maxDy} on y.
+     *
+     * @param visitBudget maximum number of positions to test
+     * @param predicate tested with the position (reused between calls) and its block state
+     */
+    public static Result findNearest(Level level, BlockPos center, int horizontalRadius, int minDy, int maxDy,
+                                     int visitBudget, BiPredicate<BlockPos, BlockState> predicate) {
+        Search search = new Search(level, center, visitBudget, predicate);
+
+        int minY = Math.max(center.getY() + minDy, level.getMinBuildHeight());
+        int maxY = Math.min(center.getY() + maxDy, level.getMaxBuildHeight() - 1);
+        int maxRing = Math.max(horizontalRadius, Math.max(-minDy, maxDy));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            int reach = Math.min(ring, horizontalRadius);
+            for (int y = Math.max(minY, center.getY() - ring); y <= Math.min(maxY, center.getY() + ring); y++) {
+                boolean completed;
+                if (Math.abs(y - center.getY()) == ring) {
+                    completed = search.visitLayer(y, reach);
+                } else if (ring <= horizontalRadius) {
+                    completed = search.visitPerimeter(y, ring);
+                } else {
+                    continue;
+                }
+                if (!completed) {
+                    return new Result(search.nearest, search.visited, true);
+                }
+            }
+
+            // Every position of the next shell is at least ring + 1 blocks away
+            long nextRing = ring + 1L;
+            if (search.nearest != null && nextRing * nextRing > search.nearestDistSq) {
+                break;
+            }
+        }
+        return new Result(search.nearest, search.visited, false);
+    }
+
+    /**
+     * State of one search: budget, chunk cache and best match.
+     */
+    private static final class Search {
+        private final Level level;
+        private final BlockPos center;
+        private final int visitBudget;
+        private final BiPredicate<BlockPos, BlockState> predicate;
+        private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        private LevelChunk chunk;
+        private long chunkKey = Long.MIN_VALUE;
+        private int visited;
+        private BlockPos nearest;
+        private long nearestDistSq = Long.MAX_VALUE;
+
+        private Search(Level level, BlockPos center, int visitBudget, BiPredicate<BlockPos, BlockState> predicate) {
+            this.level = level;
+            this.center = center;
+            this.visitBudget = visitBudget;
+            this.predicate = predicate;
+        }
+
+        /**
+         * Visits the square of offsets up to {@code reach} at one y level.
+         */
+        private boolean visitLayer(int y, int reach) {
+            for (int dx = -reach; dx <= reach; dx++) {
+                for (int dz = -reach; dz <= reach; dz++) {
+                    if (!visit(dx, y, dz)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Visits the square outline at offset {@code ring} at one y level.
+         */
+        private boolean visitPerimeter(int y, int ring) {
+            for (int d = -ring; d <= ring; d++) {
+                if (!visit(d, y, -ring) || !visit(d, y, ring)) {
+                    return false;
+                }
+            }
+            for (int d = -ring + 1; d < ring; d++) {
+                if (!visit(-ring, y, d) || !visit(ring, y, d)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Tests one position.
+         *
+         * @return false once the visit budget is spent
+         */
+        private boolean visit(int dx, int y, int dz) {
+            int x = this.center.getX() + dx;
+            int z = this.center.getZ() + dz;
+            LevelChunk chunk = chunkAt(x >> 4, z >> 4);
+            if (chunk == null) {
+                return true;
+            }
+            if (this.visited >= this.visitBudget) {
+                return false;
+            }
+            this.visited++;
+
+            this.pos.set(x, y, z);
+            if (this.predicate.test(this.pos, chunk.getBlockState(this.pos))) {
+                long dy = y - this.center.getY();
+                long distSq = (long) dx * dx + dy * dy + (long) dz * dz;
+                if (distSq < this.nearestDistSq) {
+                    this.nearestDistSq = distSq;
+                    this.nearest = this.pos.immutable();
+                }
+            }
+            return true;
+        }
+
+        @Nullable
+        private LevelChunk chunkAt(int chunkX, int chunkZ) {
+            long key = ChunkPos.asLong(chunkX, chunkZ);
+            if (key != this.chunkKey) {
+                this.chunk = this.level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                this.chunkKey = key;
+            }
+            return this.chunk;
+        }
+    }
+}
@@ -2,12 +2,12 @@ package me.javavirtualenv.behavior.core;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.BiomeTags;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.world.entity.animal.Salmon;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.Vec3;
 import org.slf4j.Logger;
@@ -133,31 +133,21 @@ public class SalmonUpstreamMigrationGoal extends Goal {
         BlockPos pos = salmon.blockPosition();
 
         boolean inRiverBiome = level.getBiome(pos).is(BiomeTags.IS_RIVER);
-        boolean nearGravel = isNearGravel();
 
-        return inRiverBiome || nearGravel;
+        return inRiverBiome || isNearGravel();
     }
 
     /**
      * Checks if salmon is near gravel blocks (potential spawning site).
+     * Reads the exposed gravel, such as riverbeds, kept by the {@link HabitatBlockIndex}.
+     * Any gravel found counts, even from a search the index could not finish this tick.
      */
     private boolean isNearGravel() {
-        BlockPos salmonPos = salmon.blockPosition();
-        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
-
-        for (int x = -GRAVEL_SEARCH_RADIUS; x <= GRAVEL_SEARCH_RADIUS; x++) {
-            for (int y = -2; y <= 2; y++) {
-                for (int z = -GRAVEL_SEARCH_RADIUS; z <= GRAVEL_SEARCH_RADIUS; z++) {
-                    mutablePos.set(salmonPos.getX() + x, salmonPos.getY() + y, salmonPos.getZ() + z);
-                    BlockState state = salmon.level().getBlockState(mutablePos);
-                    if (state.is(net.minecraft.world.level.block.Blocks.GRAVEL)) {
-                        return true;
-                    }
-                }
-            }
+        if (!(salmon.level() instanceof ServerLevel serverLevel)) {
+            return false;
         }
-
-        return false;
+        return HabitatBlockIndex.findNearest(serverLevel, salmon.blockPosition(), HabitatBlockIndex.GRAVEL,
+            GRAVEL_SEARCH_RADIUS, 2, null).found();
     }
 
     /**
@@ -0,0 +1,112 @@
+package me.javavirtualenv.behavior.core;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import java.util.function.Predicate;
+
+/**
+ * Box-shaped block searches that read chunk section data directly.
+ *
+ * <p>Before a section is scanned, its palette is asked whether it can hold any state that
+ * passes the filter ({@link LevelChunkSection#maybeHas}). Sections that are all air, or
+ * whose palette has none of the wanted states (stone, deep water, open sky), are skipped
+ * without reading a block. The remaining sections are read with
+ * {@link LevelChunkSection#getBlockState}, skipping the chunk lookup and bounds checks that
+ * {@link Level#getBlockState} repeats for every position.
+ *
+ * <p>Only loaded chunks are searched; this never loads chunks.
+ */
+public final class SectionBlockSearch {
+
+    private SectionBlockSearch() {
+        // Utility class
+    }
+
+    /**
+     * Receives each matching block of a search.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * @param pos the block position; reused between calls, so call {@code immutable()} to keep it
+         * @param state the block state, which passed the search filter
+         */
+        void visit(BlockPos.MutableBlockPos pos, BlockState state);
+    }
+
+    /**
+     * Visits every block in the box from {@code center + (minOffset)} to
+     * {@code center + (maxOffset)}, inclusive, whose state passes the filter.
+     *
+     * @return the number of blocks read, for profiling
+     */
+    public static int forEachMatch(Level level, BlockPos center,
+                                   int minDx, int minDy, int minDz, int maxDx, int maxDy, int maxDz,
+                                   Predicate<BlockState> filter, Visitor visitor) {
+        return forEachMatch(level,
+            center.getX() + minDx, center.getY() + minDy, center.getZ() + minDz,
+            center.getX() + maxDx, center.getY() + maxDy, center.getZ() + maxDz,
+            filter, visitor);
+    }
+
+    /**
+     * Visits every block in the box between the given corners, inclusive, whose state passes
+     * the filter. Blocks are visited section by section, so in no particular overall order.
+     * Sections holding only air are always skipped, so the filter must not accept air.
+     *
+     * @return the number of blocks read, for profiling
+     */
+    public static int forEachMatch(Level level, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                                   Predicate<BlockState> filter, Visitor visitor) {
+        minY = Math.max(minY, level.getMinBuildHeight());
+        maxY = Math.min(maxY, level.getMaxBuildHeight() - 1);
+        if (minY > maxY) {
+            return 0;
+        }
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int blocksRead = 0;
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+
+                int fromX = Math.max(minX, chunkX << 4) & 15;
+                int toX = Math.min(maxX, (chunkX << 4) + 15) & 15;
+                int fromZ = Math.max(minZ, chunkZ << 4) & 15;
+                int toZ = Math.min(maxZ, (chunkZ << 4) + 15) & 15;
+
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    if (section.hasOnlyAir() || !section.maybeHas(filter)) {
+                        continue;
+                    }
+
+                    int fromY = Math.max(minY, sectionY << 4) & 15;
+                    int toY = Math.min(maxY, (sectionY << 4) + 15) & 15;
+
+                    for (int y = fromY; y <= toY; y++) {
+                        for (int z = fromZ; z <= toZ; z++) {
+                            for (int x = fromX; x <= toX; x++) {
+                                BlockState state = section.getBlockState(x, y, z);
+                                blocksRead++;
+                                if (filter.test(state)) {
+                                    pos.set((chunkX << 4) + x, (sectionY << 4) + y, (chunkZ << 4) + z);
+                                    visitor.visit(pos, state);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return blocksRead;
+    }
+}
@@ -1,11 +1,10 @@
 package me.javavirtualenv.behavior.core;
 
-import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.List;
 import java.util.function.Predicate;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.component.DataComponents;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.item.ItemEntity;
@@ -16,7 +15,6 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.AABB;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,7 +28,7 @@ public class SeekFoodGoal extends Goal {
     private static final Logger LOGGER = LoggerFactory.getLogger(SeekFoodGoal.class);
 
     private static final int EAT_ANIMATION_TICKS = 40;
-    private static final int SEARCH_COOLDOWN = 10;  // Reduced for faster activation
+    private static final int SEARCH_COOLDOWN_TICKS = 20;  // Game ticks; matches the old 10 canUse calls made every other tick
     private static final double ITEM_PICKUP_DISTANCE = 1.5;
     private static final double GRASS_EAT_DISTANCE = 1.0;
     private static final int ITEM_EATING_TICKS = 60;  // Time to consume picked up item
@@ -41,11 +39,12 @@ public class SeekFoodGoal extends Goal {
     private final int searchRadius;
     private final FoodMode mode;
     private final Predicate<ItemStack> foodPredicate;
+    private final int foodCategories;
 
     private BlockPos targetGrassPos;
     private ItemEntity targetItem;
     private int eatAnimationTick;
-    private int searchCooldown;
+    private final Cooldown searchCooldown = new Cooldown();
     private int itemEatingTick;  // Timer for eating picked up item
     private ItemStack heldFoodItem;  // Item being eaten
 
@@ -69,15 +68,40 @@ public class SeekFoodGoal extends Goal {
      * @param foodPredicate Predicate to validate food items (only used in ITEM_SEEKER mode)
      */
     public SeekFoodGoal(Mob mob, double speedModifier, int searchRadius, FoodMode mode, Predicate<ItemStack> foodPredicate) {
+        this(mob, speedModifier, searchRadius, mode, foodPredicate, 0);
+    }
+
+    /**
+     * Creates a new SeekFoodGoal whose food items all fall in the given {@link FoodItemIndex}
+     * categories, so item searches read only those categories from the index.
+     *
+     * @param mob The mob that will seek food
+     * @param speedModifier Movement speed multiplier when pathfinding to food
+     * @param searchRadius Radius to search for food
+     * @param mode GRAZER for grass blocks, ITEM_SEEKER for food items
+     * @param foodPredicate Predicate to validate food items (only used in ITEM_SEEKER mode)
+     * @param foodCategories FoodItemIndex category bits covering every item the predicate accepts,
+     *                       or 0 to search all dropped items
+     */
+    public SeekFoodGoal(Mob mob, double speedModifier, int searchRadius, FoodMode mode, Predicate<ItemStack> foodPredicate,
+                        int foodCategories) {
         this.mob = mob;
         this.level = mob.level();
         this.speedModifier = speedModifier;
         this.searchRadius = searchRadius;
         this.mode = mode;
         this.foodPredicate = foodPredicate;
+        this.foodCategories = foodCategories;
         this.setFlags(EnumSet.of(Goal.Flag.MOVE, Goal.Flag.LOOK));
     }
 
+    /**
+     * Gets how this goal finds food.
+     */
+    public FoodMode getMode() {
+        return this.mode;
+    }
+
     @Override
     public boolean canUse() {
         float hunger = AnimalNeeds.getHunger(this.mob);
@@ -89,9 +113,9 @@ public class SeekFoodGoal extends Goal {
             return false;
         }
 
-        if (this.searchCooldown > 0) {
-            this.searchCooldown--;
-            LOGGER.debug("{} on cooldown ({})", this.mob.getName().getString(), this.searchCooldown);
+        long gameTime = this.level.getGameTime();
+        if (!this.searchCooldown.isReady(gameTime)) {
+            LOGGER.debug("{} on cooldown ({})", this.mob.getName().getString(), this.searchCooldown.remaining(gameTime));
             return false;
         }
 
@@ -148,10 +172,11 @@ public class SeekFoodGoal extends Goal {
     public void stop() {
         LOGGER.debug("{} stopping food seeking", this.mob);
         this.targetGrassPos = null;
+        FoodItemIndex.release(this.targetItem, this.mob);
         this.targetItem = null;
         this.eatAnimationTick = 0;
         this.itemEatingTick = 0;
-        this.searchCooldown = SEARCH_COOLDOWN;
+        this.searchCooldown.start(this.level.getGameTime(), SEARCH_COOLDOWN_TICKS);
         this.mob.getNavigation().stop();
 
         // Clear held item if interrupted while eating
@@ -341,35 +366,23 @@ public class SeekFoodGoal extends Goal {
     }
 
     private boolean findNearestGrass() {
-        BlockPos mobPos = this.mob.blockPosition();
-        BlockPos.MutableBlockPos searchPos = new BlockPos.MutableBlockPos();
-
-        BlockPos closestGrass = null;
-        double closestDistanceSq = Double.MAX_VALUE;
-        int blocksChecked = 0;
-        int grassFound = 0;
-
-        for (int x = -this.searchRadius; x <= this.searchRadius; x++) {
-            for (int y = -2; y <= 2; y++) {
-                for (int z = -this.searchRadius; z <= this.searchRadius; z++) {
-                    searchPos.set(mobPos.getX() + x, mobPos.getY() + y, mobPos.getZ() + z);
-                    blocksChecked++;
-
-                    if (isValidGrassBlock(searchPos)) {
-                        grassFound++;
-                        double distanceSq = mobPos.distSqr(searchPos);
-                        if (distanceSq < closestDistanceSq) {
-                            closestDistanceSq = distanceSq;
-                            closestGrass = searchPos.immutable();
-                        }
-                    }
-                }
-            }
+        if (!(this.level instanceof ServerLevel serverLevel)) {
+            return false;
         }
 
-        LOGGER.debug("{} searched {} blocks, found {} grass. Mob at {} (y={})",
-            this.mob.getName().getString(), blocksChecked, grassFound, mobPos, mobPos.getY());
+        BlockPos mobPos = this.mob.blockPosition();
+        HabitatBlockIndex.Result result = HabitatBlockIndex.findNearest(serverLevel, mobPos, HabitatBlockIndex.GRAZE,
+            this.searchRadius, 2, null);
+
+        LOGGER.debug("{} searched the habitat index for grass. Mob at {} (y={}), incomplete: {}",
+            this.mob.getName().getString(), mobPos, mobPos.getY(), result.incomplete());
 
+        // Part of the area is not indexed yet; nearer grass may be missing, so search again next tick
+        if (result.incomplete()) {
+            return false;
+        }
+
+        BlockPos closestGrass = result.pos();
         if (closestGrass != null) {
             this.targetGrassPos = closestGrass;
             LOGGER.debug("{} found grass at {}", this.mob, closestGrass);
@@ -396,18 +409,9 @@ public class SeekFoodGoal extends Goal {
     }
 
     private boolean findNearestFoodItem() {
-        AABB searchBox = this.mob.getBoundingBox().inflate(this.searchRadius);
-        List<ItemEntity> items = this.level.getEntitiesOfClass(ItemEntity.class, searchBox, this::isValidFoodItem);
-
-        if (items.isEmpty()) {
-            return false;
-        }
-
-        ItemEntity closest = items.stream()
-            .min(Comparator.comparingDouble(item -> this.mob.distanceToSqr(item)))
-            .orElse(null);
+        ItemEntity closest = FoodItemIndex.findNearest(this.mob, this.foodCategories, this.searchRadius, this.foodPredicate);
 
-        if (closest != null) {
+        if (closest != null && FoodItemIndex.claim(closest, this.mob)) {
             this.targetItem = closest;
             LOGGER.debug("{} found food item: {}", this.mob, closest.getItem().getItem());
             return true;
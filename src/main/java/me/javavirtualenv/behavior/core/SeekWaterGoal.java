@@ -1,6 +1,7 @@
 package me.javavirtualenv.behavior.core;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.goal.Goal;
@@ -34,7 +35,7 @@ public class SeekWaterGoal extends Goal {
     private final int verticalSearchRange;
 
     private BlockPos targetWaterPos;
-    private int searchCooldown;
+    private final Cooldown searchCooldown = new Cooldown();
     private int tryTicks;
     private boolean reachedWater;
     private int drinkingTicks;
@@ -63,7 +64,6 @@ public class SeekWaterGoal extends Goal {
         this.speedModifier = speedModifier;
         this.searchRadius = searchRadius;
         this.verticalSearchRange = verticalSearchRange;
-        this.searchCooldown = 0;
         this.targetWaterPos = null;
         this.setFlags(EnumSet.of(Goal.Flag.MOVE, Goal.Flag.LOOK));
     }
@@ -74,12 +74,12 @@ public class SeekWaterGoal extends Goal {
             return false;
         }
 
-        if (this.searchCooldown > 0) {
-            this.searchCooldown--;
+        long gameTime = this.mob.level().getGameTime();
+        if (!this.searchCooldown.isReady(gameTime)) {
             return false;
         }
 
-        this.searchCooldown = reducedTickDelay(SEARCH_INTERVAL_TICKS);
+        this.searchCooldown.start(gameTime, SEARCH_INTERVAL_TICKS);
         return findNearestWater();
     }
 
@@ -151,32 +151,25 @@ public class SeekWaterGoal extends Goal {
      * @return true if water was found, false otherwise
      */
     private boolean findNearestWater() {
+        if (!(this.mob.level() instanceof ServerLevel level)) {
+            return false;
+        }
+
         BlockPos mobPos = this.mob.blockPosition();
-        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
-
-        BlockPos closestWater = null;
-        double closestDistSq = Double.MAX_VALUE;
-
-        for (int y = -this.verticalSearchRange; y <= this.verticalSearchRange; y++) {
-            for (int x = -this.searchRadius; x <= this.searchRadius; x++) {
-                for (int z = -this.searchRadius; z <= this.searchRadius; z++) {
-                    mutablePos.set(mobPos.getX() + x, mobPos.getY() + y, mobPos.getZ() + z);
-
-                    if (isWaterBlock(mutablePos)) {
-                        double distSq = mobPos.distSqr(mutablePos);
-                        if (distSq < closestDistSq) {
-                            closestDistSq = distSq;
-                            closestWater = mutablePos.immutable();
-                        }
-                    }
-                }
-            }
+        HabitatBlockIndex.Result result = HabitatBlockIndex.findNearest(level, mobPos, HabitatBlockIndex.WATER,
+            this.searchRadius, this.verticalSearchRange, null);
+
+        if (result.incomplete()) {
+            // Part of the area is not indexed yet; nearer water may be missing, so search again next tick
+            this.searchCooldown.reset();
+            return false;
         }
 
+        BlockPos closestWater = result.pos();
         if (closestWater != null) {
             this.targetWaterPos = closestWater;
             LOGGER.debug("Mob {} found water at {} (distance: {})",
-                this.mob.getName().getString(), closestWater, Math.sqrt(closestDistSq));
+                this.mob.getName().getString(), closestWater, Math.sqrt(mobPos.distSqr(closestWater)));
             return true;
         }
 
@@ -18,7 +18,7 @@ import java.util.List;
  *
  * <p>When a baby is too far from any adult of its species, it will:
  * <ul>
- *   <li>Emit distress sounds at regular intervals</li>
+ *   <li>Emit distress sounds at regular intervals, heard by nearby adults through the {@link AlarmBus}</li>
  *   <li>Display visual distress (particles)</li>
  *   <li>Move erratically while searching</li>
  * </ul>
@@ -219,6 +219,9 @@ public class SeparationDistressGoal extends Goal {
             );
         }
 
+        AlarmBus.publish(AlarmBus.Alarm.of(AlarmBus.DISTRESS, this.mob, this.searchRadius, this.parentType)
+            .withLifetime(DISTRESS_CALL_INTERVAL));
+
         LOGGER.debug("{} made distress call (tick {})",
             this.mob.getName().getString(), this.distressTicks);
     }
@@ -231,8 +234,8 @@ public class SeparationDistressGoal extends Goal {
     @Nullable
     private Mob findNearestAdult() {
         AABB searchBox = this.mob.getBoundingBox().inflate(this.searchRadius);
-        List<? extends Mob> nearbyAdults = this.mob.level()
-            .getEntitiesOfClass(this.parentType, searchBox, this::isValidAdult);
+        List<? extends Mob> nearbyAdults = EcologySpatialIndex
+            .getEntitiesOfClass(this.mob.level(), this.parentType, searchBox, this::isValidAdult);
 
         return nearbyAdults.stream()
             .min((a, b) -> Double.compare(this.mob.distanceToSqr(a), this.mob.distanceToSqr(b)))
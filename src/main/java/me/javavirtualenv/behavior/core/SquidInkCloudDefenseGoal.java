@@ -74,7 +74,8 @@ public class SquidInkCloudDefenseGoal extends Goal {
         this.detectionRange = detectionRange;
         this.predatorTypes = List.of(predatorTypes);
         this.targetingConditions = TargetingConditions.forCombat()
-                .range(detectionRange);
+                .range(detectionRange)
+                .ignoreLineOfSight();  // Checked through LineOfSightCache
 
         this.cooldownTicks = 0;
         this.inkCloudTicks = 0;
@@ -175,14 +176,15 @@ public class SquidInkCloudDefenseGoal extends Goal {
         double nearestDistSq = PREDATOR_PROXIMITY_THRESHOLD * PREDATOR_PROXIMITY_THRESHOLD;
 
         for (Class<? extends LivingEntity> predatorType : this.predatorTypes) {
-            List<? extends LivingEntity> nearbyPredators = this.mob.level()
-                    .getEntitiesOfClass(
+            List<? extends LivingEntity> nearbyPredators = EcologySpatialIndex
+                    .getEntitiesOfClass(this.mob.level(),
                             predatorType,
                             this.mob.getBoundingBox().inflate(PREDATOR_PROXIMITY_THRESHOLD)
                     );
 
             for (LivingEntity predator : nearbyPredators) {
-                if (!this.targetingConditions.test(this.mob, predator)) {
+                if (!this.targetingConditions.test(this.mob, predator)
+                    || !LineOfSightCache.hasLineOfSight(this.mob, predator)) {
                     continue;
                 }
 
@@ -277,7 +279,7 @@ public class SquidInkCloudDefenseGoal extends Goal {
                 this.mob.getZ() + cloudRadius
         );
 
-        List<LivingEntity> entitiesInCloud = this.mob.level().getEntitiesOfClass(
+        List<LivingEntity> entitiesInCloud = EcologySpatialIndex.getEntitiesOfClass(this.mob.level(),
                 LivingEntity.class,
                 cloudArea,
                 entity -> entity != this.mob && entity.isAlive()
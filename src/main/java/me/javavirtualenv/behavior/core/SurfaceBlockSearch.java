@@ -0,0 +1,91 @@
+package me.javavirtualenv.behavior.core;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import java.util.function.Predicate;
+
+/**
+ * Column-by-column block searches for goals that only care about surface blocks.
+ *
+ * <p>Instead of reading every y level of a search box, each column reads the chunk heightmaps
+ * the goal asks for and tests only the top block of each: {@link Heightmap.Types#WORLD_SURFACE}
+ * for the highest non-air block (tree canopy, snow), {@link Heightmap.Types#MOTION_BLOCKING_NO_LEAVES}
+ * for the ground or trunk top under leaves, and {@link Heightmap.Types#OCEAN_FLOOR} for the
+ * floor under water. A 65x65 box costs one to three reads per column, however tall it is.
+ *
+ * <p>Surfaces outside the search box's y range are ignored. Only loaded chunks are searched;
+ * this never loads chunks.
+ */
+public final class SurfaceBlockSearch {
+
+    private SurfaceBlockSearch() {
+        // Utility class
+    }
+
+    /**
+     * Visits the surface blocks of every column within {@code horizontalRadius} of
+     * {@code center} whose height is from {@code minDy} to {@code maxDy} relative to it, and
+     * whose state passes the filter. A block that is the top of several of the given surfaces
+     * is visited once.
+     *
+     * @param surfaces the heightmaps whose top blocks are tested
+     * @return the number of blocks read, for profiling
+     */
+    public static int forEachMatch(Level level, BlockPos center, int horizontalRadius, int minDy, int maxDy,
+                                   Predicate<BlockState> filter, SectionBlockSearch.Visitor visitor,
+                                   Heightmap.Types... surfaces) {
+        int minY = Math.max(center.getY() + minDy, level.getMinBuildHeight());
+        int maxY = Math.min(center.getY() + maxDy, level.getMaxBuildHeight() - 1);
+        int minX = center.getX() - horizontalRadius;
+        int maxX = center.getX() + horizontalRadius;
+        int minZ = center.getZ() - horizontalRadius;
+        int maxZ = center.getZ() + horizontalRadius;
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int[] columnHeights = new int[surfaces.length];
+        int blocksRead = 0;
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+
+                for (int x = Math.max(minX, chunkX << 4); x <= Math.min(maxX, (chunkX << 4) + 15); x++) {
+                    for (int z = Math.max(minZ, chunkZ << 4); z <= Math.min(maxZ, (chunkZ << 4) + 15); z++) {
+                        for (int i = 0; i < surfaces.length; i++) {
+                            // Chunk heightmap reads give the top block itself, not the air above it
+                            int y = chunk.getHeight(surfaces[i], x & 15, z & 15);
+                            columnHeights[i] = y;
+                            if (y < minY || y > maxY || isRepeated(columnHeights, i)) {
+                                continue;
+                            }
+
+                            pos.set(x, y, z);
+                            BlockState state = chunk.getBlockState(pos);
+                            blocksRead++;
+                            if (filter.test(state)) {
+                                visitor.visit(pos, state);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return blocksRead;
+    }
+
+    private static boolean isRepeated(int[] columnHeights, int index) {
+        for (int i = 0; i < index; i++) {
+            if (columnHeights[i] == columnHeights[index]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -8,10 +8,13 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LightLayer;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.Heightmap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 
 /**
  * Goal that makes turtles seek sunny beach areas for basking (thermoregulation).
@@ -175,25 +178,23 @@ public class TurtleBaskingGoal extends Goal {
      * @return true if a basking spot was found
      */
     private boolean findBaskingSpot() {
-        BlockPos turtlePos = this.turtle.blockPosition();
-        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
-        Level level = this.turtle.level();
+        // Basking needs strong sky light, which in practice only the topmost block of a column gets
+        List<BlockPos> surfaceBlocks = new ArrayList<>();
+        SurfaceBlockSearch.forEachMatch(this.turtle.level(), this.turtle.blockPosition(),
+            SEARCH_RADIUS, -VERTICAL_SEARCH_RANGE, VERTICAL_SEARCH_RANGE,
+            this::isValidBaskingSurface,
+            (pos, state) -> surfaceBlocks.add(pos.immutable()),
+            Heightmap.Types.WORLD_SURFACE);
 
         BlockPos bestSpot = null;
         double bestScore = -1;
 
-        for (int x = -SEARCH_RADIUS; x <= SEARCH_RADIUS; x++) {
-            for (int z = -SEARCH_RADIUS; z <= SEARCH_RADIUS; z++) {
-                for (int y = -VERTICAL_SEARCH_RANGE; y <= VERTICAL_SEARCH_RANGE; y++) {
-                    mutablePos.set(turtlePos.getX() + x, turtlePos.getY() + y, turtlePos.getZ() + z);
-
-                    if (isValidBaskingSpot(mutablePos)) {
-                        double score = calculateBaskingSpotScore(mutablePos);
-                        if (score > bestScore) {
-                            bestScore = score;
-                            bestSpot = mutablePos.immutable();
-                        }
-                    }
+        for (BlockPos pos : surfaceBlocks) {
+            if (isValidBaskingSpot(pos)) {
+                double score = calculateBaskingSpotScore(pos);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestSpot = pos;
                 }
             }
         }
@@ -10,13 +10,17 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.animal.Turtle;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Goal that implements natal philopatry for turtles - returning to their birth beach to lay eggs.
@@ -43,12 +47,16 @@ public class TurtleBeachNestingGoal extends Goal {
     private static final int SEARCH_INTERVAL_TICKS = 100;
     private static final int GIVE_UP_TICKS = 2400;
     private static final double ACCEPTED_DISTANCE = 2.0;
+    // Best spots kept from a search, in case the best ones changed before it finished
+    private static final int MAX_NESTING_CANDIDATES = 8;
 
     private final Turtle turtle;
     private final double speedModifier;
 
     private BlockPos nestingSpot;
     private int searchCooldown;
+    @Nullable
+    private CompletableFuture<List<AsyncBlockSearch.Candidate>> pendingSearch;
     private int tryTicks;
     private int diggingTicks;
     private int diggingDuration;
@@ -81,6 +89,15 @@ public class TurtleBeachNestingGoal extends Goal {
             return false;
         }
 
+        if (this.pendingSearch != null) {
+            if (!this.pendingSearch.isDone()) {
+                return false;
+            }
+            List<AsyncBlockSearch.Candidate> candidates = this.pendingSearch.join();
+            this.pendingSearch = null;
+            return chooseNestingSpot(candidates);
+        }
+
         if (this.searchCooldown > 0) {
             this.searchCooldown--;
             return false;
@@ -88,7 +105,8 @@ public class TurtleBeachNestingGoal extends Goal {
 
         this.searchCooldown = reducedTickDelay(SEARCH_INTERVAL_TICKS);
 
-        return findNestingSpot();
+        startNestingSpotSearch();
+        return false;
     }
 
     @Override
@@ -161,45 +179,39 @@ public class TurtleBeachNestingGoal extends Goal {
     }
 
     /**
-     * Finds a suitable nesting spot near the home beach.
-     *
-     * @return true if a nesting spot was found
+     * Starts an off-thread search for nesting spots near the home beach.
      */
-    private boolean findNestingSpot() {
+    private void startNestingSpotSearch() {
         BlockPos homeBeach = ((TurtleAccessor) this.turtle).invokeGetHomePos();
         if (homeBeach == null || homeBeach.equals(BlockPos.ZERO)) {
             homeBeach = this.turtle.blockPosition();
         }
 
-        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
-        Level level = this.turtle.level();
+        BlockPos home = homeBeach;
+        BlockPos turtlePos = this.turtle.blockPosition();
+        this.pendingSearch = AsyncBlockSearch.submit(this.turtle.level(), home,
+            -HOME_BEACH_RADIUS, -5, -HOME_BEACH_RADIUS, HOME_BEACH_RADIUS, 5, HOME_BEACH_RADIUS,
+            state -> state.is(BlockTags.SAND),
+            (pos, state, snapshot) -> isValidNestingSpot(snapshot, pos) ? calculateNestingSpotScore(pos, home, turtlePos) : -1,
+            MAX_NESTING_CANDIDATES);
+    }
 
-        BlockPos bestSpot = null;
-        double bestScore = -1;
-
-        for (int x = -HOME_BEACH_RADIUS; x <= HOME_BEACH_RADIUS; x++) {
-            for (int z = -HOME_BEACH_RADIUS; z <= HOME_BEACH_RADIUS; z++) {
-                for (int y = -5; y <= 5; y++) {
-                    mutablePos.set(homeBeach.getX() + x, homeBeach.getY() + y, homeBeach.getZ() + z);
-
-                    if (isValidNestingSpot(mutablePos)) {
-                        double score = calculateNestingSpotScore(mutablePos, homeBeach);
-                        if (score > bestScore) {
-                            bestScore = score;
-                            bestSpot = mutablePos.immutable();
-                        }
-                    }
-                }
+    /**
+     * Takes the best nesting spot from a finished search that is still valid.
+     *
+     * @param candidates search results, best first
+     * @return true if a nesting spot was found
+     */
+    private boolean chooseNestingSpot(List<AsyncBlockSearch.Candidate> candidates) {
+        for (AsyncBlockSearch.Candidate candidate : candidates) {
+            if (isValidNestingSpot(this.turtle.level(), candidate.pos())) {
+                this.nestingSpot = candidate.pos();
+                LOGGER.debug("Turtle {} found nesting spot at {} (score: {})",
+                    this.turtle.getName().getString(), candidate.pos(), candidate.score());
+                return true;
             }
         }
 
-        if (bestSpot != null) {
-            this.nestingSpot = bestSpot;
-            LOGGER.debug("Turtle {} found nesting spot at {} (score: {})",
-                this.turtle.getName().getString(), bestSpot, bestScore);
-            return true;
-        }
-
         LOGGER.debug("Turtle {} could not find valid nesting spot near home beach",
             this.turtle.getName().getString());
         return false;
@@ -208,11 +220,11 @@ public class TurtleBeachNestingGoal extends Goal {
     /**
      * Checks if a position is valid for nesting.
      *
+     * @param level the level, or a search snapshot
      * @param pos the position to check
      * @return true if valid for nesting
      */
-    private boolean isValidNestingSpot(BlockPos pos) {
-        Level level = this.turtle.level();
+    private static boolean isValidNestingSpot(BlockGetter level, BlockPos pos) {
         BlockState groundState = level.getBlockState(pos);
         BlockState aboveState = level.getBlockState(pos.above());
 
@@ -236,11 +248,12 @@ public class TurtleBeachNestingGoal extends Goal {
      *
      * @param pos the position to score
      * @param homeBeach the home beach position
+     * @param turtlePos the turtle's position
      * @return score (higher is better)
      */
-    private double calculateNestingSpotScore(BlockPos pos, BlockPos homeBeach) {
+    private static double calculateNestingSpotScore(BlockPos pos, BlockPos homeBeach, BlockPos turtlePos) {
         double distToHome = homeBeach.distSqr(pos);
-        double distToTurtle = this.turtle.blockPosition().distSqr(pos);
+        double distToTurtle = turtlePos.distSqr(pos);
 
         double proximityScore = 100.0 / (1.0 + distToHome / 100.0);
         double accessibilityScore = 100.0 / (1.0 + distToTurtle / 50.0);
@@ -6,21 +6,21 @@ import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 import net.minecraft.core.UUIDUtil;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.animal.Wolf;
 
-import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
-import net.minecraft.world.phys.AABB;
 
 /**
  * Data class for wolf pack membership and hierarchy.
  * Wolves track their pack via a pack UUID and their rank within the pack.
+ * The food-sharing cooldown is kept separately in {@link #SHARE_COOLDOWN}, so
+ * starting or checking it never rewrites the pack data. Pack membership is indexed
+ * per level by {@link PackRegistry}.
  */
 public record WolfPackData(
     UUID packId,
-    PackRank rank,
-    int sharesCooldown
+    PackRank rank
 ) {
     /**
      * Wolf pack ranks, from highest to lowest priority.
@@ -41,23 +41,23 @@ public record WolfPackData(
         }
     }
 
-    // Codec for serialization
+    // Codec for serialization. Older saves also carry a "shares_cooldown" tick counter,
+    // which is ignored on load; the cooldown now lives in SHARE_COOLDOWN.
     public static final Codec<WolfPackData> CODEC = RecordCodecBuilder.create(instance ->
         instance.group(
             UUIDUtil.CODEC.fieldOf("pack_id").forGetter(WolfPackData::packId),
-            Codec.STRING.xmap(PackRank::valueOf, PackRank::name).fieldOf("rank").forGetter(WolfPackData::rank),
-            Codec.INT.fieldOf("shares_cooldown").forGetter(WolfPackData::sharesCooldown)
+            Codec.STRING.xmap(PackRank::valueOf, PackRank::name).fieldOf("rank").forGetter(WolfPackData::rank)
         ).apply(instance, WolfPackData::new)
     );
 
     // Default pack data - creates a new pack with this wolf as alpha
     public static WolfPackData createNewPack() {
-        return new WolfPackData(UUID.randomUUID(), PackRank.ALPHA, 0);
+        return new WolfPackData(UUID.randomUUID(), PackRank.ALPHA);
     }
 
     // Join an existing pack as omega
     public static WolfPackData joinPack(UUID packId) {
-        return new WolfPackData(packId, PackRank.OMEGA, 0);
+        return new WolfPackData(packId, PackRank.OMEGA);
     }
 
     // Attachment type for wolves
@@ -69,6 +69,11 @@ public record WolfPackData(
             .copyOnDeath()
     );
 
+    /**
+     * Cooldown between food shares, stored as an expiry game tick.
+     */
+    public static final PersistentCooldown SHARE_COOLDOWN = PersistentCooldown.create("wolf_share_cooldown");
+
     // ========== UTILITY METHODS ==========
 
     /**
@@ -79,10 +84,13 @@ public record WolfPackData(
     }
 
     /**
-     * Sets pack data for a wolf.
+     * Sets pack data for a wolf and updates the level's {@link PackRegistry}.
      */
     public static void setPackData(Wolf wolf, WolfPackData data) {
-        wolf.setAttached(PACK_DATA_ATTACHMENT, data);
+        WolfPackData previous = wolf.setAttached(PACK_DATA_ATTACHMENT, data);
+        if (wolf.level() instanceof ServerLevel level) {
+            PackRegistry.get(level).onPackDataChanged(wolf, previous, data);
+        }
     }
 
     /**
@@ -113,32 +121,28 @@ public record WolfPackData(
             case BETA -> PackRank.ALPHA;
             case ALPHA -> PackRank.ALPHA; // Already highest
         };
-        setPackData(wolf, new WolfPackData(data.packId(), newRank, data.sharesCooldown()));
+        setPackData(wolf, new WolfPackData(data.packId(), newRank));
     }
 
     /**
-     * Updates the share cooldown for a wolf.
+     * Starts the share cooldown for a wolf, in game ticks.
      */
     public static void setSharesCooldown(Wolf wolf, int cooldown) {
-        WolfPackData data = getPackData(wolf);
-        setPackData(wolf, new WolfPackData(data.packId(), data.rank(), cooldown));
+        SHARE_COOLDOWN.start(wolf, cooldown);
     }
 
     /**
-     * Decrements share cooldown by 1 if > 0.
+     * Gets the remaining share cooldown for a wolf, in game ticks.
      */
-    public static void tickSharesCooldown(Wolf wolf) {
-        WolfPackData data = getPackData(wolf);
-        if (data.sharesCooldown() > 0) {
-            setPackData(wolf, new WolfPackData(data.packId(), data.rank(), data.sharesCooldown() - 1));
-        }
+    public static long getSharesCooldown(Wolf wolf) {
+        return SHARE_COOLDOWN.remaining(wolf);
     }
 
     /**
-     * Checks if the wolf can share food (cooldown is 0).
+     * Checks if the wolf can share food (cooldown has expired).
      */
     public static boolean canShare(Wolf wolf) {
-        return getPackData(wolf).sharesCooldown() <= 0;
+        return SHARE_COOLDOWN.isReady(wolf);
     }
 
     /**
@@ -150,19 +154,6 @@ public record WolfPackData(
      * @return true if any nearby pack member is hungry
      */
     public static boolean hasHungryPackMember(Wolf wolf, double range) {
-        AABB searchBox = wolf.getBoundingBox().inflate(range);
-        WolfPackData myData = getPackData(wolf);
-
-        List<Wolf> nearbyWolves = wolf.level().getEntitiesOfClass(Wolf.class, searchBox,
-            other -> other != wolf && other.isAlive());
-
-        for (Wolf other : nearbyWolves) {
-            WolfPackData otherData = getPackData(other);
-            if (myData.packId().equals(otherData.packId()) && AnimalNeeds.isHungry(other)) {
-                return true;
-            }
-        }
-
-        return false;
+        return PackRegistry.hasHungryPackmate(wolf, range);
     }
 }
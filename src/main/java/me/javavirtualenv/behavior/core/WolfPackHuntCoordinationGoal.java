@@ -75,7 +75,10 @@ public class WolfPackHuntCoordinationGoal extends Goal {
             return false;
         }
 
-        // Check pack size
+        // Check pack size, first without building the member list
+        if (PackRegistry.getLoadedCount(wolf) < MIN_PACK_SIZE) {
+            return false;
+        }
         List<Wolf> packMembers = getNearbyPackMembers();
         if (packMembers.size() < MIN_PACK_SIZE - 1) { // -1 because we don't include self
             return false;
@@ -98,7 +101,7 @@ public class WolfPackHuntCoordinationGoal extends Goal {
             return findLargePrey();
         } else {
             // Beta/omega wolves follow the alpha's target
-            return checkAlphaHasTarget(packMembers);
+            return checkAlphaHasTarget();
         }
     }
 
@@ -153,7 +156,9 @@ public class WolfPackHuntCoordinationGoal extends Goal {
         pathRecalculationTimer = 0;
         packPositioned = false;
 
-        if (!isAlphaLeader) {
+        if (isAlphaLeader) {
+            PackRegistry.setHuntTarget(wolf, null);
+        } else {
             wolf.setTarget(null);
         }
         wolf.getNavigation().stop();
@@ -255,7 +260,7 @@ public class WolfPackHuntCoordinationGoal extends Goal {
      */
     private boolean findLargePrey() {
         AABB searchBox = wolf.getBoundingBox().inflate(DETECTION_RANGE);
-        List<LivingEntity> potentialPrey = wolf.level().getEntitiesOfClass(
+        List<LivingEntity> potentialPrey = EcologySpatialIndex.getEntitiesOfClass(wolf.level(),
             LivingEntity.class,
             searchBox,
             this::isLargePrey
@@ -271,6 +276,7 @@ public class WolfPackHuntCoordinationGoal extends Goal {
             .orElse(null);
 
         if (targetPrey != null) {
+            PackRegistry.setHuntTarget(wolf, targetPrey);
             LOGGER.debug("Alpha {} selected pack hunt target: {}",
                 wolf.getName().getString(),
                 targetPrey.getName().getString());
@@ -283,23 +289,19 @@ public class WolfPackHuntCoordinationGoal extends Goal {
     /**
      * Checks if the alpha has marked a target that we should help hunt.
      */
-    private boolean checkAlphaHasTarget(List<Wolf> packMembers) {
-        // Find the alpha in the pack
-        Wolf alpha = null;
-        for (Wolf member : packMembers) {
-            WolfPackData.PackRank rank = WolfPackData.getPackData(member).rank();
-            if (rank == WolfPackData.PackRank.ALPHA) {
-                alpha = member;
-                break;
-            }
+    private boolean checkAlphaHasTarget() {
+        Wolf alpha = PackRegistry.getLoadedAlpha(wolf);
+        if (alpha == null || wolf.distanceToSqr(alpha) > DETECTION_RANGE * DETECTION_RANGE) {
+            return false;
         }
 
-        if (alpha == null || alpha.getTarget() == null) {
-            return false;
+        // The pack's shared target, or whatever the alpha is attacking
+        LivingEntity alphaTarget = PackRegistry.getHuntTarget(wolf);
+        if (alphaTarget == null) {
+            alphaTarget = alpha.getTarget();
         }
 
         // Check if alpha's target is large prey
-        LivingEntity alphaTarget = alpha.getTarget();
         if (isLargePrey(alphaTarget)) {
             targetPrey = alphaTarget;
             LOGGER.debug("{} joining pack hunt for alpha's target: {}",
@@ -312,23 +314,11 @@ public class WolfPackHuntCoordinationGoal extends Goal {
     }
 
     /**
-     * Gets all nearby pack members.
+     * Gets all nearby pack members from the {@link PackRegistry}.
      */
     private List<Wolf> getNearbyPackMembers() {
-        AABB searchBox = wolf.getBoundingBox().inflate(DETECTION_RANGE);
-        WolfPackData myData = WolfPackData.getPackData(wolf);
-
-        List<Wolf> packMembers = new ArrayList<>();
-        List<Wolf> nearbyWolves = wolf.level().getEntitiesOfClass(Wolf.class, searchBox,
-            other -> other != wolf && other.isAlive());
-
-        for (Wolf other : nearbyWolves) {
-            WolfPackData otherData = WolfPackData.getPackData(other);
-            if (myData.packId().equals(otherData.packId())) {
-                packMembers.add(other);
-            }
-        }
-
+        List<Wolf> packMembers = PackRegistry.getLoadedPackmates(wolf);
+        packMembers.removeIf(member -> wolf.distanceToSqr(member) > DETECTION_RANGE * DETECTION_RANGE);
         return packMembers;
     }
 
@@ -395,13 +385,7 @@ public class WolfPackHuntCoordinationGoal extends Goal {
             baseDirection = preyVelocity.normalize();
         } else {
             // Find alpha for directional reference
-            Wolf alpha = null;
-            for (Wolf member : packMembers) {
-                if (WolfPackData.getPackData(member).rank() == WolfPackData.PackRank.ALPHA) {
-                    alpha = member;
-                    break;
-                }
-            }
+            Wolf alpha = PackRegistry.getLoadedAlpha(wolf);
             if (alpha != null) {
                 baseDirection = preyPos.subtract(alpha.position()).normalize();
             } else {
@@ -6,14 +6,10 @@ import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.animal.Wolf;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
-import net.minecraft.world.phys.AABB;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.List;
 
 /**
  * Goal that makes wolves pick up and carry meat items.
@@ -89,6 +85,7 @@ public class WolfPickupMeatGoal extends Goal {
 
     @Override
     public void stop() {
+        FoodItemIndex.release(targetItem, wolf);
         targetItem = null;
         eatTimer = 0;
         wolf.getNavigation().stop();
@@ -131,34 +128,16 @@ public class WolfPickupMeatGoal extends Goal {
     }
 
     /**
-     * Finds the nearest meat item on the ground.
+     * Finds the nearest meat item on the ground that no other wolf has claimed, and claims it.
      */
     private boolean findNearestMeat() {
-        AABB searchBox = wolf.getBoundingBox().inflate(SEARCH_RADIUS);
-        List<ItemEntity> items = wolf.level().getEntitiesOfClass(ItemEntity.class, searchBox,
-            item -> item.isAlive() && isMeatItem(item.getItem()));
-
-        if (items.isEmpty()) {
+        ItemEntity nearest = FoodItemIndex.findNearest(wolf, FoodItemIndex.MEAT, SEARCH_RADIUS, null);
+        if (nearest == null || !FoodItemIndex.claim(nearest, wolf)) {
             return false;
         }
 
-        targetItem = items.stream()
-            .min(Comparator.comparingDouble(item -> wolf.distanceToSqr(item)))
-            .orElse(null);
-
-        return targetItem != null;
-    }
-
-    /**
-     * Checks if an item is a meat item wolves can eat/carry.
-     */
-    private boolean isMeatItem(ItemStack stack) {
-        return stack.is(Items.BEEF) || stack.is(Items.COOKED_BEEF) ||
-               stack.is(Items.PORKCHOP) || stack.is(Items.COOKED_PORKCHOP) ||
-               stack.is(Items.MUTTON) || stack.is(Items.COOKED_MUTTON) ||
-               stack.is(Items.CHICKEN) || stack.is(Items.COOKED_CHICKEN) ||
-               stack.is(Items.RABBIT) || stack.is(Items.COOKED_RABBIT) ||
-               stack.is(Items.ROTTEN_FLESH);
+        targetItem = nearest;
+        return true;
     }
 
     /**
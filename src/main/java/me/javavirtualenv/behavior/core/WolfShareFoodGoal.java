@@ -5,8 +5,6 @@ import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.animal.Wolf;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.Items;
-import net.minecraft.world.phys.AABB;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -129,12 +127,7 @@ public class WolfShareFoodGoal extends Goal {
      * Checks if an item stack is a meat item.
      */
     private boolean isMeatItem(ItemStack stack) {
-        return stack.is(Items.BEEF) || stack.is(Items.COOKED_BEEF) ||
-               stack.is(Items.PORKCHOP) || stack.is(Items.COOKED_PORKCHOP) ||
-               stack.is(Items.MUTTON) || stack.is(Items.COOKED_MUTTON) ||
-               stack.is(Items.CHICKEN) || stack.is(Items.COOKED_CHICKEN) ||
-               stack.is(Items.RABBIT) || stack.is(Items.COOKED_RABBIT) ||
-               stack.is(Items.ROTTEN_FLESH);
+        return (FoodItemIndex.categoriesOf(stack) & FoodItemIndex.MEAT) != 0;
     }
 
     /**
@@ -142,12 +135,10 @@ public class WolfShareFoodGoal extends Goal {
      * Prioritizes by rank (alpha > beta > omega) and then by hunger level.
      */
     private boolean findHungryPackmate() {
-        AABB searchBox = wolf.getBoundingBox().inflate(SEARCH_RADIUS);
-        List<Wolf> nearbyWolves = wolf.level().getEntitiesOfClass(Wolf.class, searchBox, w ->
-            w != wolf &&
-            w.isAlive() &&
-            WolfPackData.arePackmates(wolf, w) &&
-            AnimalNeeds.isHungry(w)
+        List<Wolf> nearbyWolves = PackRegistry.getLoadedPackmates(wolf);
+        nearbyWolves.removeIf(w ->
+            wolf.distanceToSqr(w) > SEARCH_RADIUS * SEARCH_RADIUS ||
+            !AnimalNeeds.isHungry(w)
         );
 
         if (nearbyWolves.isEmpty()) {
@@ -4,8 +4,6 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.List;
-
 /**
  * Cohesion behavior: steers toward the center of mass of nearby group members.
  * This keeps groups together and creates emergent flocking behavior.
@@ -44,8 +42,8 @@ public class CohesionBehavior implements SteeringBehavior {
 
     @Override
     public Vec3 calculate(Mob mob, SteeringContext context) {
-        List<Entity> nearbyEntities = context.getNearbyEntities();
-        if (nearbyEntities == null || nearbyEntities.isEmpty()) {
+        int candidateCount = context.getNeighborCount();
+        if (candidateCount == 0) {
             return Vec3.ZERO;
         }
 
@@ -54,7 +52,8 @@ public class CohesionBehavior implements SteeringBehavior {
         int groupMemberCount = 0;
 
         // Calculate center of mass for same-type entities
-        for (Entity neighbor : nearbyEntities) {
+        for (int i = 0; i < candidateCount; i++) {
+            Entity neighbor = context.getNeighbor(i);
             if (neighbor == mob) {
                 continue;
             }
@@ -4,8 +4,6 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.List;
-
 /**
  * Separation behavior: steers away from nearby neighbors to maintain personal space.
  * This prevents crowding and collisions within groups.
@@ -46,8 +44,8 @@ public class SeparationBehavior implements SteeringBehavior {
 
     @Override
     public Vec3 calculate(Mob mob, SteeringContext context) {
-        List<Entity> nearbyEntities = context.getNearbyEntities();
-        if (nearbyEntities == null || nearbyEntities.isEmpty()) {
+        int candidateCount = context.getNeighborCount();
+        if (candidateCount == 0) {
             return Vec3.ZERO;
         }
 
@@ -56,7 +54,8 @@ public class SeparationBehavior implements SteeringBehavior {
         int neighborCount = 0;
 
         // Calculate repulsion from each nearby neighbor
-        for (Entity neighbor : nearbyEntities) {
+        for (int i = 0; i < candidateCount; i++) {
+            Entity neighbor = context.getNeighbor(i);
             if (neighbor == mob) {
                 continue;
             }
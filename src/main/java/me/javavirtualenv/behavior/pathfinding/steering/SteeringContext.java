@@ -1,5 +1,6 @@
 package me.javavirtualenv.behavior.pathfinding.steering;
 
+import me.javavirtualenv.behavior.core.NeighborBuffer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.pathfinder.Path;
 import net.minecraft.world.phys.Vec3;
@@ -10,11 +11,16 @@ import java.util.List;
 /**
  * Context object containing environmental information for steering calculations.
  * Uses builder pattern for flexible construction.
+ *
+ * <p>Neighbours come either from a {@link NeighborBuffer} (the k nearest, from
+ * {@code EcologySpatialIndex.nearestNeighbors}) or from a plain entity list; behaviours read
+ * them through {@link #getNeighborCount()} and {@link #getNeighbor(int)} so both work.
  */
 public class SteeringContext {
     private final Vec3 targetPosition;
     private final Entity targetEntity;
     private final List<Entity> nearbyEntities;
+    private final NeighborBuffer neighbors;
     private final float maxSpeed;
     private final float maxForce;
     private final Path currentPath;
@@ -23,6 +29,7 @@ public class SteeringContext {
         this.targetPosition = builder.targetPosition;
         this.targetEntity = builder.targetEntity;
         this.nearbyEntities = builder.nearbyEntities;
+        this.neighbors = builder.neighbors;
         this.maxSpeed = builder.maxSpeed;
         this.maxForce = builder.maxForce;
         this.currentPath = builder.currentPath;
@@ -40,6 +47,27 @@ public class SteeringContext {
         return nearbyEntities;
     }
 
+    public NeighborBuffer getNeighbors() {
+        return neighbors;
+    }
+
+    /**
+     * Gets the number of neighbours, from the neighbour buffer if one was set.
+     */
+    public int getNeighborCount() {
+        if (neighbors != null) {
+            return neighbors.size();
+        }
+        return nearbyEntities != null ? nearbyEntities.size() : 0;
+    }
+
+    /**
+     * Gets the i-th neighbour, from the neighbour buffer if one was set.
+     */
+    public Entity getNeighbor(int i) {
+        return neighbors != null ? neighbors.get(i) : nearbyEntities.get(i);
+    }
+
     public float getMaxSpeed() {
         return maxSpeed;
     }
@@ -60,6 +88,7 @@ public class SteeringContext {
         private Vec3 targetPosition;
         private Entity targetEntity;
         private List<Entity> nearbyEntities = new ArrayList<>();
+        private NeighborBuffer neighbors;
         private float maxSpeed = 1.0f;
         private float maxForce = 0.5f;
         private Path currentPath;
@@ -79,6 +108,11 @@ public class SteeringContext {
             return this;
         }
 
+        public Builder neighbors(NeighborBuffer neighbors) {
+            this.neighbors = neighbors;
+            return this;
+        }
+
         public Builder maxSpeed(float maxSpeed) {
             this.maxSpeed = maxSpeed;
             return this;
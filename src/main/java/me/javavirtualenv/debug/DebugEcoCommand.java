@@ -1,10 +1,15 @@
 package me.javavirtualenv.debug;
 
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import me.javavirtualenv.behavior.core.AnimalNeeds;
 import me.javavirtualenv.behavior.core.AnimalThresholds;
+import me.javavirtualenv.behavior.core.EcologySpatialIndex;
+import me.javavirtualenv.behavior.core.LineOfSightCache;
+import me.javavirtualenv.behavior.core.NeedsScheduler;
+import me.javavirtualenv.behavior.core.PackRegistry;
 import me.javavirtualenv.behavior.core.WolfPackData;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -86,6 +91,18 @@ public class DebugEcoCommand {
             .then(Commands.literal("setthirst")
                 .then(Commands.argument("value", IntegerArgumentType.integer(0, 100))
                     .executes(ctx -> setNearbyThirst(ctx, IntegerArgumentType.getInteger(ctx, "value")))))
+            .then(Commands.literal("scheduler")
+                .executes(ctx -> showSchedulerStatus(ctx))
+                .then(Commands.literal("buckets")
+                    .then(Commands.argument("count", IntegerArgumentType.integer(NeedsScheduler.MIN_BUCKETS, NeedsScheduler.MAX_BUCKETS))
+                        .executes(ctx -> setSchedulerBuckets(ctx, IntegerArgumentType.getInteger(ctx, "count")))))
+                .then(Commands.literal("adaptive")
+                    .then(Commands.argument("enabled", BoolArgumentType.bool())
+                        .executes(ctx -> setSchedulerAdaptive(ctx, BoolArgumentType.getBool(ctx, "enabled"))))))
+            .then(Commands.literal("index")
+                .executes(ctx -> showIndexStatus(ctx))
+                .then(Commands.literal("reset")
+                    .executes(ctx -> resetIndexCounters(ctx))))
             .executes(ctx -> showHelp(ctx))
         );
     }
@@ -116,6 +133,11 @@ public class DebugEcoCommand {
             "§e/debugeco detail§7 - Detailed info for nearest animal\n" +
             "§e/debugeco sethunger <0-100>§7 - Set nearby animal hunger\n" +
             "§e/debugeco setthirst <0-100>§7 - Set nearby animal thirst\n" +
+            "§e/debugeco scheduler§7 - Show needs scheduler status\n" +
+            "§e/debugeco scheduler buckets <1-20>§7 - Set needs tick buckets\n" +
+            "§e/debugeco scheduler adaptive <true|false>§7 - Toggle MSPT adaptation\n" +
+            "§e/debugeco index§7 - Show spatial index and cache stats\n" +
+            "§e/debugeco index reset§7 - Reset cache counters\n" +
             "§e/ecologyoverlay§7 - Toggle debug HUD overlay"
         ), false);
         return 1;
@@ -373,6 +395,58 @@ public class DebugEcoCommand {
         return count;
     }
 
+    private static int showSchedulerStatus(CommandContext<CommandSourceStack> ctx) {
+        float mspt = ctx.getSource().getServer().getCurrentSmoothedTickTime();
+        ctx.getSource().sendSuccess(() -> Component.literal(
+            "§6Needs scheduler:\n" +
+            "§7Buckets: §f" + NeedsScheduler.getBucketCount() + " §7(base " + NeedsScheduler.getBaseBuckets() + ")\n" +
+            "§7Adaptive: §f" + NeedsScheduler.isAdaptive() + "\n" +
+            "§7MSPT: §f" + String.format("%.1f", mspt)
+        ), false);
+        return NeedsScheduler.getBucketCount();
+    }
+
+    private static int setSchedulerBuckets(CommandContext<CommandSourceStack> ctx, int count) {
+        NeedsScheduler.setBaseBuckets(count);
+        ctx.getSource().sendSuccess(() -> Component.literal(
+            "§aNeeds scheduler buckets set to " + NeedsScheduler.getBaseBuckets()
+        ), true);
+        return NeedsScheduler.getBaseBuckets();
+    }
+
+    private static int setSchedulerAdaptive(CommandContext<CommandSourceStack> ctx, boolean enabled) {
+        NeedsScheduler.setAdaptive(enabled);
+        ctx.getSource().sendSuccess(() -> Component.literal(
+            "§aNeeds scheduler adaptation " + (enabled ? "enabled" : "disabled")
+        ), true);
+        return 1;
+    }
+
+    private static int showIndexStatus(CommandContext<CommandSourceStack> ctx) {
+        EcologySpatialIndex index = EcologySpatialIndex.get(ctx.getSource().getLevel());
+        long hits = EcologySpatialIndex.getMemoHits();
+        long misses = EcologySpatialIndex.getMemoMisses();
+        long total = hits + misses;
+        double hitRate = total > 0 ? hits * 100.0 / total : 0.0;
+        ctx.getSource().sendSuccess(() -> Component.literal(
+            "§6Spatial index:\n" +
+            "§7Entities: §f" + index.getEntityCount() + "\n" +
+            "§7Query cache hits: §f" + hits + " §7misses: §f" + misses + "\n" +
+            "§7Hit rate: §f" + String.format("%.1f", hitRate) + "%\n" +
+            "§6Line of sight cache:\n" +
+            "§7Hits: §f" + LineOfSightCache.getHits() + " §7misses: §f" + LineOfSightCache.getMisses() + "\n" +
+            "§7Hit rate: §f" + String.format("%.1f", LineOfSightCache.getHitRate() * 100.0) + "%"
+        ), false);
+        return (int) Math.min(Integer.MAX_VALUE, hits);
+    }
+
+    private static int resetIndexCounters(CommandContext<CommandSourceStack> ctx) {
+        EcologySpatialIndex.resetMemoCounters();
+        LineOfSightCache.resetCounters();
+        ctx.getSource().sendSuccess(() -> Component.literal("§aQuery and line of sight cache counters reset"), true);
+        return 1;
+    }
+
     private static int createBabyScenario(CommandContext<CommandSourceStack> ctx) {
         ServerLevel level = ctx.getSource().getLevel();
         BlockPos playerPos = BlockPos.containing(ctx.getSource().getPosition());
@@ -510,7 +584,9 @@ public class DebugEcoCommand {
             WolfPackData packData = WolfPackData.getPackData(wolf);
             sb.append("§7Pack ID: §f").append(packData.packId().toString().substring(0, 8)).append("...\n");
             sb.append("§7Rank: §f").append(packData.rank().name()).append("\n");
-            sb.append("§7Share Cooldown: §f").append(packData.sharesCooldown()).append("\n");
+            sb.append("§7Pack Members: §f").append(PackRegistry.getLoadedCount(wolf))
+                .append(" loaded / ").append(PackRegistry.getPackSize(wolf)).append("\n");
+            sb.append("§7Share Cooldown: §f").append(WolfPackData.getSharesCooldown(wolf)).append("\n");
         }
 
         // Target info
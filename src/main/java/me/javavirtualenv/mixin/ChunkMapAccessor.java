@@ -0,0 +1,20 @@
+package me.javavirtualenv.mixin;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.server.level.ChunkMap;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Accessor mixin to access the entity tracker map in ChunkMap.
+ */
+@Mixin(ChunkMap.class)
+public interface ChunkMapAccessor {
+
+    /**
+     * Gets the tracked entities by entity id. Values are {@code ChunkMap.TrackedEntity},
+     * readable through {@link TrackedEntityAccessor}.
+     */
+    @Accessor("entityMap")
+    Int2ObjectMap<?> getEntityMap();
+}
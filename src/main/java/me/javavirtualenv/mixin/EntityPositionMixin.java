@@ -0,0 +1,32 @@
+package me.javavirtualenv.mixin;
+
+import me.javavirtualenv.behavior.core.EcologySpatialIndex;
+import me.javavirtualenv.behavior.core.FoodItemIndex;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin that reports server entity movement to the indices that bucket entities by position.
+ * Every position change, from walking to teleports and riding, goes through {@code setPosRaw}.
+ */
+@Mixin(Entity.class)
+public abstract class EntityPositionMixin {
+
+    @Inject(method = "setPosRaw", at = @At("TAIL"))
+    private void betterEcology$onMoved(double x, double y, double z, CallbackInfo ci) {
+        Entity entity = (Entity) (Object) this;
+        // Entities placed during world generation move on worker threads, before they are indexed
+        if (!(entity.level() instanceof ServerLevel level) || !level.getServer().isSameThread()) {
+            return;
+        }
+        EcologySpatialIndex.onEntityMoved(level, entity);
+        if (entity instanceof ItemEntity item) {
+            FoodItemIndex.onItemMoved(level, item);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package me.javavirtualenv.mixin;
+
+import me.javavirtualenv.behavior.core.AnimalNeeds;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.Mob;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin that settles lazily decayed needs before a mob is saved.
+ * Needs are stored as a value plus the tick it was last settled at, so the
+ * saved value must be brought up to date before attachments are written.
+ */
+@Mixin(Mob.class)
+public abstract class MobNeedsSaveMixin {
+
+    @Inject(method = "addAdditionalSaveData", at = @At("HEAD"))
+    private void betterEcology$settleNeeds(CompoundTag compound, CallbackInfo ci) {
+        Mob mob = (Mob) (Object) this;
+        if (!mob.level().isClientSide()) {
+            AnimalNeeds.settleForSave(mob);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package me.javavirtualenv.mixin;
+
+import me.javavirtualenv.behavior.core.HabitatBlockIndex;
+import me.javavirtualenv.behavior.core.LineOfSightCache;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin that reports server block changes to the caches that depend on block state.
+ * {@code onBlockStateChange} runs once for every block whose state actually changed.
+ */
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelBlockChangeMixin {
+
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"))
+    private void betterEcology$onBlockChanged(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci) {
+        ServerLevel level = (ServerLevel) (Object) this;
+        LineOfSightCache.onBlockChanged(level, pos);
+        HabitatBlockIndex.onBlockChanged(level, pos);
+    }
+}
@@ -0,0 +1,20 @@
+package me.javavirtualenv.mixin;
+
+import net.minecraft.server.network.ServerPlayerConnection;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.Set;
+
+/**
+ * Accessor mixin to access the tracked-player set of a ChunkMap.TrackedEntity.
+ */
+@Mixin(targets = "net.minecraft.server.level.ChunkMap$TrackedEntity")
+public interface TrackedEntityAccessor {
+
+    /**
+     * Gets the connections of the players currently tracking the entity.
+     */
+    @Accessor("seenBy")
+    Set<ServerPlayerConnection> getSeenBy();
+}
@@ -1,12 +1,8 @@
 package me.javavirtualenv.mixin.animal;
 
-import me.javavirtualenv.behavior.core.AnimalNeeds;
-import me.javavirtualenv.behavior.core.AnimalThresholds;
+import me.javavirtualenv.behavior.core.EcologyTicker;
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.damagesource.DamageSource;
-import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.ambient.Bat;
-import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -15,11 +11,11 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Mixin that adds ecology state tracking and nocturnal behavior for Bat.
+ * Mixin that adds nocturnal behavior for Bat.
  *
  * Bats are AmbientCreatures (extend Mob, not PathfinderMob) with very limited AI capabilities.
  * They cannot use pathfinding-based goals like FleeFromPredatorGoal, so this mixin only
- * initializes and tracks ecology state (hunger/thirst) and implements time-based activity.
+ * implements time-based activity; hunger and thirst come from {@link EcologyTicker}.
  *
  * Nocturnal Behavior:
  * - Bats rest during the day (0-12000 ticks)
@@ -50,85 +46,15 @@ public abstract class BatMixin {
     private int betterEcology$activityCheckCooldown = 0;
 
     /**
-     * Initialize ecology state when bat is created.
-     * Since Bat extends AmbientCreature (not Animal), it doesn't get ecology
-     * initialization from MobEcologyMixin, so we handle it here.
-     */
-    @Inject(method = "<init>(Lnet/minecraft/world/entity/EntityType;Lnet/minecraft/world/level/Level;)V", at = @At("TAIL"))
-    private void betterEcology$initEcology(EntityType<? extends Bat> entityType, Level level, CallbackInfo ci) {
-        Bat bat = (Bat) (Object) this;
-        AnimalNeeds.initializeIfNeeded(bat);
-    }
-
-    /**
-     * Initialize needs if not already done.
-     * This mirrors the behavior of MobEcologyMixin but for AmbientCreature (Bat).
-     */
-    @Inject(method = "customServerAiStep", at = @At("HEAD"))
-    private void betterEcology$initializeNeeds(CallbackInfo ci) {
-        Bat bat = (Bat) (Object) this;
-
-        if (!AnimalNeeds.isInitialized(bat)) {
-            AnimalNeeds.initializeIfNeeded(bat);
-        }
-    }
-
-    /**
-     * Decay hunger and thirst each tick, and apply damage if critical.
-     * Also auto-hydrate when in water/rain.
      * Implements nocturnal behavior - bats rest during day, active at night.
+     * Needs are handled by {@link EcologyTicker} like every other participant;
+     * bats are registered there with a reduced metabolism.
      * Note: customServerAiStep is already server-side only.
      */
     @Inject(method = "customServerAiStep", at = @At("TAIL"))
-    private void betterEcology$tickNeeds(CallbackInfo ci) {
+    private void betterEcology$tickNocturnalBehavior(CallbackInfo ci) {
         Bat bat = (Bat) (Object) this;
-
-        // Handle nocturnal activity patterns
         betterEcology$updateNocturnalBehavior(bat);
-
-        // Decay hunger and thirst (bats have lower metabolism than most animals)
-        // Bats consume less energy when resting
-        float metabolismMultiplier = this.isResting() ? 0.3f : 0.5f;
-        AnimalNeeds.decayHunger(bat, AnimalThresholds.DEFAULT_HUNGER_DECAY * metabolismMultiplier);
-        AnimalNeeds.decayThirst(bat, AnimalThresholds.DEFAULT_THIRST_DECAY * metabolismMultiplier);
-
-        // Auto-hydrate when in water or rain
-        if (bat.isInWater() || bat.isInWaterOrRain()) {
-            betterEcology$autoHydrate(bat);
-        }
-
-        // Apply starvation damage
-        if (AnimalNeeds.isStarving(bat)) {
-            betterEcology$applyNeedsDamage(bat, "starvation");
-        }
-
-        // Apply dehydration damage
-        if (AnimalNeeds.isDehydrated(bat)) {
-            betterEcology$applyNeedsDamage(bat, "dehydration");
-        }
-    }
-
-    /**
-     * Auto-hydrate the bat when in water or rain.
-     */
-    @Unique
-    private void betterEcology$autoHydrate(Bat bat) {
-        // Restore thirst gradually while in water/rain
-        if (AnimalNeeds.getThirst(bat) < AnimalNeeds.MAX_VALUE) {
-            AnimalNeeds.modifyThirst(bat, AnimalThresholds.DRINKING_THIRST_RESTORE * 0.5f);
-        }
-    }
-
-    /**
-     * Apply damage from starvation or dehydration if enough time has passed.
-     */
-    @Unique
-    private void betterEcology$applyNeedsDamage(Bat bat, String cause) {
-        if (AnimalNeeds.canTakeDamage(bat, AnimalThresholds.DEFAULT_DAMAGE_INTERVAL)) {
-            DamageSource damageSource = bat.damageSources().starve();
-            bat.hurt(damageSource, AnimalThresholds.DEFAULT_DAMAGE);
-            AnimalNeeds.setLastDamageTick(bat, bat.level().getGameTime());
-        }
     }
 
     /**
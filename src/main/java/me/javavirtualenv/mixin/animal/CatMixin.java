@@ -4,6 +4,7 @@ import me.javavirtualenv.behavior.core.AnimalThresholds;
 import me.javavirtualenv.behavior.core.CatAmbushFromHidingGoal;
 import me.javavirtualenv.behavior.core.CatStalkingAmbushGoal;
 import me.javavirtualenv.behavior.core.FollowParentGoal;
+import me.javavirtualenv.behavior.core.FoodItemIndex;
 import me.javavirtualenv.behavior.core.HuntPreyGoal;
 import me.javavirtualenv.behavior.core.MotherProtectBabyGoal;
 import me.javavirtualenv.behavior.core.SeekFoodGoal;
@@ -43,7 +44,8 @@ public abstract class CatMixin {
                 1.2,
                 16,
                 SeekFoodGoal.FoodMode.ITEM_SEEKER,
-                CatMixin::isValidCatFood
+                CatMixin::isValidCatFood,
+                FoodItemIndex.FISH | FoodItemIndex.MEAT
             )
         );
 
@@ -9,6 +9,7 @@ import me.javavirtualenv.behavior.core.ChickenRoostingGoal;
 import me.javavirtualenv.behavior.core.EnhancedEggLayingGoal;
 import me.javavirtualenv.behavior.core.FleeFromPredatorGoal;
 import me.javavirtualenv.behavior.core.FollowParentGoal;
+import me.javavirtualenv.behavior.core.FoodItemIndex;
 import me.javavirtualenv.behavior.core.MotherProtectBabyGoal;
 import me.javavirtualenv.behavior.core.SeekFoodGoal;
 import me.javavirtualenv.behavior.core.SeekWaterGoal;
@@ -101,7 +102,8 @@ public abstract class ChickenMixin {
                 1.0,
                 12,
                 SeekFoodGoal.FoodMode.ITEM_SEEKER,
-                ChickenMixin::isValidChickenFood
+                ChickenMixin::isValidChickenFood,
+                FoodItemIndex.SEEDS
             )
         );
 
@@ -5,6 +5,7 @@ import me.javavirtualenv.behavior.core.CatAmbushFromHidingGoal;
 import me.javavirtualenv.behavior.core.CatStalkingAmbushGoal;
 import me.javavirtualenv.behavior.core.FleeFromPredatorGoal;
 import me.javavirtualenv.behavior.core.FollowParentGoal;
+import me.javavirtualenv.behavior.core.FoodItemIndex;
 import me.javavirtualenv.behavior.core.HuntPreyGoal;
 import me.javavirtualenv.behavior.core.MotherProtectBabyGoal;
 import me.javavirtualenv.behavior.core.SeekFoodGoal;
@@ -61,7 +62,8 @@ public abstract class OcelotMixin {
                 1.2,
                 18,
                 SeekFoodGoal.FoodMode.ITEM_SEEKER,
-                OcelotMixin::isValidOcelotFood
+                OcelotMixin::isValidOcelotFood,
+                FoodItemIndex.FISH | FoodItemIndex.MEAT
             )
         );
 
@@ -2,6 +2,7 @@ package me.javavirtualenv.mixin.animal;
 
 import me.javavirtualenv.behavior.core.AnimalThresholds;
 import me.javavirtualenv.behavior.core.FleeFromPredatorGoal;
+import me.javavirtualenv.behavior.core.FoodItemIndex;
 import me.javavirtualenv.behavior.core.HerdCohesionGoal;
 import me.javavirtualenv.behavior.core.ParrotCanopyPerchingGoal;
 import me.javavirtualenv.behavior.core.ParrotContactCallingGoal;
@@ -55,7 +56,8 @@ public abstract class ParrotMixin {
                 1.0,
                 12,
                 SeekFoodGoal.FoodMode.ITEM_SEEKER,
-                ParrotMixin::isValidParrotFood
+                ParrotMixin::isValidParrotFood,
+                FoodItemIndex.SEEDS
             )
         );
 
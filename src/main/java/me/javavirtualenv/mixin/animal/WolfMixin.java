@@ -3,7 +3,6 @@ package me.javavirtualenv.mixin.animal;
 import me.javavirtualenv.behavior.core.AnimalThresholds;
 import me.javavirtualenv.behavior.core.HuntPreyGoal;
 import me.javavirtualenv.behavior.core.SeekWaterGoal;
-import me.javavirtualenv.behavior.core.WolfPackData;
 import me.javavirtualenv.behavior.core.WolfPackHuntCoordinationGoal;
 import me.javavirtualenv.behavior.core.WolfPickupMeatGoal;
 import me.javavirtualenv.behavior.core.WolfShareFoodGoal;
@@ -29,18 +28,6 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(Wolf.class)
 public abstract class WolfMixin {
 
-    /**
-     * Initialize pack data when wolf loads/spawns.
-     */
-    @Inject(method = "tick", at = @At("HEAD"))
-    private void betterEcology$initPackData(CallbackInfo ci) {
-        Wolf wolf = (Wolf) (Object) this;
-        if (!wolf.level().isClientSide()) {
-            // Tick pack share cooldown
-            WolfPackData.tickSharesCooldown(wolf);
-        }
-    }
-
     /**
      * Register ecology goals after the wolf's default goals are registered.
      */
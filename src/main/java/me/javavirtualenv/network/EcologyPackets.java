@@ -1,18 +1,33 @@
 package me.javavirtualenv.network;
 
 import me.javavirtualenv.BetterEcology;
+import me.javavirtualenv.behavior.core.AnimalNeeds;
+import me.javavirtualenv.mixin.ChunkMapAccessor;
+import me.javavirtualenv.mixin.TrackedEntityAccessor;
+import io.netty.handler.codec.DecoderException;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerPlayerConnection;
 import net.minecraft.world.entity.Entity;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Handles all client-server networking for Better Ecology.
  * Manages syncing animal needs data from server to client for the debug overlay.
+ * Needs are only streamed to clients that subscribe with a {@link NeedsSubscriptionPayload}.
+ * All server-to-client packets go through {@link #sendToPlayer} or {@link #sendToTracking}.
  */
 public final class EcologyPackets {
 
@@ -24,6 +39,20 @@ public final class EcologyPackets {
     public static final ResourceLocation SYNC_ANIMAL_NEEDS_ID =
         ResourceLocation.fromNamespaceAndPath(BetterEcology.MOD_ID, "sync_animal_needs");
 
+    // Packet ID for the client's needs subscription (overlay state and watched entities)
+    public static final ResourceLocation NEEDS_SUBSCRIPTION_ID =
+        ResourceLocation.fromNamespaceAndPath(BetterEcology.MOD_ID, "needs_subscription");
+
+    /**
+     * Maximum number of entities a client may pin in one subscription.
+     */
+    public static final int MAX_PINNED_ENTITIES = 8;
+
+    /**
+     * Entity id used when the client is not looking at any entity.
+     */
+    public static final int NO_ENTITY = -1;
+
     /**
      * Registers all packet types with the networking system.
      * Must be called during mod initialization.
@@ -33,68 +62,204 @@ public final class EcologyPackets {
             SyncAnimalNeedsPayload.TYPE,
             SyncAnimalNeedsPayload.CODEC
         );
+        PayloadTypeRegistry.playC2S().register(
+            NeedsSubscriptionPayload.TYPE,
+            NeedsSubscriptionPayload.CODEC
+        );
+
+        ServerPlayNetworking.registerGlobalReceiver(
+            NeedsSubscriptionPayload.TYPE,
+            (payload, context) -> NeedsSyncQueue.updateSubscription(context.player(), payload)
+        );
+
+        NeedsSyncQueue.register();
 
         BetterEcology.LOGGER.debug("Registered ecology network packets");
     }
 
     /**
-     * Sends animal needs data to a specific player.
-     * Called when needs change or periodically for tracked entities.
+     * Sends an ecology payload to one player, if their client can receive it.
+     * Players without the client mod are skipped.
      */
-    public static void sendAnimalNeedsToPlayer(ServerPlayer player, int entityId, float hunger, float thirst) {
-        SyncAnimalNeedsPayload payload = new SyncAnimalNeedsPayload(entityId, hunger, thirst);
-        ServerPlayNetworking.send(player, payload);
+    public static void sendToPlayer(ServerPlayer player, CustomPacketPayload payload) {
+        if (ServerPlayNetworking.canSend(player, payload.type())) {
+            ServerPlayNetworking.send(player, payload);
+        }
     }
 
     /**
-     * Sends animal needs data to all players tracking an entity.
+     * Sends an ecology payload to every player tracking an entity.
+     * Recipients come from the chunk map's tracked-player set, so this follows the
+     * entity tracker's view distance and costs nothing for untracked entities.
+     * The packet is built once and the same instance is handed to every connection.
      */
-    public static void sendAnimalNeedsToTracking(Entity entity, float hunger, float thirst) {
-        if (entity.level().isClientSide()) {
+    public static void sendToTracking(Entity entity, CustomPacketPayload payload) {
+        if (!(entity.level() instanceof ServerLevel level)) {
             return; // Only send from server
         }
 
-        SyncAnimalNeedsPayload payload = new SyncAnimalNeedsPayload(entity.getId(), hunger, thirst);
+        Set<ServerPlayerConnection> seenBy = seenBy(level, entity);
+        if (seenBy == null || seenBy.isEmpty()) {
+            return;
+        }
 
-        // Send to all players tracking this entity
-        entity.level().players().forEach(player -> {
-            if (player instanceof ServerPlayer serverPlayer) {
-                if (serverPlayer.distanceTo(entity) < 128) { // Only send to players within range
-                    ServerPlayNetworking.send(serverPlayer, payload);
-                }
+        Packet<?> packet = ServerPlayNetworking.createS2CPacket(payload);
+        for (ServerPlayerConnection connection : seenBy) {
+            if (ServerPlayNetworking.canSend(connection.getPlayer(), payload.type())) {
+                connection.send(packet);
             }
-        });
+        }
+    }
+
+    /**
+     * Returns true if the player is in the entity tracker's tracked-player set for the entity.
+     */
+    public static boolean isTracking(ServerPlayer player, Entity entity) {
+        Set<ServerPlayerConnection> seenBy = seenBy(player.serverLevel(), entity);
+        return seenBy != null && seenBy.contains(player.connection);
+    }
+
+    /**
+     * Gets the connections tracking an entity, or null if the chunk map does not track it.
+     */
+    private static Set<ServerPlayerConnection> seenBy(ServerLevel level, Entity entity) {
+        ChunkMapAccessor chunkMap = (ChunkMapAccessor) level.getChunkSource().chunkMap;
+        Object trackedEntity = chunkMap.getEntityMap().get(entity.getId());
+        return trackedEntity != null ? ((TrackedEntityAccessor) trackedEntity).getSeenBy() : null;
+    }
+
+    /**
+     * Quantizes a 0-100 needs value to an unsigned byte (0-255) for syncing.
+     */
+    public static int quantizeNeed(float value) {
+        float clamped = Math.max(AnimalNeeds.MIN_VALUE, Math.min(AnimalNeeds.MAX_VALUE, value));
+        return Math.round(clamped / AnimalNeeds.MAX_VALUE * 255f);
+    }
+
+    /**
+     * Restores a 0-100 needs value from its quantized byte form.
+     */
+    public static float dequantizeNeed(int quantized) {
+        return (quantized & 0xFF) / 255f * AnimalNeeds.MAX_VALUE;
     }
 
     /**
      * Payload for syncing animal needs (hunger/thirst) from server to client.
+     * One payload carries every watched entity whose needs trajectory changed for a
+     * player in a tick. Each entry holds the values at {@code serverTick} and their
+     * per-tick rates, so the client extrapolates between updates and the server only
+     * resends on discontinuities (eating, drinking, entering or leaving water).
+     * Entity ids are varints, hunger/thirst are quantized to one byte each and rates
+     * to a signed short.
      */
-    public record SyncAnimalNeedsPayload(int entityId, float hunger, float thirst)
-            implements CustomPacketPayload {
+    public record SyncAnimalNeedsPayload(long serverTick, List<Entry> entries) implements CustomPacketPayload {
 
         public static final CustomPacketPayload.Type<SyncAnimalNeedsPayload> TYPE =
             new CustomPacketPayload.Type<>(SYNC_ANIMAL_NEEDS_ID);
 
         public static final StreamCodec<RegistryFriendlyByteBuf, SyncAnimalNeedsPayload> CODEC =
-            StreamCodec.composite(
-                StreamCodec.of(
-                    (buf, value) -> buf.writeInt(value),
-                    buf -> buf.readInt()
-                ),
-                SyncAnimalNeedsPayload::entityId,
-                StreamCodec.of(
-                    (buf, value) -> buf.writeFloat(value),
-                    buf -> buf.readFloat()
-                ),
-                SyncAnimalNeedsPayload::hunger,
-                StreamCodec.of(
-                    (buf, value) -> buf.writeFloat(value),
-                    buf -> buf.readFloat()
-                ),
-                SyncAnimalNeedsPayload::thirst,
-                SyncAnimalNeedsPayload::new
+            StreamCodec.of(
+                (buf, payload) -> payload.write(buf),
+                SyncAnimalNeedsPayload::read
             );
 
+        // Rates are sent as rate * RATE_SCALE in a short, covering +/-3.27 per tick
+        private static final float RATE_SCALE = 10000f;
+
+        /**
+         * A single entity's quantized needs (0-255 each) and per-tick rates.
+         */
+        public record Entry(int entityId, int hunger, int thirst, float hungerRate, float thirstRate) {
+        }
+
+        private void write(RegistryFriendlyByteBuf buf) {
+            buf.writeVarLong(this.serverTick);
+            buf.writeVarInt(this.entries.size());
+            for (Entry entry : this.entries) {
+                buf.writeVarInt(entry.entityId());
+                buf.writeByte(entry.hunger());
+                buf.writeByte(entry.thirst());
+                buf.writeShort(encodeRate(entry.hungerRate()));
+                buf.writeShort(encodeRate(entry.thirstRate()));
+            }
+        }
+
+        private static SyncAnimalNeedsPayload read(RegistryFriendlyByteBuf buf) {
+            long serverTick = buf.readVarLong();
+            int size = buf.readVarInt();
+            List<Entry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                entries.add(new Entry(
+                    buf.readVarInt(),
+                    buf.readUnsignedByte(),
+                    buf.readUnsignedByte(),
+                    buf.readShort() / RATE_SCALE,
+                    buf.readShort() / RATE_SCALE
+                ));
+            }
+            return new SyncAnimalNeedsPayload(serverTick, entries);
+        }
+
+        private static int encodeRate(float rate) {
+            return Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(rate * RATE_SCALE)));
+        }
+
+        @Override
+        public Type<? extends CustomPacketPayload> type() {
+            return TYPE;
+        }
+    }
+
+    /**
+     * Payload sent by the client to subscribe to needs data for the debug overlay.
+     * Carries whether the overlay is enabled, the entity under the crosshair
+     * ({@link #NO_ENTITY} if none) and the entities the player has pinned.
+     * Each payload replaces the previous subscription.
+     */
+    public record NeedsSubscriptionPayload(boolean subscribed, int targetEntityId, IntList pinnedEntityIds)
+            implements CustomPacketPayload {
+
+        public static final CustomPacketPayload.Type<NeedsSubscriptionPayload> TYPE =
+            new CustomPacketPayload.Type<>(NEEDS_SUBSCRIPTION_ID);
+
+        public static final StreamCodec<RegistryFriendlyByteBuf, NeedsSubscriptionPayload> CODEC =
+            StreamCodec.of(
+                (buf, payload) -> payload.write(buf),
+                NeedsSubscriptionPayload::read
+            );
+
+        /**
+         * Creates an unsubscribe payload.
+         */
+        public static NeedsSubscriptionPayload unsubscribe() {
+            return new NeedsSubscriptionPayload(false, NO_ENTITY, new IntArrayList());
+        }
+
+        private void write(RegistryFriendlyByteBuf buf) {
+            buf.writeBoolean(this.subscribed);
+            // Shifted by one so NO_ENTITY encodes as a single zero byte
+            buf.writeVarInt(this.targetEntityId + 1);
+            int count = Math.min(this.pinnedEntityIds.size(), MAX_PINNED_ENTITIES);
+            buf.writeVarInt(count);
+            for (int i = 0; i < count; i++) {
+                buf.writeVarInt(this.pinnedEntityIds.getInt(i));
+            }
+        }
+
+        private static NeedsSubscriptionPayload read(RegistryFriendlyByteBuf buf) {
+            boolean subscribed = buf.readBoolean();
+            int targetEntityId = buf.readVarInt() - 1;
+            int count = buf.readVarInt();
+            if (count < 0 || count > MAX_PINNED_ENTITIES) {
+                throw new DecoderException("Too many pinned entities: " + count);
+            }
+            IntList pinned = new IntArrayList(count);
+            for (int i = 0; i < count; i++) {
+                pinned.add(buf.readVarInt());
+            }
+            return new NeedsSubscriptionPayload(subscribed, targetEntityId, pinned);
+        }
+
         @Override
         public Type<? extends CustomPacketPayload> type() {
             return TYPE;
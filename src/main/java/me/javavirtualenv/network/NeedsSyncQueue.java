@@ -0,0 +1,141 @@
+package me.javavirtualenv.network;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import me.javavirtualenv.behavior.core.AnimalNeeds;
+import me.javavirtualenv.behavior.core.NeedsState;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-side outbound needs sync, driven by client subscriptions.
+ *
+ * <p>Only players whose client sent a {@link EcologyPackets.NeedsSubscriptionPayload}
+ * with the overlay enabled receive needs data, and only for the entity under their
+ * crosshair plus any pinned entities, limited to entities the player is tracking.
+ * Players without the client mod never subscribe and so receive nothing. At the end
+ * of each server tick every subscriber gets at most one bundled
+ * {@link EcologyPackets.SyncAnimalNeedsPayload}. Entries carry the value and decay
+ * rate, and are only resent when the entity's needs revision changed since the last
+ * send to that player; the client extrapolates in between.
+ */
+public final class NeedsSyncQueue {
+
+    private NeedsSyncQueue() {
+        // Utility class
+    }
+
+    // Forget last-sent revisions once a player has watched this many entities; they are simply resent
+    private static final int MAX_LAST_SENT_ENTRIES = 64;
+
+    private static final Map<UUID, Subscription> subscriptions = new HashMap<>();
+
+    /**
+     * Registers the tick and lifecycle listeners that drive the queue.
+     */
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(NeedsSyncQueue::flush);
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) ->
+            subscriptions.remove(handler.getPlayer().getUUID()));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> subscriptions.clear());
+    }
+
+    /**
+     * Applies a subscription update received from a client.
+     */
+    public static void updateSubscription(ServerPlayer player, EcologyPackets.NeedsSubscriptionPayload payload) {
+        if (!payload.subscribed()) {
+            subscriptions.remove(player.getUUID());
+            return;
+        }
+
+        Subscription subscription = subscriptions.computeIfAbsent(player.getUUID(), uuid -> new Subscription());
+        subscription.targetEntityId = payload.targetEntityId();
+        subscription.pinnedEntityIds = new IntArrayList(payload.pinnedEntityIds());
+    }
+
+    private static void flush(MinecraftServer server) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<UUID, Subscription> mapEntry : subscriptions.entrySet()) {
+            ServerPlayer player = server.getPlayerList().getPlayer(mapEntry.getKey());
+            if (player == null) {
+                continue;
+            }
+
+            Subscription subscription = mapEntry.getValue();
+            long gameTime = player.serverLevel().getGameTime();
+            List<EcologyPackets.SyncAnimalNeedsPayload.Entry> entries = new ArrayList<>();
+
+            collect(player, subscription, subscription.targetEntityId, gameTime, entries);
+            for (int i = 0; i < subscription.pinnedEntityIds.size(); i++) {
+                int entityId = subscription.pinnedEntityIds.getInt(i);
+                if (entityId != subscription.targetEntityId) {
+                    collect(player, subscription, entityId, gameTime, entries);
+                }
+            }
+
+            if (!entries.isEmpty()) {
+                EcologyPackets.sendToPlayer(player, new EcologyPackets.SyncAnimalNeedsPayload(gameTime, entries));
+            }
+        }
+    }
+
+    private static void collect(ServerPlayer player, Subscription subscription, int entityId, long gameTime,
+                                List<EcologyPackets.SyncAnimalNeedsPayload.Entry> entries) {
+        if (entityId == EcologyPackets.NO_ENTITY) {
+            return;
+        }
+
+        Entity entity = player.serverLevel().getEntity(entityId);
+        if (!(entity instanceof Mob mob) || mob.isRemoved() || !EcologyPackets.isTracking(player, mob)) {
+            return;
+        }
+
+        NeedsState needs = AnimalNeeds.getStateIfPresent(mob);
+        if (needs == null) {
+            return;
+        }
+
+        Int2IntOpenHashMap lastSent = subscription.lastSentRevision;
+        if (lastSent.containsKey(entityId) && lastSent.get(entityId) == needs.getRevision()) {
+            return;
+        }
+        if (lastSent.size() >= MAX_LAST_SENT_ENTRIES) {
+            lastSent.clear();
+        }
+        lastSent.put(entityId, needs.getRevision());
+
+        entries.add(new EcologyPackets.SyncAnimalNeedsPayload.Entry(
+            entityId,
+            EcologyPackets.quantizeNeed(needs.hungerAt(gameTime)),
+            EcologyPackets.quantizeNeed(needs.thirstAt(gameTime)),
+            needs.getHungerRate(),
+            needs.getThirstRate()
+        ));
+    }
+
+    /**
+     * A player's needs subscription and the needs revisions last sent to them.
+     */
+    private static final class Subscription {
+        private int targetEntityId = EcologyPackets.NO_ENTITY;
+        private IntList pinnedEntityIds = new IntArrayList();
+        // Needs revision last sent, by entity id
+        private final Int2IntOpenHashMap lastSentRevision = new Int2IntOpenHashMap();
+    }
+}
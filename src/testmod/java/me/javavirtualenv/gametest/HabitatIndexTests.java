@@ -0,0 +1,150 @@
+package me.javavirtualenv.gametest;
+
+import me.javavirtualenv.behavior.core.HabitatBlockIndex;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+/**
+ * Game tests that check the habitat block index against brute-force scans after block edits:
+ * - Covering and uncovering blocks, which changes the exposure of the block below
+ * - Edits across a section boundary (local y 15 and the section above)
+ * - Sections of an unloaded chunk being evicted and rescanned
+ *
+ * Each check retries on later ticks while the index reports an incomplete search, since
+ * sections are scanned under a per-tick budget shared with every animal in the level.
+ */
+public class HabitatIndexTests implements FabricGameTest {
+
+    private static final int RADIUS = 6;
+    private static final int VERTICAL_RANGE = 3;
+    private static final int RESOURCES = HabitatBlockIndex.GRAVEL | HabitatBlockIndex.GRAZE;
+
+    private static final BlockPos SEARCH_CENTER = new BlockPos(4, 2, 4);
+
+    /**
+     * Test that placing and breaking blocks over gravel and grass keeps the index current.
+     * Expected: Nearest indexed match equals a full scan after each edit.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 200)
+    public void testIndexTracksExposureChanges(GameTestHelper helper) {
+        placeFloor(helper, 1);
+
+        helper.startSequence()
+            .thenWaitUntil(() -> assertMatchesBruteForce(helper, SEARCH_CENTER))
+            .thenExecute(() -> {
+                // Covering gravel hides it; covering grass stops it being grazeable
+                helper.setBlock(new BlockPos(4, 2, 4), Blocks.STONE);
+                helper.setBlock(new BlockPos(5, 2, 4), Blocks.STONE);
+                helper.setBlock(new BlockPos(4, 2, 5), Blocks.STONE);
+            })
+            .thenWaitUntil(() -> assertMatchesBruteForce(helper, SEARCH_CENTER))
+            .thenExecute(() -> {
+                // Breaking the cover exposes the block below again; breaking gravel removes it
+                helper.setBlock(new BlockPos(5, 2, 4), Blocks.AIR);
+                helper.setBlock(new BlockPos(3, 1, 4), Blocks.AIR);
+            })
+            .thenWaitUntil(() -> assertMatchesBruteForce(helper, SEARCH_CENTER))
+            .thenSucceed();
+    }
+
+    /**
+     * Test that edits on both sides of a section boundary keep the index current.
+     * Setup: Gravel floor at the last y level of a section, covered from the section above.
+     * Expected: Nearest indexed match equals a full scan after each edit.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 200)
+    public void testIndexTracksEditsAcrossSectionBoundary(GameTestHelper helper) {
+        // Relative y whose absolute y is the top layer (local y 15) of a section
+        int floorY = 1;
+        while ((helper.absolutePos(new BlockPos(0, floorY, 0)).getY() & 15) != 15) {
+            floorY++;
+        }
+        int topY = floorY;
+        placeFloor(helper, topY);
+        BlockPos center = new BlockPos(SEARCH_CENTER.getX(), topY + 1, SEARCH_CENTER.getZ());
+
+        helper.startSequence()
+            .thenWaitUntil(() -> assertMatchesBruteForce(helper, center))
+            .thenExecute(() -> {
+                // The cover is in the next section up; the gravel it hides is in the one below
+                helper.setBlock(new BlockPos(4, topY + 1, 4), Blocks.STONE);
+                helper.setBlock(new BlockPos(3, topY + 1, 4), Blocks.GRAVEL);
+            })
+            .thenWaitUntil(() -> assertMatchesBruteForce(helper, center))
+            .thenExecute(() -> {
+                helper.setBlock(new BlockPos(4, topY + 1, 4), Blocks.AIR);
+                helper.setBlock(new BlockPos(3, topY + 2, 4), Blocks.STONE);
+            })
+            .thenWaitUntil(() -> assertMatchesBruteForce(helper, center))
+            .thenSucceed();
+    }
+
+    /**
+     * Test that a chunk's sections are evicted on unload and rescanned on the next query.
+     * Setup: Index the area, then change a block without a change notification, as a chunk
+     * edited while unloaded would be.
+     * Expected: After the unload, the nearest indexed match equals a full scan.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 200)
+    public void testChunkUnloadEvictsSections(GameTestHelper helper) {
+        placeFloor(helper, 1);
+        helper.setBlock(new BlockPos(4, 2, 4), Blocks.STONE);
+
+        BlockPos hidden = helper.absolutePos(new BlockPos(4, 2, 4));
+        helper.startSequence()
+            .thenWaitUntil(() -> assertMatchesBruteForce(helper, SEARCH_CENTER))
+            .thenExecute(() -> {
+                // Written to the section directly, bypassing block change notifications
+                ServerLevel level = helper.getLevel();
+                LevelChunk chunk = level.getChunkAt(hidden);
+                LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(hidden.getY()));
+                section.setBlockState(hidden.getX() & 15, hidden.getY() & 15, hidden.getZ() & 15,
+                    Blocks.AIR.defaultBlockState(), false);
+                HabitatBlockIndex.onChunkUnloaded(level, chunk);
+            })
+            .thenWaitUntil(() -> assertMatchesBruteForce(helper, SEARCH_CENTER))
+            .thenSucceed();
+    }
+
+    private static void placeFloor(GameTestHelper helper, int y) {
+        for (int x = 0; x < 9; x++) {
+            for (int z = 0; z < 9; z++) {
+                boolean grass = (x + z) % 3 == 0;
+                helper.setBlock(new BlockPos(x, y, z), grass ? Blocks.GRASS_BLOCK : Blocks.GRAVEL);
+            }
+        }
+    }
+
+    /**
+     * Fails unless the index's nearest match is as near as the nearest match of a full scan.
+     */
+    private static void assertMatchesBruteForce(GameTestHelper helper, BlockPos relativeCenter) {
+        ServerLevel level = helper.getLevel();
+        BlockPos center = helper.absolutePos(relativeCenter);
+        HabitatBlockIndex.Result result = HabitatBlockIndex.findNearest(level, center, RESOURCES,
+            RADIUS, VERTICAL_RANGE, null);
+        helper.assertFalse(result.incomplete(), "Index has not scanned the search area yet");
+
+        long bruteNearestDistSq = -1;
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-RADIUS, -VERTICAL_RANGE, -RADIUS),
+                center.offset(RADIUS, VERTICAL_RANGE, RADIUS))) {
+            if ((HabitatBlockIndex.resourcesAt(level, pos) & RESOURCES) != 0) {
+                long distSq = (long) pos.distSqr(center);
+                if (bruteNearestDistSq < 0 || distSq < bruteNearestDistSq) {
+                    bruteNearestDistSq = distSq;
+                }
+            }
+        }
+
+        long indexedDistSq = result.found() ? (long) result.pos().distSqr(center) : -1;
+        helper.assertTrue(indexedDistSq == bruteNearestDistSq,
+            "Index nearest distance squared " + indexedDistSq + " at " + result.pos()
+                + ", brute force nearest " + bruteNearestDistSq);
+    }
+}
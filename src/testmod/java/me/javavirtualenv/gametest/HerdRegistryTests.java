@@ -0,0 +1,99 @@
+package me.javavirtualenv.gametest;
+
+import me.javavirtualenv.behavior.core.HerdRegistry;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.animal.Cow;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Game tests for herd clustering in the herd registry.
+ */
+public class HerdRegistryTests implements FabricGameTest {
+
+    // Matches HerdRegistry.LINK_DISTANCE
+    private static final double HERD_LINK_DISTANCE = 6.0;
+
+    /**
+     * Test that herd clustering joins exactly the animals connected by chains of close neighbours.
+     * Setup: Still cows in chains, near misses just over the link distance, and a loner.
+     * Expected: Two cows share a herd exactly when pairwise linking puts them in one cluster.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 100)
+    public void testHerdClusteringMatchesPairwiseLinking(GameTestHelper helper) {
+        for (int x = 0; x < 18; x++) {
+            for (int z = 0; z < 18; z++) {
+                helper.setBlock(new BlockPos(x, 0, z), Blocks.STONE);
+                helper.setBlock(new BlockPos(x, 1, z), Blocks.GRASS_BLOCK);
+            }
+        }
+
+        double[][] layout = {
+            {1.5, 1.5}, {6.5, 1.5}, {11.5, 1.5}, {16.0, 4.5},
+            {1.5, 8.0}, {1.5, 13.5}, {7.0, 9.5}, {12.5, 11.5},
+            {16.5, 10.5}, {16.5, 16.5}
+        };
+        List<Cow> cows = new ArrayList<>();
+        for (double[] xz : layout) {
+            Cow cow = helper.spawn(EntityType.COW, new Vec3(xz[0], 2, xz[1]));
+            cow.setNoAi(true);
+            cows.add(cow);
+        }
+
+        // Tracked under a herd type no goal uses, so no other test's animals join the pass
+        for (Cow cow : cows) {
+            HerdRegistry.herdOf(cow, Mob.class);
+        }
+
+        helper.runAfterDelay(20, () -> {
+            int count = cows.size();
+            int[] parent = new int[count];
+            for (int i = 0; i < count; i++) {
+                parent[i] = i;
+            }
+            for (int i = 0; i < count; i++) {
+                for (int j = i + 1; j < count; j++) {
+                    if (cows.get(i).distanceToSqr(cows.get(j)) <= HERD_LINK_DISTANCE * HERD_LINK_DISTANCE) {
+                        parent[find(parent, j)] = find(parent, i);
+                    }
+                }
+            }
+
+            List<HerdRegistry.Herd> herds = new ArrayList<>();
+            for (Cow cow : cows) {
+                herds.add(HerdRegistry.herdOf(cow, Mob.class));
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (herds.get(i) == null) {
+                    helper.fail("Cow " + i + " has no herd");
+                    return;
+                }
+                for (int j = i + 1; j < count; j++) {
+                    boolean linked = find(parent, i) == find(parent, j);
+                    boolean sameHerd = herds.get(i) == herds.get(j);
+                    if (linked != sameHerd) {
+                        helper.fail("Cows " + i + " and " + j + ": pairwise linked " + linked + ", same herd " + sameHerd);
+                        return;
+                    }
+                }
+            }
+            helper.succeed();
+        });
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            i = parent[i];
+        }
+        return i;
+    }
+}
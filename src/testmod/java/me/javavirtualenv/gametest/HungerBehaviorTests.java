@@ -160,4 +160,60 @@ public class HungerBehaviorTests implements FabricGameTest {
             }
         });
     }
+
+    /**
+     * Test that needs saved in the legacy four-attachment format are migrated.
+     * Setup: Spawn sheep, replace its needs state with legacy hunger/thirst attachments.
+     * Expected: Values are read from the legacy attachments, which are then removed.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 100)
+    @SuppressWarnings("deprecation")
+    public void testLegacyNeedsAttachmentsAreMigrated(GameTestHelper helper) {
+        BlockPos sheepPos = new BlockPos(5, 2, 5);
+        Sheep sheep = helper.spawn(EntityType.SHEEP, sheepPos);
+
+        sheep.removeAttached(AnimalNeeds.NEEDS_ATTACHMENT);
+        sheep.setAttached(AnimalNeeds.HUNGER_ATTACHMENT, 33f);
+        sheep.setAttached(AnimalNeeds.THIRST_ATTACHMENT, 44f);
+        sheep.setAttached(AnimalNeeds.INITIALIZED_ATTACHMENT, true);
+
+        float hunger = AnimalNeeds.getHunger(sheep);
+        float thirst = AnimalNeeds.getThirst(sheep);
+        boolean legacyRemoved = !sheep.hasAttached(AnimalNeeds.HUNGER_ATTACHMENT)
+            && !sheep.hasAttached(AnimalNeeds.THIRST_ATTACHMENT)
+            && !sheep.hasAttached(AnimalNeeds.INITIALIZED_ATTACHMENT);
+
+        if (Math.abs(hunger - 33f) < 0.5f && Math.abs(thirst - 44f) < 0.5f && legacyRemoved) {
+            helper.succeed();
+        } else {
+            helper.fail("Legacy migration failed. Hunger: " + hunger + ", thirst: " + thirst
+                + ", legacy removed: " + legacyRemoved);
+        }
+    }
+
+    /**
+     * Test that hunger decays lazily without per-tick writes.
+     * Setup: Spawn sheep away from water and set its hunger.
+     * Expected: Hunger drops by the default decay rate while the stored state is not rewritten.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 200)
+    public void testHungerDecaysWithoutPerTickWrites(GameTestHelper helper) {
+        BlockPos sheepPos = new BlockPos(5, 2, 5);
+        Sheep sheep = helper.spawn(EntityType.SHEEP, sheepPos);
+        AnimalNeeds.setHunger(sheep, AnimalThresholds.SATISFIED);
+        long settledTick = AnimalNeeds.getState(sheep).getSettledTick();
+
+        helper.runAfterDelay(100, () -> {
+            float expected = AnimalThresholds.SATISFIED - AnimalThresholds.DEFAULT_HUNGER_DECAY * 100;
+            float currentHunger = AnimalNeeds.getHunger(sheep);
+            long currentSettledTick = AnimalNeeds.getState(sheep).getSettledTick();
+
+            if (Math.abs(currentHunger - expected) < 0.1f && currentSettledTick == settledTick) {
+                helper.succeed();
+            } else {
+                helper.fail("Lazy decay failed. Expected hunger ~" + expected + ", got: " + currentHunger
+                    + ", settled tick moved from " + settledTick + " to " + currentSettledTick);
+            }
+        });
+    }
 }
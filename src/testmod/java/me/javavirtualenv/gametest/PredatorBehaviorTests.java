@@ -2,17 +2,24 @@ package me.javavirtualenv.gametest;
 
 import me.javavirtualenv.behavior.core.AnimalNeeds;
 import me.javavirtualenv.behavior.core.AnimalThresholds;
+import me.javavirtualenv.behavior.core.EcologySpatialIndex;
+import me.javavirtualenv.behavior.core.PredatorPresenceMap;
 import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
 import net.minecraft.core.BlockPos;
 import net.minecraft.gametest.framework.GameTest;
 import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.animal.Chicken;
+import net.minecraft.world.entity.animal.IronGolem;
 import net.minecraft.world.entity.animal.Sheep;
 import net.minecraft.world.entity.animal.Wolf;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
+import net.minecraft.world.phys.AABB;
+
+import java.util.List;
 
 /**
  * Game tests for predator behaviors.
@@ -219,4 +226,39 @@ public class PredatorBehaviorTests implements FabricGameTest {
             }
         });
     }
+
+    /**
+     * Test that a predator class registered after one of its entities is already indexed
+     * still marks that entity as a predator.
+     * Setup: Spawn an iron golem, which no goal treats as a predator, then register its class.
+     * Expected: The golem is found by predator-role queries and the presence map reports it.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 100)
+    public void testPredatorRegisteredAfterEntityLoads(GameTestHelper helper) {
+        IronGolem golem = helper.spawn(EntityType.IRON_GOLEM, new BlockPos(5, 2, 5));
+        golem.setNoAi(true);
+        EcologySpatialIndex.get(helper.getLevel());
+
+        helper.runAfterDelay(5, () -> {
+            AABB box = golem.getBoundingBox().inflate(4.0);
+            List<Entity> before = EcologySpatialIndex.getEntitiesWithRole(
+                helper.getLevel(), EcologySpatialIndex.ROLE_PREDATOR, box, entity -> entity == golem);
+            if (!before.isEmpty()) {
+                helper.fail("Iron golem was a predator before its class was registered");
+                return;
+            }
+
+            PredatorPresenceMap.registerPredatorTypes(IronGolem.class);
+
+            List<Entity> after = EcologySpatialIndex.getEntitiesWithRole(
+                helper.getLevel(), EcologySpatialIndex.ROLE_PREDATOR, box, entity -> entity == golem);
+            boolean present = PredatorPresenceMap.mayHavePredatorsNear(helper.getLevel(), box);
+            if (after.size() == 1 && present) {
+                helper.succeed();
+            } else {
+                helper.fail("Iron golem not re-tagged as predator. Role query: " + after.size()
+                    + ", presence map: " + present);
+            }
+        });
+    }
 }
@@ -0,0 +1,156 @@
+package me.javavirtualenv.gametest;
+
+import me.javavirtualenv.behavior.core.RingBlockSearch;
+import me.javavirtualenv.behavior.core.SectionBlockSearch;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Game tests that check the spatial searches against brute-force scans of a fixed layout:
+ * - Ring block search finds the nearest match
+ * - Ring block search stops at its visit budget, and early once nothing nearer can remain
+ * - Section block search skips no matches by palette
+ */
+public class SpatialSearchTests implements FabricGameTest {
+
+    private static final BlockPos SEARCH_CENTER = new BlockPos(8, 4, 8);
+
+    // Offsets from the search center; (3, 3, 3) lies in an earlier shell than (4, 0, 0) but is farther
+    private static final int[][] SPONGE_OFFSETS = {
+        {3, 3, 3}, {4, 0, 0}, {-5, -1, 2}, {0, -2, 6}, {6, 4, -6}, {-6, 2, -6}
+    };
+
+    /**
+     * Test that the ring search returns the nearest match.
+     * Expected: Found position is as near as the nearest match of a full scan of the box.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 100)
+    public void testRingSearchFindsNearestMatch(GameTestHelper helper) {
+        placeSponges(helper);
+        ServerLevel level = helper.getLevel();
+        BlockPos center = helper.absolutePos(SEARCH_CENTER);
+        int radius = 6;
+        int minDy = -2;
+        int maxDy = 4;
+
+        RingBlockSearch.Result result = RingBlockSearch.findNearest(level, center, radius, minDy, maxDy,
+            Integer.MAX_VALUE, (pos, state) -> state.is(Blocks.SPONGE));
+
+        long bruteNearestDistSq = Long.MAX_VALUE;
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-radius, minDy, -radius), center.offset(radius, maxDy, radius))) {
+            if (level.getBlockState(pos).is(Blocks.SPONGE)) {
+                bruteNearestDistSq = Math.min(bruteNearestDistSq, (long) pos.distSqr(center));
+            }
+        }
+
+        if (!result.found() || result.exhausted()) {
+            helper.fail("Ring search found nothing. Result: " + result);
+        } else if (!level.getBlockState(result.pos()).is(Blocks.SPONGE)) {
+            helper.fail("Ring search returned a non-matching block at " + result.pos());
+        } else if ((long) result.pos().distSqr(center) != bruteNearestDistSq) {
+            helper.fail("Ring search returned distance squared " + (long) result.pos().distSqr(center)
+                + ", brute force nearest is " + bruteNearestDistSq);
+        } else {
+            helper.succeed();
+        }
+    }
+
+    /**
+     * Test that a ring search that runs out of budget reports it and returns its best match so far.
+     * Setup: Budget covers exactly shells 0-3, which hold the farther (3, 3, 3) sponge but not (4, 0, 0).
+     * Expected: Search is exhausted after the whole budget, returning (3, 3, 3) rather than the nearest.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 100)
+    public void testRingSearchStopsAtVisitBudget(GameTestHelper helper) {
+        placeSponges(helper);
+        ServerLevel level = helper.getLevel();
+        BlockPos center = helper.absolutePos(SEARCH_CENTER);
+        // Shells 0-3: x and z from -3 to 3, y from -2 (the search floor) to 3
+        int budget = 7 * 7 * 6;
+
+        RingBlockSearch.Result result = RingBlockSearch.findNearest(level, center, 6, -2, 4,
+            budget, (pos, state) -> state.is(Blocks.SPONGE));
+
+        BlockPos expected = center.offset(3, 3, 3);
+        if (!result.exhausted() || result.visited() != budget) {
+            helper.fail("Ring search did not spend its budget. Result: " + result);
+        } else if (!expected.equals(result.pos())) {
+            helper.fail("Ring search returned " + result.pos() + ", expected partial result " + expected);
+        } else {
+            helper.succeed();
+        }
+    }
+
+    /**
+     * Test that a ring search stops after the first shells when a match is adjacent.
+     * Expected: Adjacent match found after at most the 27 positions of shells 0-1.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 100)
+    public void testRingSearchStopsEarlyForAdjacentMatch(GameTestHelper helper) {
+        placeSponges(helper);
+        helper.setBlock(SEARCH_CENTER.offset(1, 0, 0), Blocks.SPONGE);
+        ServerLevel level = helper.getLevel();
+        BlockPos center = helper.absolutePos(SEARCH_CENTER);
+
+        RingBlockSearch.Result result = RingBlockSearch.findNearest(level, center, 6, -2, 4,
+            4096, (pos, state) -> state.is(Blocks.SPONGE));
+
+        if (result.exhausted() || !center.offset(1, 0, 0).equals(result.pos())) {
+            helper.fail("Ring search did not find the adjacent match. Result: " + result);
+        } else if (result.visited() > 27) {
+            helper.fail("Ring search visited " + result.visited() + " positions for an adjacent match");
+        } else {
+            helper.succeed();
+        }
+    }
+
+    /**
+     * Test that the section search visits every match in a box spanning several chunks and sections.
+     * Expected: Visited positions equal the matches of a full scan of the box.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 100)
+    public void testSectionSearchFindsAllMatches(GameTestHelper helper) {
+        placeSponges(helper);
+        // Box corners and a block just outside the box
+        helper.setBlock(SEARCH_CENTER.offset(-10, -3, -10), Blocks.SPONGE);
+        helper.setBlock(SEARCH_CENTER.offset(10, 13, 10), Blocks.SPONGE);
+        helper.setBlock(SEARCH_CENTER.offset(11, 0, 0), Blocks.SPONGE);
+
+        ServerLevel level = helper.getLevel();
+        BlockPos center = helper.absolutePos(SEARCH_CENTER);
+
+        Set<BlockPos> found = new HashSet<>();
+        SectionBlockSearch.forEachMatch(level, center, -10, -3, -10, 10, 13, 10,
+            state -> state.is(Blocks.SPONGE), (pos, state) -> found.add(pos.immutable()));
+
+        Set<BlockPos> expected = new HashSet<>();
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-10, -3, -10), center.offset(10, 13, 10))) {
+            BlockState state = level.getBlockState(pos);
+            if (state.is(Blocks.SPONGE)) {
+                expected.add(pos.immutable());
+            }
+        }
+
+        if (expected.size() != SPONGE_OFFSETS.length + 2) {
+            helper.fail("Expected " + (SPONGE_OFFSETS.length + 2) + " sponges in the box, brute force found " + expected.size());
+        } else if (!found.equals(expected)) {
+            helper.fail("Section search found " + found + ", brute force found " + expected);
+        } else {
+            helper.succeed();
+        }
+    }
+
+    private static void placeSponges(GameTestHelper helper) {
+        for (int[] offset : SPONGE_OFFSETS) {
+            helper.setBlock(SEARCH_CENTER.offset(offset[0], offset[1], offset[2]), Blocks.SPONGE);
+        }
+    }
+}
@@ -2,11 +2,16 @@ package me.javavirtualenv.gametest;
 
 import me.javavirtualenv.behavior.core.AnimalNeeds;
 import me.javavirtualenv.behavior.core.AnimalThresholds;
+import me.javavirtualenv.behavior.core.PackRegistry;
 import me.javavirtualenv.behavior.core.WolfPackData;
 import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
 import net.minecraft.gametest.framework.GameTest;
 import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.animal.Sheep;
@@ -16,6 +21,10 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.Blocks;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Game tests for wolf-specific behaviors including:
  * - Pack data initialization
@@ -452,6 +461,58 @@ public class WolfBehaviorTests implements FabricGameTest {
         });
     }
 
+    /**
+     * Test that a pack's ranks and hunt target survive saving and reloading the pack registry.
+     * Expected: The saved pack lists both wolves with their ranks and the sheep as hunt target,
+     * and a registry loaded from it saves the same data again.
+     */
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 100)
+    public void testPackRegistrySurvivesSaveAndLoad(GameTestHelper helper) {
+        Wolf alpha = helper.spawn(EntityType.WOLF, new BlockPos(5, 2, 5));
+        Wolf omega = helper.spawn(EntityType.WOLF, new BlockPos(7, 2, 5));
+        Sheep sheep = helper.spawn(EntityType.SHEEP, new BlockPos(9, 2, 5));
+
+        WolfPackData.joinPackOf(omega, alpha);
+        PackRegistry.setHuntTarget(alpha, sheep);
+
+        helper.runAfterDelay(10, () -> {
+            HolderLookup.Provider registries = helper.getLevel().registryAccess();
+            CompoundTag saved = PackRegistry.get(helper.getLevel()).save(new CompoundTag(), registries);
+            CompoundTag resaved = PackRegistry.load(saved, registries).save(new CompoundTag(), registries);
+            if (!saved.equals(resaved)) {
+                helper.fail("Reloaded pack registry saved different data:\n" + saved + "\n" + resaved);
+                return;
+            }
+
+            UUID packId = WolfPackData.getPackData(alpha).packId();
+            ListTag packs = resaved.getList("packs", Tag.TAG_COMPOUND);
+            for (int i = 0; i < packs.size(); i++) {
+                CompoundTag pack = packs.getCompound(i);
+                if (!pack.getUUID("pack_id").equals(packId)) {
+                    continue;
+                }
+
+                Map<UUID, String> ranks = new HashMap<>();
+                ListTag members = pack.getList("members", Tag.TAG_COMPOUND);
+                for (int j = 0; j < members.size(); j++) {
+                    ranks.put(members.getCompound(j).getUUID("uuid"), members.getCompound(j).getString("rank"));
+                }
+                boolean ranksKept = ranks.size() == 2
+                    && "ALPHA".equals(ranks.get(alpha.getUUID()))
+                    && "OMEGA".equals(ranks.get(omega.getUUID()));
+                boolean targetKept = pack.hasUUID("hunt_target") && pack.getUUID("hunt_target").equals(sheep.getUUID());
+
+                if (ranksKept && targetKept) {
+                    helper.succeed();
+                } else {
+                    helper.fail("Pack not restored. Ranks: " + ranks + ", hunt target kept: " + targetKept);
+                }
+                return;
+            }
+            helper.fail("Pack " + packId + " missing from saved registry");
+        });
+    }
+
     /**
      * Helper method to calculate angle from wolf to target.
      */